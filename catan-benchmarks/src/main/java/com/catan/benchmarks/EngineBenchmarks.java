@@ -0,0 +1,185 @@
+package com.catan.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.catan.model.AuthenticCatanBoard;
+import com.catan.model.BoardTopology;
+import com.catan.model.CatanGame;
+import com.catan.model.EdgeCoordinate;
+import com.catan.model.GameAction;
+import com.catan.model.GameState;
+import com.catan.model.HexCoordinate;
+import com.catan.model.Player;
+import com.catan.model.ResourceVector;
+import com.catan.model.VertexCoordinate;
+
+/**
+ * Regelprüfungen und Ertragsverteilung auf Boards verschiedener Füllstände.
+ * Jede Methode arbeitet über alle Vertices, Edges bzw. Würfelzahlen, damit ein Aufruf einer
+ * vollständigen Abfrage durch Renderer oder Bot entspricht.
+ * Benchmarks, die die Partie verändern, arbeiten auf einer Kopie pro Iteration ({@link FreshGame}) und machen
+ * ihre Änderungen selbst rückgängig.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class EngineBenchmarks {
+
+    @Param({ "EMPTY", "MID", "LATE" })
+    public FillLevel fill;
+
+    private CatanGame game;
+    private AuthenticCatanBoard board;
+    private BoardTopology topology;
+    private VertexCoordinate[] vertices;
+    private EdgeCoordinate[] edges;
+    private HexCoordinate[] robberTargets;
+    private int robberToggle;
+
+    @Setup
+    public void setUp() {
+        game = fill.createGame();
+        board = game.getBoard();
+        topology = board.getTopology();
+        vertices = new VertexCoordinate[topology.getVertexCount()];
+        for (int v = 0; v < vertices.length; v++) {
+            vertices[v] = topology.getVertex(v);
+        }
+        edges = new EdgeCoordinate[topology.getEdgeCount()];
+        for (int e = 0; e < edges.length; e++) {
+            edges[e] = topology.getEdge(e);
+        }
+        // Zwei Felder abseits des aktuellen Räuberfelds zum Hin- und Herschieben
+        long mask = game.getLegalMoves().getRobberMask();
+        int first = Long.numberOfTrailingZeros(mask);
+        int second = Long.numberOfTrailingZeros(mask & (mask - 1));
+        robberTargets = new HexCoordinate[] { topology.getHex(first), topology.getHex(second) };
+    }
+
+    @Benchmark
+    public int canPlaceRoad() {
+        Player player = game.getCurrentPlayer();
+        int legal = 0;
+        for (EdgeCoordinate edge : edges) {
+            if (game.canPlaceRoad(edge, player)) {
+                legal++;
+            }
+        }
+        return legal;
+    }
+
+    @Benchmark
+    public int canPlaceSettlement() {
+        Player player = game.getCurrentPlayer();
+        boolean beginning = game.isBeginning();
+        int legal = 0;
+        for (VertexCoordinate vertex : vertices) {
+            if (game.canPlaceSettlement(vertex, player, beginning)) {
+                legal++;
+            }
+        }
+        return legal;
+    }
+
+    /**
+     * Verteilt alle Würfelzahlen außer 7 und zieht den bekannten Ertrag danach wieder ab,
+     * so dass jeder Aufruf auf denselben Händen arbeitet.
+     */
+    @Benchmark
+    public void ingameResourceDistribution(FreshGame fresh) {
+        CatanGame game = fresh.game;
+        for (int roll = 2; roll <= 12; roll++) {
+            if (roll != 7) {
+                game.ingameResourceDistribution(roll);
+            }
+        }
+        for (int seat = 0; seat < fresh.income.length; seat++) {
+            game.getPlayers().get(seat).removeResource(fresh.income[seat]);
+        }
+    }
+
+    @Benchmark
+    public void getAdjacentVertices(Blackhole blackhole) {
+        for (VertexCoordinate vertex : vertices) {
+            blackhole.consume(vertex.getAdjacentVertices(AuthenticCatanBoard.getHexRadius(),
+                AuthenticCatanBoard.getBoardCenterX(), AuthenticCatanBoard.getBoardCenterY(),
+                board.getNormalizedCatanCoordMap(), board.getValidVertices()));
+        }
+    }
+
+    /**
+     * Versetzt den Räuber abwechselnd auf zwei Felder und gibt die gestohlene Karte zurück,
+     * damit die Hände über die Iteration gleich bleiben.
+     */
+    @Benchmark
+    public void moveRobber(FreshGame fresh) {
+        CatanGame game = fresh.game;
+        robberToggle ^= 1;
+        game.moveRobber(robberTargets[robberToggle]);
+        GameAction.MoveRobber move = (GameAction.MoveRobber) game.getActionLog().get(game.getActionLog().size() - 1);
+        if (move.stolen() != null) {
+            game.getPlayers().get(move.seat()).removeResource(move.stolen(), 1);
+            game.getPlayers().get(move.victimSeat()).addResource(move.stolen(), 1);
+        }
+    }
+
+    /**
+     * Kopie der Benchmark-Partie für Benchmarks, die sie verändern. Sie wird pro Iteration aus einer
+     * Momentaufnahme neu hergestellt; innerhalb der Iteration machen die Benchmarks ihre Änderungen
+     * selbst rückgängig. Pro Aufruf wäre die Einrichtung bei Nanosekunden-Messungen zu ungenau.
+     */
+    @State(Scope.Thread)
+    public static class FreshGame {
+
+        private List<String> names;
+        private GameState template;
+        CatanGame game;
+        ResourceVector[] income; // Ertrag aller Würfelzahlen außer 7 pro Sitzplatz
+
+        @Setup(Level.Trial)
+        public void prepare(EngineBenchmarks benchmarks) {
+            names = benchmarks.game.getPlayers().stream().map(Player::getName).collect(Collectors.toList());
+            template = benchmarks.game.snapshot();
+        }
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            game = CatanGame.restore(names, FillLevel.SEED, template);
+            // Ertrag einmal messen; er hängt nur von Gebäuden und Räuber ab, die sich nicht ändern
+            income = new ResourceVector[game.getPlayers().size()];
+            for (int seat = 0; seat < income.length; seat++) {
+                income[seat] = game.getPlayers().get(seat).getResourceVector().copy();
+            }
+            for (int roll = 2; roll <= 12; roll++) {
+                if (roll != 7) {
+                    game.ingameResourceDistribution(roll);
+                }
+            }
+            for (int seat = 0; seat < income.length; seat++) {
+                ResourceVector after = game.getPlayers().get(seat).getResourceVector().copy();
+                after.subtract(income[seat]);
+                income[seat] = after;
+                game.getPlayers().get(seat).removeResource(after);
+            }
+        }
+    }
+}
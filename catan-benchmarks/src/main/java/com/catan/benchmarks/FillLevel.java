@@ -0,0 +1,56 @@
+package com.catan.benchmarks;
+
+import java.util.List;
+import java.util.SplittableRandom;
+
+import com.catan.model.CatanGame;
+import com.catan.model.Player;
+import com.catan.sim.GameRunner;
+import com.catan.sim.GreedyBot;
+import com.catan.sim.SimulationBot;
+
+/**
+ * Füllstand des Boards, auf dem die Benchmarks laufen.
+ * Die Stände werden deterministisch mit Greedy-Bots aus einem festen Seed erspielt.
+ */
+public enum FillLevel {
+    EMPTY,  // Frisches Board in der Aufbauphase
+    MID,    // Nach der Aufbauphase und einigen Runden
+    LATE;   // Kurz vor Spielende
+
+    static final long SEED = 20240601L;
+    static final int MID_TURNS = 40;
+    static final int LATE_TURN_LIMIT = 400;
+
+    /**
+     * @return Partie mit vier Spielern auf diesem Füllstand
+     */
+    CatanGame createGame() {
+        CatanGame game = new CatanGame(List.of("A", "B", "C", "D"), SEED);
+        if (this == EMPTY) {
+            return game;
+        }
+
+        SimulationBot[] bots = { new GreedyBot(), new GreedyBot(), new GreedyBot(), new GreedyBot() };
+        GameRunner runner = new GameRunner(game, bots, new SplittableRandom(SEED), LATE_TURN_LIMIT);
+        runner.playSetup();
+        for (int turn = 0; turn < LATE_TURN_LIMIT && !game.isGameFinished(); turn++) {
+            if (this == MID && turn >= MID_TURNS) {
+                break;
+            }
+            if (this == LATE && leaderPoints(game) >= CatanGame.VICTORY_POINTS_TO_WIN - 1) {
+                break;
+            }
+            runner.playTurn();
+        }
+        return game;
+    }
+
+    private static int leaderPoints(CatanGame game) {
+        int max = 0;
+        for (Player player : game.getPlayers()) {
+            max = Math.max(max, player.getVictoryPoints());
+        }
+        return max;
+    }
+}
@@ -0,0 +1,46 @@
+package com.catan.benchmarks;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.catan.sim.GameResult;
+import com.catan.sim.GameSimulator;
+import com.catan.sim.GreedyBot;
+
+/**
+ * Eine vollständige Partie mit vier Greedy-Bots auf einem Thread.
+ * Jeder Aufruf nutzt einen neuen Seed, gemessen wird also der Durchschnitt über viele Boards.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class SimulationBenchmarks {
+
+    private GameSimulator simulator;
+    private long seed;
+
+    @Setup
+    public void setUp() {
+        simulator = new GameSimulator(List.of(GreedyBot::new, GreedyBot::new, GreedyBot::new, GreedyBot::new));
+    }
+
+    @Benchmark
+    public GameResult fullGame() {
+        seed++;
+        return simulator.playGame(seed, ~seed);
+    }
+}
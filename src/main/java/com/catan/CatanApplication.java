@@ -3,6 +3,8 @@ package com.catan;
 import java.io.IOException;
 
 import com.catan.controller.MainController;
+import com.catan.util.Diagnostics;
+import com.catan.view.AssetCache;
 
 import javafx.application.Application;
 import javafx.fxml.FXMLLoader;
@@ -15,13 +17,15 @@ import javafx.stage.Stage;
  */
 public class CatanApplication extends Application {
     
+    private static final String LOG = "CatanApplication"; // Quelle für Diagnose-Ausgaben
     private static final String TITLE = "CATAN - Das Spiel";
     private static final int WINDOW_WIDTH = 950; //1200 davor
     private static final int WINDOW_HEIGHT = 650; // 800 davor
     
     @Override
     public void start(Stage stage) throws IOException {
-    	System.out.println("FXML resource: " + CatanApplication.class.getResource("/main-view.fxml"));
+        Diagnostics.debug(LOG, () -> "FXML resource: " + CatanApplication.class.getResource("/main-view.fxml"));
+        AssetCache.preload(); // Bilder einmalig dekodieren
         FXMLLoader fxmlLoader = new FXMLLoader(CatanApplication.class.getResource("/main-view.fxml"));
 
         
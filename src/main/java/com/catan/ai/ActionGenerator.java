@@ -0,0 +1,97 @@
+package com.catan.ai;
+
+import java.util.List;
+
+import com.catan.model.BoardTopology;
+import com.catan.model.GameAction;
+import com.catan.model.GameState;
+import com.catan.model.Player;
+import com.catan.model.PlayerState;
+import com.catan.model.ResourceType;
+
+/**
+ * Zählt die Züge auf, zwischen denen der Spieler am Zug in einem {@link GameState} wählen kann.
+ * Zufallsereignisse (Würfeln, Abwerfen, die gestohlene Karte) sind keine Entscheidungen und werden
+ * von {@link Playout} aufgelöst; Räuberzüge tragen deshalb nur Feld und Opfer, nie die Karte.
+ */
+public final class ActionGenerator {
+
+    private static final ResourceType[] RESOURCES = ResourceType.values();
+
+    private ActionGenerator() {
+    }
+
+    /**
+     * Hängt alle Entscheidungszüge an out an.
+     * Leer bleibt die Liste bei beendeten Partien und solange noch gewürfelt oder abgeworfen werden muss.
+     */
+    public static void collect(GameState state, List<GameAction> out) {
+        if (state.isFinished()) {
+            return;
+        }
+        int seat = state.currentSeat();
+        PlayerState player = state.currentPlayer();
+
+        if (state.isBeginning()) {
+            int required = state.setupPiecesRequired();
+            if (Long.bitCount(state.occupancy().getBuildings(seat)) < required && player.settlementsLeft() > 0) {
+                for (long mask = state.settlementMask(seat); mask != 0; mask &= mask - 1) {
+                    out.add(new GameAction.PlaceSettlement(seat, Long.numberOfTrailingZeros(mask)));
+                }
+            } else if (state.occupancy().getRoadCount(seat) < required && player.roadsLeft() > 0) {
+                addRoads(state, seat, out);
+            } else {
+                out.add(new GameAction.EndTurn(seat));
+            }
+            return;
+        }
+        if (!state.rolled() || state.discardMask() != 0) {
+            return;
+        }
+        if (state.robberPending()) {
+            for (long hexes = state.robberMask(); hexes != 0; hexes &= hexes - 1) {
+                int hex = Long.numberOfTrailingZeros(hexes);
+                int victims = state.stealCandidates(seat, hex);
+                if (victims == 0) {
+                    out.add(new GameAction.MoveRobber(seat, hex, -1, null));
+                }
+                for (; victims != 0; victims &= victims - 1) {
+                    out.add(new GameAction.MoveRobber(seat, hex, Integer.numberOfTrailingZeros(victims), null));
+                }
+            }
+            return;
+        }
+
+        if (player.citiesLeft() > 0 && player.resources().covers(Player.CITY_COST)) {
+            for (long mask = state.cityMask(seat); mask != 0; mask &= mask - 1) {
+                out.add(new GameAction.PlaceCity(seat, Long.numberOfTrailingZeros(mask)));
+            }
+        }
+        if (player.settlementsLeft() > 0 && player.resources().covers(Player.SETTLEMENT_COST)) {
+            for (long mask = state.settlementMask(seat); mask != 0; mask &= mask - 1) {
+                out.add(new GameAction.PlaceSettlement(seat, Long.numberOfTrailingZeros(mask)));
+            }
+        }
+        if (player.roadsLeft() > 0 && player.resources().covers(Player.ROAD_COST)) {
+            addRoads(state, seat, out);
+        }
+        for (ResourceType give : RESOURCES) {
+            if (player.resources().get(give) >= GameState.BANK_TRADE_RATIO) {
+                for (ResourceType receive : RESOURCES) {
+                    if (receive != give) {
+                        out.add(new GameAction.BankTrade(seat, give, receive));
+                    }
+                }
+            }
+        }
+        out.add(new GameAction.EndTurn(seat));
+    }
+
+    private static void addRoads(GameState state, int seat, List<GameAction> out) {
+        for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+            for (long mask = state.roadMask(seat, word); mask != 0; mask &= mask - 1) {
+                out.add(new GameAction.PlaceRoad(seat, word * Long.SIZE + Long.numberOfTrailingZeros(mask)));
+            }
+        }
+    }
+}
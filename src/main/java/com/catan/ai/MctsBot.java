@@ -0,0 +1,279 @@
+package com.catan.ai;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.random.RandomGenerator;
+
+import com.catan.model.CatanGame;
+import com.catan.model.GameAction;
+import com.catan.model.GameState;
+import com.catan.model.Player;
+import com.catan.sim.Move;
+import com.catan.sim.SimulationBot;
+import com.catan.util.Diagnostics;
+
+/**
+ * Computergegner mit Monte-Carlo-Baumsuche (UCT) über die Entscheidungszüge aus {@link ActionGenerator}.
+ * Pro Zug wird bis zum Ablauf des Zeitbudgets gesucht. Mehrere Threads teilen sich einen Baum;
+ * ein virtueller Verlust auf den gerade durchlaufenen Knoten verteilt sie auf verschiedene Pfade.
+ * Die Suche arbeitet auf unveränderlichen {@link GameState}s und verändert die laufende Partie nie.
+ * Als {@link SimulationBot} ist eine Instanz an einen Sitzplatz einer Partie gebunden.
+ */
+public class MctsBot implements SimulationBot {
+
+    private static final String LOG = "MctsBot"; // Quelle für Diagnose-Ausgaben
+    public static final int DEFAULT_ROLLOUT_TURNS = 200;   // Zuglimit einer einzelnen Simulation
+    private static final double EXPLORATION = 0.7;         // UCT-Konstante für Ergebnisse in [0, 1]
+    private static final int VIRTUAL_LOSS = 3;             // Besuche, die ein laufender Durchlauf vorab zählt
+
+    private final long budgetNanos;
+    private final int threads;
+    private final ExecutorService workers;
+    private final int rolloutTurns;
+    private final SplittableRandom seeds;
+    private long lastPlayouts;
+    private GameAction.MoveRobber pendingRobber; // Gewähltes Opfer für chooseStealTarget
+
+    /**
+     * @param budget Bedenkzeit pro Entscheidung
+     * @param threads Anzahl paralleler Such-Threads einschließlich des aufrufenden
+     * @param workers Executor für die zusätzlichen Such-Threads, darf nicht der Executor des Aufrufers sein
+     * @param seed Startwert für Würfel und Strategie in den Simulationen
+     */
+    public MctsBot(Duration budget, int threads, ExecutorService workers, long seed) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Mindestens ein Such-Thread erforderlich");
+        }
+        this.budgetNanos = budget.toNanos();
+        this.threads = threads;
+        this.workers = workers;
+        this.rolloutTurns = DEFAULT_ROLLOUT_TURNS;
+        this.seeds = new SplittableRandom(seed);
+    }
+
+    /**
+     * Sucht mit allen Prozessorkernen auf einem gemeinsamen Daemon-Pool.
+     */
+    public MctsBot(Duration budget) {
+        this(budget, Runtime.getRuntime().availableProcessors(), SharedWorkers.INSTANCE,
+            new SplittableRandom().nextLong());
+    }
+
+    // Lazy erzeugter Pool, der die JVM nicht am Beenden hindert
+    private static final class SharedWorkers {
+        static final ExecutorService INSTANCE = Executors.newFixedThreadPool(
+            Runtime.getRuntime().availableProcessors(), runnable -> {
+                Thread thread = new Thread(runnable, "mcts-worker");
+                thread.setDaemon(true);
+                return thread;
+            });
+    }
+
+    /**
+     * @return Anzahl der Simulationen bei der letzten Entscheidung
+     */
+    public long getLastPlayouts() {
+        return lastPlayouts;
+    }
+
+    // === SUCHE ===
+
+    /**
+     * Wählt den Zug für den Spieler am Zug. Der Zustand muss an einem Entscheidungspunkt stehen
+     * (Aufbau, Räuber versetzen oder Bauphase nach dem Würfeln).
+     * Räuberzüge enthalten das Opfer, die gestohlene Karte bestimmt die Partie.
+     * @throws IllegalStateException wenn im Zustand keine Entscheidung ansteht
+     */
+    public GameAction chooseAction(GameState state) {
+        List<GameAction> legal = new ArrayList<>();
+        ActionGenerator.collect(state, legal);
+        if (legal.isEmpty()) {
+            throw new IllegalStateException("Keine Entscheidung in Phase " + state.phase());
+        }
+        if (legal.size() == 1) {
+            lastPlayouts = 0;
+            return legal.get(0);
+        }
+
+        SearchNode root = new SearchNode(null, -1);
+        long deadline = System.nanoTime() + budgetNanos;
+        AtomicLong playouts = new AtomicLong();
+        List<Future<?>> helpers = new ArrayList<>();
+        for (int i = 1; i < threads; i++) {
+            Playout playout = new Playout(seeds.split());
+            helpers.add(workers.submit(() -> search(root, state, playout, deadline, playouts)));
+        }
+        search(root, state, new Playout(seeds.split()), deadline, playouts);
+        for (Future<?> helper : helpers) {
+            try {
+                helper.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Such-Thread fehlgeschlagen", e.getCause());
+            }
+        }
+        lastPlayouts = playouts.get();
+
+        SearchNode best = null;
+        for (SearchNode child : root.getChildren()) {
+            if (best == null || child.getVisits() > best.getVisits()) {
+                best = child;
+            }
+        }
+        Diagnostics.debug(LOG, () -> "Sitzplatz " + state.currentSeat() + ": " + lastPlayouts + " Simulationen in "
+            + budgetNanos / 1_000_000 + " ms, Wahl " + root.getChildren().length + " Züge");
+        return best == null ? legal.get(0) : best.action;
+    }
+
+    private void search(SearchNode root, GameState rootState, Playout playout, long deadline, AtomicLong playouts) {
+        List<GameAction> legal = new ArrayList<>();
+        List<SearchNode> path = new ArrayList<>();
+        long count = 0;
+        while (System.nanoTime() < deadline) {
+            iterate(root, rootState, playout, legal, path);
+            count++;
+        }
+        playouts.addAndGet(count);
+    }
+
+    // Auswahl, Erweiterung, Simulation und Rückpropagierung eines Durchlaufs
+    private void iterate(SearchNode root, GameState state, Playout playout, List<GameAction> legal, List<SearchNode> path) {
+        path.clear();
+        path.add(root);
+        root.addVirtualLoss(VIRTUAL_LOSS);
+        SearchNode node = root;
+
+        while (!state.isFinished()) {
+            state = playout.resolveChance(state);
+            legal.clear();
+            ActionGenerator.collect(state, legal);
+            if (legal.isEmpty()) {
+                break;
+            }
+            SearchNode[] children = node.getChildren();
+            GameAction untried = untried(legal, children, playout);
+            SearchNode next = untried != null
+                ? node.addChild(untried, state.currentSeat())
+                : select(node, children, legal);
+            next.addVirtualLoss(VIRTUAL_LOSS);
+            path.add(next);
+            state = playout.apply(state, next.action);
+            node = next;
+            if (untried != null) {
+                break;
+            }
+        }
+
+        double[] rewards = playout.rollout(state, rolloutTurns);
+        for (SearchNode visited : path) {
+            visited.update(visited.seat < 0 ? 0.0 : rewards[visited.seat], VIRTUAL_LOSS);
+        }
+    }
+
+    // Zufälliger legaler Zug ohne Kindknoten, null wenn alle schon erweitert sind
+    private static GameAction untried(List<GameAction> legal, SearchNode[] children, Playout playout) {
+        int offset = playout.nextInt(legal.size());
+        for (int i = 0; i < legal.size(); i++) {
+            GameAction action = legal.get((offset + i) % legal.size());
+            if (find(children, action) == null) {
+                return action;
+            }
+        }
+        return null;
+    }
+
+    // UCT über die Kinder, deren Zug im aktuellen Zustand legal ist
+    private static SearchNode select(SearchNode node, SearchNode[] children, List<GameAction> legal) {
+        double logParent = Math.log(Math.max(1, node.getVisits()));
+        SearchNode best = null;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (GameAction action : legal) {
+            SearchNode child = find(children, action);
+            int visits = child.getVisits();
+            double score = visits == 0 ? Double.POSITIVE_INFINITY
+                : child.getMeanReward() + EXPLORATION * Math.sqrt(logParent / visits);
+            if (score > bestScore) {
+                bestScore = score;
+                best = child;
+            }
+        }
+        return best;
+    }
+
+    private static SearchNode find(SearchNode[] children, GameAction action) {
+        for (SearchNode child : children) {
+            if (child.action.equals(action)) {
+                return child;
+            }
+        }
+        return null;
+    }
+
+    // === SIMULATION ===
+
+    @Override
+    public Move chooseMove(CatanGame game, Player player, List<Move> moves, RandomGenerator random) {
+        GameAction action = chooseAction(game.snapshot());
+        Move move = toMove(action);
+        return moves.contains(move) ? move : moves.get(moves.size() - 1);
+    }
+
+    @Override
+    public int chooseRobberHex(CatanGame game, Player player, long candidates, RandomGenerator random) {
+        pendingRobber = (GameAction.MoveRobber) chooseAction(game.snapshot());
+        return pendingRobber.hex();
+    }
+
+    @Override
+    public Player chooseStealTarget(CatanGame game, Player thief, List<Player> candidates, RandomGenerator random) {
+        return chooseVictim(game, candidates);
+    }
+
+    /**
+     * Liefert das bei der letzten Räuberentscheidung gewählte Opfer, sofern es unter den Kandidaten ist.
+     */
+    public Player chooseVictim(CatanGame game, List<Player> candidates) {
+        GameAction.MoveRobber robber = pendingRobber;
+        pendingRobber = null;
+        if (robber != null && robber.victimSeat() >= 0) {
+            Player victim = game.getPlayers().get(robber.victimSeat());
+            if (candidates.contains(victim)) {
+                return victim;
+            }
+        }
+        return candidates.get(0);
+    }
+
+    /**
+     * Merkt sich einen Räuberzug, dessen Opfer danach über {@link #chooseVictim} abgefragt wird.
+     */
+    public void setPendingRobber(GameAction.MoveRobber robber) {
+        this.pendingRobber = robber;
+    }
+
+    private static Move toMove(GameAction action) {
+        if (action instanceof GameAction.PlaceSettlement) {
+            return Move.settlement(((GameAction.PlaceSettlement) action).vertex());
+        }
+        if (action instanceof GameAction.PlaceCity) {
+            return Move.city(((GameAction.PlaceCity) action).vertex());
+        }
+        if (action instanceof GameAction.PlaceRoad) {
+            return Move.road(((GameAction.PlaceRoad) action).edge());
+        }
+        if (action instanceof GameAction.BankTrade) {
+            GameAction.BankTrade trade = (GameAction.BankTrade) action;
+            return Move.bankTrade(trade.give(), trade.receive());
+        }
+        return Move.END_TURN;
+    }
+}
@@ -0,0 +1,131 @@
+package com.catan.ai;
+
+import java.util.Arrays;
+
+import com.catan.model.BoardLayout;
+import com.catan.model.BoardTopology;
+import com.catan.model.ResourceType;
+import com.catan.model.ResourceVector;
+
+/**
+ * Heuristische Bewertung der Siedlungsplätze für die Aufbauphase.
+ * Ein Vertex zählt die Wahrscheinlichkeit (Pips) der Zahlenchips seiner Hexfelder, gewichtet nach der
+ * Knappheit der Ressource auf diesem Board, plus einen Bonus für verschiedene Ressourcen.
+ * Die Tabelle wird einmal pro Board berechnet und zusätzlich absteigend sortiert, so dass der beste freie
+ * Platz meist nach wenigen Schritten feststeht. Die Tabelle selbst ist unveränderlich; welche Plätze noch frei sind
+ * (Gebäude und Distanzregel), gibt der Aufrufer als Bitmaske vor, z.B. {@link com.catan.model.GameState#settlementMask}.
+ * Abfragen erzeugen keine Objekte und brauchen Nanosekunden, auch innerhalb von Simulationen.
+ */
+public final class OpeningEvaluator {
+
+    private static final int[] PIPS = {0, 0, 1, 2, 3, 4, 5, 0, 5, 4, 3, 2, 1}; // Kombinationen pro Würfelsumme
+    private static final double DIVERSITY_BONUS = 1.0;    // Pro zusätzlicher Ressource am Vertex
+    private static final double NEW_RESOURCE_BONUS = 1.5; // Pro Ressource, die der Spieler noch nicht erhält
+
+    private final BoardLayout layout;
+    private final double[] scores;        // Bewertung pro Vertex-Id
+    private final int[] resourceMasks;    // Bit pro Ressource (Ordinal), die der Vertex erhält
+    private final int[] order;            // Vertex-Ids nach absteigender Bewertung
+
+    /**
+     * Berechnet die Bewertungstabelle für ein Board ohne Gebäude.
+     */
+    public OpeningEvaluator(BoardLayout layout) {
+        this.layout = layout;
+        BoardTopology topology = layout.getTopology();
+        int vertexCount = topology.getVertexCount();
+        this.scores = new double[vertexCount];
+        this.resourceMasks = new int[vertexCount];
+
+        // Knappheit: Ressourcen mit wenigen Pips auf dem Board zählen mehr
+        double[] boardPips = new double[ResourceVector.SIZE];
+        for (int hex = 0; hex < topology.getHexCount(); hex++) {
+            ResourceType resource = layout.getResource(hex);
+            if (resource != null) {
+                boardPips[resource.ordinal()] += PIPS[layout.getNumber(hex)];
+            }
+        }
+        double meanPips = Arrays.stream(boardPips).sum() / ResourceVector.SIZE;
+        double[] scarcity = new double[ResourceVector.SIZE];
+        for (int r = 0; r < scarcity.length; r++) {
+            scarcity[r] = boardPips[r] == 0 ? 0.0 : meanPips / boardPips[r];
+        }
+
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            double score = 0.0;
+            int mask = 0;
+            for (int slot = 0; slot < BoardTopology.MAX_VERTEX_HEXES; slot++) {
+                int hex = topology.getVertexHex(vertex, slot);
+                if (hex < 0) {
+                    break;
+                }
+                ResourceType resource = layout.getResource(hex);
+                if (resource != null) {
+                    score += PIPS[layout.getNumber(hex)] * scarcity[resource.ordinal()];
+                    mask |= 1 << resource.ordinal();
+                }
+            }
+            scores[vertex] = score + DIVERSITY_BONUS * Math.max(0, Integer.bitCount(mask) - 1);
+            resourceMasks[vertex] = mask;
+        }
+
+        this.order = new int[vertexCount];
+        Integer[] sorted = new Integer[vertexCount];
+        for (int vertex = 0; vertex < vertexCount; vertex++) {
+            sorted[vertex] = vertex;
+        }
+        Arrays.sort(sorted, (a, b) -> Double.compare(scores[b], scores[a]));
+        for (int i = 0; i < vertexCount; i++) {
+            order[i] = sorted[i];
+        }
+    }
+
+    public BoardLayout getLayout() {
+        return layout;
+    }
+
+    // === ABFRAGEN ===
+
+    public double getScore(int vertex) {
+        return scores[vertex];
+    }
+
+    /**
+     * @return Bit pro Ressourcen-Ordinal, die ein Gebäude am Vertex erhält
+     */
+    public int getResourceMask(int vertex) {
+        return resourceMasks[vertex];
+    }
+
+    /**
+     * @param candidates Erlaubte Vertices, z.B. {@link com.catan.model.GameState#settlementMask}
+     * @return Bester Vertex aus candidates oder -1
+     */
+    public int bestVertex(long candidates) {
+        for (int vertex : order) {
+            if ((candidates & (1L << vertex)) != 0) {
+                return vertex;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Wie {@link #bestVertex(long)}, bevorzugt aber Ressourcen, die der Spieler noch nicht erhält
+     * (zweite Siedlung der Aufbauphase).
+     * @param ownedResources Bit pro Ressourcen-Ordinal, die der Spieler bereits erhält
+     */
+    public int bestVertex(long candidates, int ownedResources) {
+        int best = -1;
+        double bestScore = Double.NEGATIVE_INFINITY;
+        for (long mask = candidates; mask != 0; mask &= mask - 1) {
+            int vertex = Long.numberOfTrailingZeros(mask);
+            double score = scores[vertex] + NEW_RESOURCE_BONUS * Integer.bitCount(resourceMasks[vertex] & ~ownedResources);
+            if (score > bestScore) {
+                bestScore = score;
+                best = vertex;
+            }
+        }
+        return best;
+    }
+}
@@ -0,0 +1,218 @@
+package com.catan.ai;
+
+import java.util.random.RandomGenerator;
+
+import com.catan.model.BoardTopology;
+import com.catan.model.CatanGame;
+import com.catan.model.GameAction;
+import com.catan.model.GameState;
+import com.catan.model.Player;
+import com.catan.model.PlayerState;
+import com.catan.model.ResourceType;
+import com.catan.model.ResourceVector;
+
+/**
+ * Löst Zufallsereignisse auf und spielt Partien mit einer schnellen Standardstrategie zu Ende.
+ * Die Strategie setzt im Aufbau meist den besten Platz laut {@link OpeningEvaluator}, baut danach Städte
+ * vor Siedlungen, tauscht gezielt mit der Bank und baut Straßen nur, wenn kein Siedlungsplatz erreichbar ist. Eine Instanz gehört zu genau einem Such-Thread.
+ */
+final class Playout {
+
+    private static final ResourceType[] RESOURCES = ResourceType.values();
+    private static final double RANDOM_OPENING = 0.2; // Anteil zufälliger Siedlungen im Aufbau, für Vielfalt
+
+    private final RandomGenerator random;
+    private OpeningEvaluator openings; // Bewertung der Siedlungsplätze für das zuletzt gespielte Board
+
+    Playout(RandomGenerator random) {
+        this.random = random;
+    }
+
+    /**
+     * Würfelt und wirft zufällig ab, bis der Spieler am Zug entscheiden muss oder die Partie endet.
+     */
+    GameState resolveChance(GameState state) {
+        if (state.isFinished() || state.isBeginning()) {
+            return state;
+        }
+        if (!state.rolled()) {
+            state = state.apply(new GameAction.RollDice(state.currentSeat(), random.nextInt(6) + 1, random.nextInt(6) + 1));
+        }
+        for (int mask = state.discardMask(); mask != 0; mask &= mask - 1) {
+            int seat = Integer.numberOfTrailingZeros(mask);
+            state = state.apply(new GameAction.Discard(seat, randomHalf(state.player(seat).resources())));
+        }
+        return state;
+    }
+
+    private ResourceVector randomHalf(ResourceVector hand) {
+        ResourceVector remaining = hand.copy();
+        ResourceVector discarded = new ResourceVector();
+        for (int i = hand.total() / 2; i > 0; i--) {
+            ResourceType card = remaining.sample(random);
+            remaining.subtract(card, 1);
+            discarded.add(card, 1);
+        }
+        return discarded;
+    }
+
+    /**
+     * Wendet einen Entscheidungszug an und zieht bei Räuberzügen die gestohlene Karte.
+     */
+    GameState apply(GameState state, GameAction action) {
+        if (action instanceof GameAction.MoveRobber) {
+            GameAction.MoveRobber move = (GameAction.MoveRobber) action;
+            if (move.victimSeat() >= 0 && move.stolen() == null) {
+                ResourceType stolen = state.player(move.victimSeat()).resources().sample(random);
+                action = new GameAction.MoveRobber(move.seat(), move.hex(), move.victimSeat(), stolen);
+            }
+        }
+        return state.apply(action);
+    }
+
+    /**
+     * Spielt bis zum Sieg oder höchstens maxTurns weitere Züge.
+     * @return Ergebnis pro Sitzplatz: 1 für den Sieger, ohne Sieger ein Anteil nach Siegpunkten unter 0.5
+     */
+    double[] rollout(GameState state, int maxTurns) {
+        int lastTurn = state.turn() + maxTurns;
+        while (!state.isFinished() && state.turn() < lastTurn) {
+            state = resolveChance(state);
+            if (state.isFinished()) {
+                break;
+            }
+            state = apply(state, choose(state));
+        }
+
+        double[] rewards = new double[state.players().size()];
+        if (state.isFinished()) {
+            rewards[state.winnerSeat()] = 1.0;
+        } else {
+            for (int seat = 0; seat < rewards.length; seat++) {
+                rewards[seat] = 0.5 * state.player(seat).victoryPoints() / CatanGame.VICTORY_POINTS_TO_WIN;
+            }
+        }
+        return rewards;
+    }
+
+    int nextInt(int bound) {
+        return random.nextInt(bound);
+    }
+
+    // === STANDARDSTRATEGIE ===
+
+    GameAction choose(GameState state) {
+        int seat = state.currentSeat();
+        if (state.isBeginning()) {
+            int required = state.setupPiecesRequired();
+            long owned = state.occupancy().getBuildings(seat);
+            if (Long.bitCount(owned) < required) {
+                return new GameAction.PlaceSettlement(seat, openingVertex(state, owned));
+            }
+            if (state.occupancy().getRoadCount(seat) < required) {
+                return new GameAction.PlaceRoad(seat, randomRoad(state, seat));
+            }
+            return new GameAction.EndTurn(seat);
+        }
+        if (state.robberPending()) {
+            int hex = randomBit(state.robberMask());
+            int victims = state.stealCandidates(seat, hex);
+            int victim = victims == 0 ? -1 : randomBit(victims & 0xFFFFFFFFL);
+            return new GameAction.MoveRobber(seat, hex, victim, null);
+        }
+
+        PlayerState player = state.currentPlayer();
+        ResourceVector hand = player.resources();
+        long cities = state.cityMask(seat);
+        if (player.citiesLeft() > 0 && cities != 0 && hand.covers(Player.CITY_COST)) {
+            return new GameAction.PlaceCity(seat, randomBit(cities));
+        }
+        long settlements = player.settlementsLeft() > 0 ? state.settlementMask(seat) : 0L;
+        if (settlements != 0 && hand.covers(Player.SETTLEMENT_COST)) {
+            return new GameAction.PlaceSettlement(seat, randomBit(settlements));
+        }
+
+        // Tauschen, wenn danach ein Gebäudeteil weniger fehlt
+        ResourceVector goal = player.citiesLeft() > 0 && cities != 0 ? Player.CITY_COST : Player.SETTLEMENT_COST;
+        GameAction trade = bankTrade(seat, hand, goal);
+        if (trade != null) {
+            return trade;
+        }
+        if (settlements == 0 && player.roadsLeft() > 0 && hand.covers(Player.ROAD_COST)) {
+            int edge = randomRoad(state, seat);
+            if (edge >= 0) {
+                return new GameAction.PlaceRoad(seat, edge);
+            }
+        }
+        return new GameAction.EndTurn(seat);
+    }
+
+    private int openingVertex(GameState state, long owned) {
+        long candidates = state.settlementMask(state.currentSeat());
+        if (random.nextDouble() < RANDOM_OPENING) {
+            return randomBit(candidates);
+        }
+        if (openings == null || openings.getLayout() != state.layout()) {
+            openings = new OpeningEvaluator(state.layout());
+        }
+        if (owned == 0) {
+            return openings.bestVertex(candidates);
+        }
+        int ownedResources = 0;
+        for (; owned != 0; owned &= owned - 1) {
+            ownedResources |= openings.getResourceMask(Long.numberOfTrailingZeros(owned));
+        }
+        return openings.bestVertex(candidates, ownedResources);
+    }
+
+    private static GameAction bankTrade(int seat, ResourceVector hand, ResourceVector goal) {
+        ResourceType missing = null;
+        for (ResourceType type : RESOURCES) {
+            if (hand.get(type) < goal.get(type)) {
+                missing = type;
+                break;
+            }
+        }
+        if (missing == null) {
+            return null;
+        }
+        for (ResourceType give : RESOURCES) {
+            if (give != missing && hand.get(give) - goal.get(give) >= GameState.BANK_TRADE_RATIO) {
+                return new GameAction.BankTrade(seat, give, missing);
+            }
+        }
+        return null;
+    }
+
+    private int randomRoad(GameState state, int seat) {
+        long[] words = new long[BoardTopology.EDGE_WORDS];
+        int total = 0;
+        for (int word = 0; word < words.length; word++) {
+            words[word] = state.roadMask(seat, word);
+            total += Long.bitCount(words[word]);
+        }
+        if (total == 0) {
+            return -1;
+        }
+        int pick = random.nextInt(total);
+        for (int word = 0; word < words.length; word++) {
+            int count = Long.bitCount(words[word]);
+            if (pick < count) {
+                return word * Long.SIZE + nthBit(words[word], pick);
+            }
+            pick -= count;
+        }
+        return -1;
+    }
+
+    private int randomBit(long mask) {
+        return nthBit(mask, random.nextInt(Long.bitCount(mask)));
+    }
+
+    private static int nthBit(long mask, int n) {
+        for (int i = 0; i < n; i++) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+}
@@ -0,0 +1,80 @@
+package com.catan.ai;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.catan.model.GameAction;
+
+/**
+ * Knoten des gemeinsam genutzten Suchbaums. Der Baum ist open-loop: ein Knoten steht für eine Zugfolge,
+ * nicht für einen Zustand, da Würfel und Diebstähle bei jedem Durchlauf neu gezogen werden.
+ * Besuche und Ergebnisse sind atomar, Kinder werden unter dem Monitor des Knotens angehängt
+ * und als unveränderliches Array veröffentlicht; lesende Threads sperren nie.
+ */
+final class SearchNode {
+
+    static final long REWARD_SCALE = 1_000_000L; // Ergebnisse als Festkommazahl für atomare Summen
+
+    private static final SearchNode[] NO_CHILDREN = new SearchNode[0];
+
+    final GameAction action; // Zug, der zu diesem Knoten führt, null an der Wurzel
+    final int seat;          // Sitzplatz, der den Zug ausführt und dessen Ergebnis hier zählt
+    private final AtomicInteger visits = new AtomicInteger();
+    private final AtomicLong reward = new AtomicLong();
+    private volatile SearchNode[] children = NO_CHILDREN;
+
+    SearchNode(GameAction action, int seat) {
+        this.action = action;
+        this.seat = seat;
+    }
+
+    SearchNode[] getChildren() {
+        return children;
+    }
+
+    /**
+     * Hängt einen Kindknoten an, sofern kein anderer Thread denselben Zug schon angehängt hat.
+     * @return Der neue oder bereits vorhandene Knoten
+     */
+    synchronized SearchNode addChild(GameAction childAction, int childSeat) {
+        SearchNode[] current = children;
+        for (SearchNode child : current) {
+            if (child.action.equals(childAction)) {
+                return child;
+            }
+        }
+        SearchNode child = new SearchNode(childAction, childSeat);
+        SearchNode[] next = Arrays.copyOf(current, current.length + 1);
+        next[current.length] = child;
+        children = next;
+        return child;
+    }
+
+    int getVisits() {
+        return visits.get();
+    }
+
+    /**
+     * @return Durchschnittliches Ergebnis; laufende Durchläufe zählen als Niederlage (virtueller Verlust)
+     */
+    double getMeanReward() {
+        int n = visits.get();
+        return n == 0 ? 0.0 : (double) reward.get() / REWARD_SCALE / n;
+    }
+
+    /**
+     * Markiert den Knoten als in Bearbeitung, damit parallele Threads andere Pfade bevorzugen.
+     */
+    void addVirtualLoss(int virtualLoss) {
+        visits.addAndGet(virtualLoss);
+    }
+
+    /**
+     * Ersetzt den virtuellen Verlust durch das tatsächliche Ergebnis eines Durchlaufs.
+     */
+    void update(double result, int virtualLoss) {
+        reward.addAndGet(Math.round(result * REWARD_SCALE));
+        visits.addAndGet(1 - virtualLoss);
+    }
+}
@@ -1,11 +1,10 @@
 package com.catan.controller;
 
-import java.util.HashSet;
-import java.util.Map;
+import java.util.Arrays;
 import java.util.Optional;
-import java.util.Set;
 
 import com.catan.model.AuthenticCatanBoard;
+import com.catan.model.BoardTopology;
 import com.catan.model.Building;
 import com.catan.model.CatanGame;
 import com.catan.model.EdgeCoordinate;
@@ -14,6 +13,8 @@ import com.catan.model.Player;
 import com.catan.model.RoundedPoint2D;
 import com.catan.model.TerrainTile;
 import com.catan.model.VertexCoordinate;
+import com.catan.util.Diagnostics;
+import com.catan.view.AssetCache;
 import com.catan.view.UIComponents;
 
 import javafx.animation.Animation;
@@ -23,11 +24,9 @@ import javafx.scene.Node;
 import javafx.scene.control.Alert;
 import javafx.scene.control.ButtonType;
 import javafx.scene.control.Tooltip;
-import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
 import javafx.scene.layout.Pane;
 import javafx.scene.paint.Color;
-import javafx.scene.paint.ImagePattern;
 import javafx.scene.shape.Circle;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Rectangle;
@@ -39,23 +38,26 @@ import javafx.util.Duration;
  * Unterstützt Interaktionen wie den Bau von Gebäuden, das Platzieren von Straßen und die Bewegung des Räubers.
  * Voraussetzungen: Das übergebene {@link CatanGame} muss ein {@link AuthenticCatanBoard} enthalten.
  */
-public class AuthenticBoardController {
+public class AuthenticBoardController implements BoardRenderer {
+    
+    private static final String LOG = "AuthenticBoardController"; // Quelle für Diagnose-Ausgaben
     
     // CATAN-authentische Board-Layout-Konstanten
-    private static final double HEX_RADIUS = 45; // Radius der Hexagon-Felder (reduziert von 55)
-    private static final double BOARD_CENTER_X = 300.0; // X-Zentrum des Boards (ursprünglich 400)
-    private static final double BOARD_CENTER_Y = 200.0; // Y-Zentrum des Boards (ursprünglich 350)
+    static final double HEX_RADIUS = 45; // Radius der Hexagon-Felder (reduziert von 55)
+    static final double BOARD_CENTER_X = 300.0; // X-Zentrum des Boards (ursprünglich 400)
+    static final double BOARD_CENTER_Y = 200.0; // Y-Zentrum des Boards (ursprünglich 350)
     
     // Siedlungs- und Straßen-Konstanten
-    private static final double SETTLEMENT_SIZE = 8.0; // Größe der Siedlungsmarkierungen
-    private static final double ROAD_LENGTH = 20.0; // Länge der Straßensegmente
-    private static final double ROAD_WIDTH = 4.0; // Breite der Straßensegmente
-    private static final double ROBBER_SIZE = 70.0; // Größe des Räuber-Symbols
+    static final double SETTLEMENT_SIZE = 8.0; // Größe der Siedlungsmarkierungen
+    static final double ROAD_LENGTH = 20.0; // Länge der Straßensegmente
+    static final double ROAD_WIDTH = 4.0; // Breite der Straßensegmente
+    static final double ROBBER_SIZE = 70.0; // Größe des Räuber-Symbols
     
     // Spiel-Logik und UI-Komponenten
     private final CatanGame game;
     private final AuthenticCatanBoard board;
     private final Pane boardPane;
+    private final BoardActions actions;
 
     /**
      * Konstruktor für den AuthenticBoardController
@@ -66,6 +68,7 @@ public class AuthenticBoardController {
     	this.board = game.getBoard();
         this.game = game;
         this.boardPane = boardPane;
+        this.actions = new BoardActions(game);
         
         // Validierung: Spiel muss authentisches Board verwenden
         if (board == null) {
@@ -76,36 +79,48 @@ public class AuthenticBoardController {
     // Referenz zum MainController für UI-Updates
     private MainController mainController;
     
-    /**
-     * Setzt die Referenz zum MainController für UI-Updates
-     */
+    @Override
     public void setMainController(MainController controller) {
         this.mainController = controller;
     }
     
+    // Retained Scene-Graph: jeder Knoten wird einmal erzeugt und über seine Hex-, Vertex- bzw. Edge-Id adressiert
+    private Polygon[] hexNodes;
+    private Circle[] vertexNodes;
+    private Rectangle[] edgeNodes;
+    private Tooltip[] vertexTooltips;
+    private Tooltip[] edgeTooltips;
+    private int[] vertexStates; // zuletzt angezeigter Zustand, siehe BoardActions.vertexState()
+    private int[] edgeStates;   // zuletzt angezeigter Zustand, siehe BoardActions.edgeState()
+    private ImageView robberView;
+    private Rectangle playerDot;
+    private Tooltip playerTooltip;
+    private Player shownPlayer;
+    
     /**
-     * Rendert das komplette authentische CATAN-Board neu.
-     * Löscht alle vorherigen Elemente und erstellt das Board von Grund auf neu.
+     * Bringt das Board auf den aktuellen Spielstand.
+     * Beim ersten Aufruf wird der Scene-Graph einmalig aufgebaut, danach werden nur noch
+     * Füllung, Rahmen, Tooltip und Position der Knoten angepasst, deren Zustand sich geändert hat.
      */
+    @Override
     public void renderBoard() {
     	// Prüfung ob Räuber bereits bewegt wurde (wichtig für Spiellogik)
     	if (game.hasMovedRobber() == true) {
-            // Board-Panel leeren und Hintergrundfarbe setzen
-            boardPane.getChildren().clear();
-            boardPane.setStyle("-fx-background-color: #87CEFA;"); // Hellblau (SkyBlue)
+            if (vertexNodes == null) {
+                buildScene();
+            }
             
-            System.out.println("robber position: " + board.getRobberPosition());
+            Diagnostics.debug(LOG, () -> "robber position: " + board.getRobberPosition());
             
-            // Alle Board-Elemente in der korrekten Reihenfolge rendern
-            renderHexagonTiles(); // Hexagon-Felder mit Terrain
-            renderSettlementSpots(); // Siedlungsplätze
-            renderRoadSpots(game.isBeginning()); // Straßenplätze
-            renderPlayerDot(); // Spieler-Indikator
+            // Nur geänderte Elemente aktualisieren
+            updateRobber(); // Räuber-Position
+            updateSettlementSpots(); // Siedlungsplätze
+            updateRoadSpots(); // Straßenplätze
+            updatePlayerDot(); // Spieler-Indikator
             
             // Debug-Ausgabe für Board-Statistiken
-            int settlement_count = new HashSet<>(board.getValidVertices().values()).size();
-            System.out.println("✓ Authentisches CATAN-Board gerendert: " +
-            		settlement_count + " Siedlungsmöglichkeiten, " +
+            Diagnostics.debug(LOG, () -> "✓ Authentisches CATAN-Board aktualisiert: " +
+            		board.getTopology().getVertexCount() + " Siedlungsmöglichkeiten, " +
                              board.getValidVertices().size() + " Siedlungsoptionen");
     	}
         
@@ -113,36 +128,59 @@ public class AuthenticBoardController {
         mainController.printPlayerInfo(); // Spieler-Informationen aktualisieren
         mainController.printResources(); // Ressourcen-Anzeige aktualisieren
     }
-
+    
     /**
-     * Rendert einen farbigen Punkt oben links auf dem Board zur Anzeige der aktuellen Spielerfarbe
+     * Erzeugt alle Knoten des Boards genau einmal, in der Zeichenreihenfolge
+     * Hexfelder, Räuber, Nummern-Token, Siedlungsplätze, Straßenplätze, Spieler-Indikator.
      */
-    private void renderPlayerDot() {
-        Player currentPlayer = game.getCurrentPlayer();
+    private void buildScene() {
+        boardPane.getChildren().clear();
+        boardPane.setStyle("-fx-background-color: #87CEFA;"); // Hellblau (SkyBlue)
         
-        // Farbigen Punkt erstellen
-        Rectangle playerDot = new Rectangle(20, 20, getPlayerColor(currentPlayer));
+        createHexagonTiles();
+        createSettlementSpots();
+        createRoadSpots();
+        createPlayerDot();
+    }
+
+    /**
+     * Erstellt den farbigen Punkt oben links zur Anzeige der aktuellen Spielerfarbe
+     */
+    private void createPlayerDot() {
+        playerDot = new Rectangle(20, 20);
         playerDot.setLayoutX(30);
         playerDot.setLayoutY(20);
         playerDot.setStroke(Color.BLACK);
         playerDot.setStrokeWidth(2.0);
-        
-        // Alte Spieler-Punkte entfernen
-        boardPane.getChildren().removeIf(node -> node.getUserData() != null && node.getUserData().equals("playerDot"));
         playerDot.setUserData("playerDot");
         
         // Tooltip für Spieler-Information
-        Tooltip playerTooltip = new Tooltip("Farbe von: " + currentPlayer.getName());
+        playerTooltip = new Tooltip();
         Tooltip.install(playerDot, playerTooltip);
         
         boardPane.getChildren().add(playerDot);
     }
     
     /**
-     * Rendert alle 19 Hexagon-Tiles des authentischen CATAN-Boards.
-     * Jedes Tile wird mit entsprechendem Terrain-Typ gestylt und erhält Nummern-Token.
+     * Färbt den Spieler-Indikator, sobald ein anderer Spieler am Zug ist
+     */
+    private void updatePlayerDot() {
+        Player currentPlayer = game.getCurrentPlayer();
+        if (currentPlayer != shownPlayer) {
+            playerDot.setFill(getPlayerColor(currentPlayer));
+            playerTooltip.setText("Farbe von: " + currentPlayer.getName());
+            shownPlayer = currentPlayer;
+        }
+    }
+    
+    /**
+     * Erstellt alle 19 Hexagon-Tiles des authentischen CATAN-Boards samt Räuber und Nummern-Token.
+     * Terrain und Zahlen ändern sich während der Partie nicht, die Knoten bleiben unverändert bestehen.
      */
-    private void renderHexagonTiles() {
+    private void createHexagonTiles() {
+        BoardTopology topology = board.getTopology();
+        hexNodes = new Polygon[topology.getHexCount()];
+        
         // Über alle Terrain-Tiles iterieren
         for (TerrainTile tile : board.getAllTiles().values()) {
             if (tile.getHexCoordinate() != null) {
@@ -161,225 +199,269 @@ public class AuthenticBoardController {
                 final HexCoordinate finalHexCoord = hexCoord;
                 hexagon.setOnMouseClicked(e -> handleTileClick(finalHexCoord));
                 
+                hexNodes[topology.getHexId(hexCoord)] = hexagon;
                 boardPane.getChildren().add(hexagon);
+            }
+        }
+        
+        // Ein einziges Räuber-Symbol, das bei Bedarf verschoben wird
+        robberView = new ImageView(AssetCache.getRobberImage());
+        robberView.setFitWidth(ROBBER_SIZE);
+        robberView.setFitHeight(ROBBER_SIZE);
+        robberView.setMouseTransparent(true);
+        boardPane.getChildren().add(robberView);
+        
+        // Nummern-Token für Nicht-Wüsten-Tiles erstellen
+        for (TerrainTile tile : board.getAllTiles().values()) {
+            if (tile.getHexCoordinate() != null && tile.getNumberToken() > 0) {
+                RoundedPoint2D hexCenter = tile.getHexCoordinate().toPixelCatan(AuthenticCatanBoard.getHexRadius());
+                Text numberText = UIComponents.createNumberToken(tile.getNumberToken());
+                numberText.setTextOrigin(VPos.CENTER);
+                numberText.applyCss();
                 
-                // Räuber-Symbol rendern falls vorhanden
-                if (tile.hasRobber()) {
-                    ImageView robberImage = new ImageView(new Image(getClass().getResourceAsStream("/images/robber3Small.png")));
-                    robberImage.setFitWidth(ROBBER_SIZE);
-                    robberImage.setFitHeight(ROBBER_SIZE);
-                    robberImage.setLayoutX(BOARD_CENTER_X + hexCenter.x - (ROBBER_SIZE / 2));
-                    robberImage.setLayoutY(BOARD_CENTER_Y + hexCenter.y - (ROBBER_SIZE / 2));
-                    boardPane.getChildren().add(robberImage);
-                }
+                // Text-Dimensionen für Zentrierung berechnen
+                double textWidth = numberText.getBoundsInLocal().getWidth();
+                double textHeight = numberText.getBoundsInLocal().getHeight();
+                double centerX = BOARD_CENTER_X + hexCenter.x;
+                double centerY = BOARD_CENTER_Y + hexCenter.y;
                 
-                // Nummern-Token für Nicht-Wüsten-Tiles erstellen
-                if (tile.getNumberToken() > 0) {
-                    Text numberText = UIComponents.createNumberToken(tile.getNumberToken());
-                    numberText.setTextOrigin(VPos.CENTER);
-                    numberText.applyCss();
-                    
-                    // Text-Dimensionen für Zentrierung berechnen
-                    double textWidth = numberText.getBoundsInLocal().getWidth();
-                    double textHeight = numberText.getBoundsInLocal().getHeight();
-                    double centerX = BOARD_CENTER_X + hexCenter.x;
-                    double centerY = BOARD_CENTER_Y + hexCenter.y;
-                    
-                    // Weißen Hintergrundkreis für Nummern-Token erstellen
-                    Circle backgroundCircle = new Circle(13,Color.web("#FFFFFF", 0.8));
-                    backgroundCircle.setLayoutX(centerX);
-                    backgroundCircle.setLayoutY(centerY);
-                    backgroundCircle.setStroke(Color.BLACK);
-                    backgroundCircle.setStrokeWidth(0.5);
-                    
-                    // Text präzise zentrieren
-                    numberText.setLayoutX(centerX - textWidth / 2);
-                    // Vertikale Zentrierung mit Baseline-Offset-Korrektur
-                    numberText.setLayoutY(centerY + numberText.getBaselineOffset() - textHeight / 2 - 9);
-                    
-                    // Hintergrundkreis und Text hinzufügen
-                    boardPane.getChildren().add(backgroundCircle);
-                    boardPane.getChildren().add(numberText);
-                }
+                // Weißen Hintergrundkreis für Nummern-Token erstellen
+                Circle backgroundCircle = new Circle(13,Color.web("#FFFFFF", 0.8));
+                backgroundCircle.setLayoutX(centerX);
+                backgroundCircle.setLayoutY(centerY);
+                backgroundCircle.setStroke(Color.BLACK);
+                backgroundCircle.setStrokeWidth(0.5);
+                
+                // Text präzise zentrieren
+                numberText.setLayoutX(centerX - textWidth / 2);
+                // Vertikale Zentrierung mit Baseline-Offset-Korrektur
+                numberText.setLayoutY(centerY + numberText.getBaselineOffset() - textHeight / 2 - 9);
+                
+                // Token lassen Klicks zum Hexfeld durch
+                backgroundCircle.setMouseTransparent(true);
+                numberText.setMouseTransparent(true);
+                boardPane.getChildren().add(backgroundCircle);
+                boardPane.getChildren().add(numberText);
             }
         }
     }
     
     /**
-     * Rendert alle 54 authentischen Siedlungsplätze des CATAN-Boards.
-     * Zeigt existierende Gebäude an und markiert baubare Positionen.
+     * Verschiebt das Räuber-Symbol auf das aktuelle Räuberfeld.
      */
-    private void renderSettlementSpots() {
-        Player currentPlayer = game.getCurrentPlayer();
-        Map<VertexCoordinate, VertexCoordinate> allVertices = board.getValidVertices();
-        Set<VertexCoordinate> uniqueVertices = new HashSet<>(allVertices.values()); // Normalisierte Vertices
+    private void updateRobber() {
+        RoundedPoint2D hexCenter = board.getRobberPosition().toPixelCatan(AuthenticCatanBoard.getHexRadius());
+        robberView.setLayoutX(BOARD_CENTER_X + hexCenter.x - (ROBBER_SIZE / 2));
+        robberView.setLayoutY(BOARD_CENTER_Y + hexCenter.y - (ROBBER_SIZE / 2));
+    }
+    
+    /**
+     * Erstellt die 54 Siedlungsplätze. Klick- und Hover-Handler werden einmal installiert
+     * und richten sich nach dem zuletzt angezeigten Zustand des Platzes.
+     */
+    private void createSettlementSpots() {
+        BoardTopology topology = board.getTopology();
+        vertexNodes = new Circle[topology.getVertexCount()];
+        vertexTooltips = new Tooltip[topology.getVertexCount()];
+        vertexStates = new int[topology.getVertexCount()];
+        Arrays.fill(vertexStates, BoardActions.SPOT_UNKNOWN);
         
-        // Über alle eindeutigen Vertex-Koordinaten iterieren
-        for (VertexCoordinate uniqueVertice : uniqueVertices) {
-        	VertexCoordinate vertex = uniqueVertice;
-            RoundedPoint2D vertexPos = uniqueVertice.toPixel(HEX_RADIUS, BOARD_CENTER_X, BOARD_CENTER_Y);
-            
-            // Bau-Möglichkeiten prüfen
-            boolean canBuildSettlement = game.canPlaceSettlement(vertex, currentPlayer, game.isBeginning());
-            boolean canBuildCity = game.canPlaceCity(vertex, currentPlayer, game.isBeginning());
-            boolean canBuildAnything = game.canPlaceAnyBuilding(vertex, currentPlayer, game.isBeginning());
-            boolean isInitialSettlementPlaced = currentPlayer.isInitialSettlementPlaced() && game.isBeginning();
-            boolean isOccupied = board.getBuildings().containsKey(vertex);
+        for (int vertexId = 0; vertexId < topology.getVertexCount(); vertexId++) {
+            VertexCoordinate vertex = topology.getVertex(vertexId);
+            RoundedPoint2D vertexPos = vertex.toPixel(HEX_RADIUS, BOARD_CENTER_X, BOARD_CENTER_Y);
             
             // Siedlungsspot-Kreis erstellen
             Circle settlementSpot = new Circle(SETTLEMENT_SIZE);
             settlementSpot.setLayoutX(vertexPos.x);
             settlementSpot.setLayoutY(vertexPos.y);
             
-            // Debug-Ausgabe für Bau-Bedingungen
-            System.out.println("== Bedingungen für Siedlungsbau ==");
-            System.out.println("canBuildSettlement: " + canBuildSettlement);
-            System.out.println("!isInitialSettlementPlaced: " + !isInitialSettlementPlaced);
-            System.out.println("game.hasRolledDice(): " + game.hasRolledDice());
-            System.out.println("isOccupied: " + isOccupied);
-
-            // Styling basierend auf Zustand
-            if (isOccupied) {
-                // Existierendes Gebäude finden und mit Spielerfarbe anzeigen
-                Building building = board.getBuildings().values().stream()
-                    .filter(b -> b.getVertexCoordinate() != null && b.getVertexCoordinate().equals(vertex))
-                    .findFirst().orElse(null);
-                
-                if (building != null) {
-                    settlementSpot.setFill(getPlayerColor(building.getOwner()));
-                    settlementSpot.setStroke(Color.BLACK);
-                    settlementSpot.setStrokeWidth(2.0);
-
-                    // Interaktive Effekte für Stadt-Upgrade
-                    if (canBuildCity && !isInitialSettlementPlaced && game.hasRolledDice()) {
-                    	startPulseEffect(settlementSpot); // Pulsieren für Upgrade-Möglichkeit
-                    	settlementSpot.setOnMouseClicked(e -> handleSettlementClick(vertex, settlementSpot));
-                    	
-                    	// Hover-Effekte für Upgrade
-                    	settlementSpot.setOnMouseEntered(e -> {
-                            settlementSpot.setScaleX(1.2);
-                            settlementSpot.setScaleY(1.2);
-                        });
-                    	settlementSpot.setOnMouseExited(e -> {
-                            settlementSpot.setScaleX(1.0);
-                            settlementSpot.setScaleY(1.0);
-                        });
-                    }
-                    
-                    // Städte sind größer und dunkler dargestellt
-                    if (building.getType() == Building.Type.CITY) {
-                        settlementSpot.setRadius(SETTLEMENT_SIZE * 1.5);
-                        settlementSpot.setFill(getPlayerColor(building.getOwner()).darker());
-                    }
+            final int id = vertexId;
+            settlementSpot.setOnMouseClicked(e -> {
+                if (vertexStates[id] == BoardActions.SPOT_BUILDABLE) {
+                    handleVertexClick(vertex);
+                } else if (BoardActions.isUpgradable(vertexStates[id])) {
+                    handleSettlementClick(vertex, settlementSpot);
                 }
-            }
-            else if (canBuildSettlement && !isInitialSettlementPlaced && game.hasRolledDice()) {
-            	System.out.println("Bebaubare Siedlungsposition wird gerendert");
-                // Bebaubare Position - grün mit Interaktivität
-                settlementSpot.setFill(Color.LIGHTGREEN);
-                settlementSpot.setStroke(Color.DARKGREEN);
-                settlementSpot.setStrokeWidth(1.5);
-                settlementSpot.setOnMouseClicked(e -> handleVertexClick(vertex));
-                
-                // Hover-Effekte für baubare Positionen
-                settlementSpot.setOnMouseEntered(e -> {
+            });
+            
+            // Hover-Effekte nur für klickbare Plätze
+            settlementSpot.setOnMouseEntered(e -> {
+                if (vertexStates[id] == BoardActions.SPOT_BUILDABLE || BoardActions.isUpgradable(vertexStates[id])) {
                     settlementSpot.setScaleX(1.2);
                     settlementSpot.setScaleY(1.2);
-                });
-                settlementSpot.setOnMouseExited(e -> {
+                }
+            });
+            settlementSpot.setOnMouseExited(e -> {
+                if (vertexStates[id] == BoardActions.SPOT_BUILDABLE || BoardActions.isUpgradable(vertexStates[id])) {
                     settlementSpot.setScaleX(1.0);
                     settlementSpot.setScaleY(1.0);
-                });
-            } 
-            else {
-                // Nicht bebaubare Position - grau und transparent
-                settlementSpot.setFill(Color.LIGHTGRAY);
-                settlementSpot.setStroke(Color.GRAY);
-                settlementSpot.setStrokeWidth(0.5);
-                settlementSpot.setOpacity(0.4);
-            }
+                }
+            });
             
-            // Tooltip mit Zustandsinformation
-            String tooltipText = isOccupied ? "Gebäude vorhanden" :
-                                (canBuildAnything ? "Klicken für Siedlung" : "Nicht bebaubar");
-            Tooltip tooltip = new Tooltip(tooltipText);
+            Tooltip tooltip = new Tooltip();
             Tooltip.install(settlementSpot, tooltip);
             
-            // Siedlungsspot zum Board hinzufügen
+            vertexNodes[vertexId] = settlementSpot;
+            vertexTooltips[vertexId] = tooltip;
             boardPane.getChildren().add(settlementSpot);
-            settlementSpot.toFront(); // Vor andere Elemente bringen
         }
     }
     
     /**
-     * Rendert alle 72 authentischen Straßenpositionen des CATAN-Boards.
-     * Zeigt existierende Straßen an und markiert baubare Positionen.
+     * Aktualisiert die Siedlungsplätze, deren Zustand sich seit der letzten Anzeige geändert hat.
      */
-    private void renderRoadSpots(boolean isBeginning) {
+    private void updateSettlementSpots() {
         Player currentPlayer = game.getCurrentPlayer();
-        Set<EdgeCoordinate> uniqueEdges = board.getValidEdges(); 
+        BoardTopology topology = board.getTopology();
+        
+        // Bau-Prüfungen sind O(1) über den LegalMoveGenerator
+        for (int vertexId = 0; vertexId < topology.getVertexCount(); vertexId++) {
+            VertexCoordinate vertex = topology.getVertex(vertexId);
+            int state = actions.vertexState(vertex, currentPlayer);
+            if (state != vertexStates[vertexId]) {
+                applyVertexState(vertexNodes[vertexId], vertexTooltips[vertexId], state);
+                vertexStates[vertexId] = state;
+            }
+        }
+    }
+    
+    /**
+     * Setzt Füllung, Rahmen, Größe und Tooltip eines Siedlungsplatzes für den angegebenen Zustand.
+     */
+    private void applyVertexState(Circle settlementSpot, Tooltip tooltip, int state) {
+        stopPulseEffect(settlementSpot);
+        settlementSpot.setScaleX(1.0);
+        settlementSpot.setScaleY(1.0);
+        settlementSpot.setRadius(SETTLEMENT_SIZE);
+        settlementSpot.setOpacity(1.0);
         
-        // Über alle Edge-Koordinaten iterieren
-        for (EdgeCoordinate edge : uniqueEdges) {
+        if (state >= 0) {
+            // Existierendes Gebäude mit Spielerfarbe anzeigen
+            Color color = getPlayerColor(game.getPlayers().get(state / 4));
+            settlementSpot.setFill(color);
+            settlementSpot.setStroke(Color.BLACK);
+            settlementSpot.setStrokeWidth(2.0);
+            
+            // Städte sind größer und dunkler dargestellt
+            if ((state & 2) != 0) {
+                settlementSpot.setRadius(SETTLEMENT_SIZE * 1.5);
+                settlementSpot.setFill(color.darker());
+            }
+            
+            // Pulsieren für Upgrade-Möglichkeit
+            if (BoardActions.isUpgradable(state)) {
+                startPulseEffect(settlementSpot);
+            }
+            tooltip.setText("Gebäude vorhanden");
+        } else if (state == BoardActions.SPOT_BUILDABLE) {
+            // Bebaubare Position - grün mit Interaktivität
+            settlementSpot.setFill(Color.LIGHTGREEN);
+            settlementSpot.setStroke(Color.DARKGREEN);
+            settlementSpot.setStrokeWidth(1.5);
+            tooltip.setText("Klicken für Siedlung");
+        } else {
+            // Nicht bebaubare Position - grau und transparent
+            settlementSpot.setFill(Color.LIGHTGRAY);
+            settlementSpot.setStroke(Color.GRAY);
+            settlementSpot.setStrokeWidth(0.5);
+            settlementSpot.setOpacity(0.4);
+            tooltip.setText(state == BoardActions.SPOT_POSSIBLE ? "Klicken für Siedlung" : "Nicht bebaubar");
+        }
+    }
+    
+    /**
+     * Erstellt die 72 Straßenplätze mit einmalig installierten Handlern.
+     */
+    private void createRoadSpots() {
+        BoardTopology topology = board.getTopology();
+        edgeNodes = new Rectangle[topology.getEdgeCount()];
+        edgeTooltips = new Tooltip[topology.getEdgeCount()];
+        edgeStates = new int[topology.getEdgeCount()];
+        Arrays.fill(edgeStates, BoardActions.SPOT_UNKNOWN);
+        
+        for (int edgeId = 0; edgeId < topology.getEdgeCount(); edgeId++) {
+        	EdgeCoordinate edge = topology.getEdge(edgeId);
             RoundedPoint2D edgePos = edge.toPixel(HEX_RADIUS, BOARD_CENTER_X, BOARD_CENTER_Y);
             double rotation = edge.getRotationAngle(HEX_RADIUS, BOARD_CENTER_X, BOARD_CENTER_Y);
             
-            // Straßenbau-Möglichkeiten prüfen
-            boolean canBuildRoad = game.canPlaceRoad(edge, currentPlayer);
-            boolean isInitialRoadPlaced = currentPlayer.isInitialRoadPlaced() && game.isBeginning();
-            boolean isRoadOccupied = board.getRoads().values().stream()
-                    .anyMatch(r -> r.getEdgeCoordinate() != null && r.getEdgeCoordinate().equals(edge));
-            
             // Straßensegment-Rechteck erstellen
             Rectangle roadSegment = new Rectangle(ROAD_LENGTH, ROAD_WIDTH);
             roadSegment.setX(edgePos.x - ROAD_LENGTH/2);
             roadSegment.setY(edgePos.y - ROAD_WIDTH/2);
             roadSegment.setRotate(rotation); // Rotation für korrekte Ausrichtung
             
-            // Styling basierend auf Straßenzustand
-            if (isRoadOccupied) {
-                // Existierende Straße finden und mit Spielerfarbe anzeigen
-                com.catan.model.Road road = board.getRoads().values().stream()
-                    .filter(r -> r.getEdgeCoordinate() != null && r.getEdgeCoordinate().equals(edge))
-                    .findFirst().orElse(null);
-                if (road != null) {
-                    roadSegment.setFill(getPlayerColor(road.getOwner()));
-                    roadSegment.setStroke(Color.BLACK);
-                    roadSegment.setStrokeWidth(2.0);
+            final int id = edgeId;
+            roadSegment.setOnMouseClicked(e -> {
+                if (edgeStates[id] == BoardActions.SPOT_BUILDABLE) {
+                    handleEdgeClick(edge);
                 }
-            } else if (canBuildRoad && !isInitialRoadPlaced && game.hasRolledDice()) {
-                // Bebaubare Straße - blau mit Interaktivität
-                roadSegment.setFill(Color.LIGHTBLUE);
-                roadSegment.setStroke(Color.DARKBLUE);
-                roadSegment.setStrokeWidth(1.5);
-                roadSegment.setOnMouseClicked(e -> handleEdgeClick(edge));
-                
-                // Hover-Effekte für baubare Straßen
-                roadSegment.setOnMouseEntered(e -> {
+            });
+            
+            // Hover-Effekte nur für baubare Straßen
+            roadSegment.setOnMouseEntered(e -> {
+                if (edgeStates[id] == BoardActions.SPOT_BUILDABLE) {
                     roadSegment.setScaleX(1.1);
                     roadSegment.setScaleY(1.1);
-                });
-                roadSegment.setOnMouseExited(e -> {
-                    roadSegment.setScaleX(1.0);
-                    roadSegment.setScaleY(1.0);
-                });
-            } else {
-                // Nicht bebaubare Straße - grau und transparent
-                roadSegment.setFill(Color.LIGHTGRAY);
-                roadSegment.setStroke(Color.GRAY);
-                roadSegment.setStrokeWidth(0.5);
-                roadSegment.setOpacity(0.3);
-            }
+                }
+            });
+            roadSegment.setOnMouseExited(e -> {
+                roadSegment.setScaleX(1.0);
+                roadSegment.setScaleY(1.0);
+            });
             
-            // Tooltip mit Zustandsinformation
-            String tooltipText = isRoadOccupied ? "Straße vorhanden" :
-                               (canBuildRoad ? "Klicken für Straße" : "Straße nicht möglich");
-            Tooltip roadTooltip = new Tooltip(tooltipText);
+            Tooltip roadTooltip = new Tooltip();
             Tooltip.install(roadSegment, roadTooltip);
             
-            // Straßensegment zum Board hinzufügen
+            edgeNodes[edgeId] = roadSegment;
+            edgeTooltips[edgeId] = roadTooltip;
             boardPane.getChildren().add(roadSegment);
-            roadSegment.toFront(); // Vor andere Elemente bringen
+        }
+    }
+    
+    /**
+     * Aktualisiert die Straßenplätze, deren Zustand sich seit der letzten Anzeige geändert hat.
+     */
+    private void updateRoadSpots() {
+        Player currentPlayer = game.getCurrentPlayer();
+        BoardTopology topology = board.getTopology();
+        
+        for (int edgeId = 0; edgeId < topology.getEdgeCount(); edgeId++) {
+        	EdgeCoordinate edge = topology.getEdge(edgeId);
+            int state = actions.edgeState(edge, currentPlayer);
+            if (state != edgeStates[edgeId]) {
+                applyEdgeState(edgeNodes[edgeId], edgeTooltips[edgeId], state);
+                edgeStates[edgeId] = state;
+            }
+        }
+    }
+    
+    /**
+     * Setzt Füllung, Rahmen und Tooltip eines Straßenplatzes für den angegebenen Zustand.
+     */
+    private void applyEdgeState(Rectangle roadSegment, Tooltip tooltip, int state) {
+        roadSegment.setScaleX(1.0);
+        roadSegment.setScaleY(1.0);
+        roadSegment.setOpacity(1.0);
+        
+        if (state >= 0) {
+            // Existierende Straße mit Spielerfarbe anzeigen
+            roadSegment.setFill(getPlayerColor(game.getPlayers().get(state)));
+            roadSegment.setStroke(Color.BLACK);
+            roadSegment.setStrokeWidth(2.0);
+            tooltip.setText("Straße vorhanden");
+        } else if (state == BoardActions.SPOT_BUILDABLE) {
+            // Bebaubare Straße - blau mit Interaktivität
+            roadSegment.setFill(Color.LIGHTBLUE);
+            roadSegment.setStroke(Color.DARKBLUE);
+            roadSegment.setStrokeWidth(1.5);
+            tooltip.setText("Klicken für Straße");
+        } else {
+            // Nicht bebaubare Straße - grau und transparent
+            roadSegment.setFill(Color.LIGHTGRAY);
+            roadSegment.setStroke(Color.GRAY);
+            roadSegment.setStrokeWidth(0.5);
+            roadSegment.setOpacity(0.3);
+            tooltip.setText(state == BoardActions.SPOT_POSSIBLE ? "Klicken für Straße" : "Straße nicht möglich");
         }
     }
 
@@ -388,11 +470,9 @@ public class AuthenticBoardController {
      * Wird aufgerufen wenn ein Spieler auf ein Terrain-Feld klickt.
      */
     private void handleTileClick(HexCoordinate hexCoord) {
-        // Räuber-Bewegung nur erlauben wenn noch nicht bewegt
-    	if (game.hasMovedRobber() == false) {
-            game.moveRobber(hexCoord); // Räuber auf neues Feld bewegen
+        if (actions.moveRobber(hexCoord)) {
             renderBoard(); // Board nach Änderung neu rendern
-    	}
+        }
     }
     
     /**
@@ -400,29 +480,9 @@ public class AuthenticBoardController {
      * Wird aufgerufen wenn ein Spieler auf einen freien Vertex klickt.
      */
     private void handleVertexClick(VertexCoordinate vertex) {
-        Player currentPlayer = game.getCurrentPlayer();
-        if (game.canPlaceSettlement(vertex, currentPlayer, game.isBeginning())) {
-            // Siedlung platzieren
-            game.placeBuilding(Building.Type.SETTLEMENT, vertex, currentPlayer);
-            
-            // Flags für Anfangsphase setzen
-            if (game.isBeginning()) {
-            	currentPlayer.setInitialSettlementPlaced(true);
-            }
-            
-            // Spezialfall: Zweite Siedlung des letzten Spielers in Anfangsrunde
-            if (game.isBeginning() && board.getBuildings().size() == game.getPlayers().size() + 1 && 
-                game.getCurrentPlayerIndex() == game.getPlayers().size() - 1) {
-            	currentPlayer.setInitialRoadPlaced(false);
-            }
-            
-            System.out.println("Siedlung platziert für " + currentPlayer.getName() + " bei " + vertex);
-            
+        if (actions.placeSettlement(vertex)) {
             // Debug: Angrenzende Vertices anzeigen
-            for (VertexCoordinate adjacentVertex : vertex.getAdjacentVertices(HEX_RADIUS, BOARD_CENTER_X, BOARD_CENTER_Y, board.getNormalizedCatanCoordMap(), board.getValidVertices())) {
-            	System.out.println("X wert:" + adjacentVertex.getX() + "Y wert:" + adjacentVertex.getY() + "dir wert:" + adjacentVertex.getDirection());
-            }
-            
+            Diagnostics.trace(LOG, () -> "Angrenzende Vertices: " + vertex.getAdjacentVertices(HEX_RADIUS, BOARD_CENTER_X, BOARD_CENTER_Y, board.getNormalizedCatanCoordMap(), board.getValidVertices()));
             renderBoard(); // Board nach Änderung neu rendern
         }
     }
@@ -432,44 +492,8 @@ public class AuthenticBoardController {
      * Wird aufgerufen wenn ein Spieler auf seine eigene Siedlung klickt.
      */
     private void handleSettlementClick(VertexCoordinate vertex, Circle settlementSpot) {
-    	Player currentPlayer = game.getCurrentPlayer();
-    	
-    	// Debug-Ausgaben für Stadt-Upgrade-Bedingungen
-    	System.out.println("In canPlaceCity, boolean ownsBuilding: " + board.getBuildings().entrySet().stream()
-    		    .anyMatch(entry ->
-		        entry.getKey().equals(vertex) &&
-		        entry.getValue().getOwner().equals(game.getCurrentPlayer()) &&
-		        entry.getValue().getType() == Building.Type.SETTLEMENT
-		        )
-		    );
-    	System.out.println("In canPlaceCity, boolean !hasSufficientResourcesForCity(): " + !game.hasSufficientResourcesForCity());
-    	System.out.println("In canPlaceCity, boolean isBeginning: " + game.isBeginning());
-    	System.out.println("in handleSettlementClick vor canPlaceCity");
-    	
-        if (game.canPlaceCity(vertex, currentPlayer, game.isBeginning())) {
-        	System.out.println("in handleSettlementClick nach canPlaceCity");
-            // Siedlung zu Stadt upgraden
-            game.placeBuilding(Building.Type.CITY, vertex, currentPlayer);
+        if (actions.placeCity(vertex)) {
             stopPulseEffect(settlementSpot); // Pulsieren stoppen
-            
-            // Flags für Anfangsphase setzen
-            if (game.isBeginning()) {
-            	currentPlayer.setInitialSettlementPlaced(true);
-            }
-            
-            // Spezialfall: Zweite Stadt des letzten Spielers in Anfangsrunde
-            if (game.isBeginning() && board.getBuildings().size() == game.getPlayers().size() + 1 && 
-                game.getCurrentPlayerIndex() == game.getPlayers().size() - 1) {
-            	currentPlayer.setInitialRoadPlaced(false);
-            }
-            
-            System.out.println("Stadt platziert für " + currentPlayer.getName() + " bei " + vertex);
-            
-            // Debug: Angrenzende Vertices anzeigen
-            for (VertexCoordinate adjacentVertex : vertex.getAdjacentVertices(HEX_RADIUS, BOARD_CENTER_X, BOARD_CENTER_Y, board.getNormalizedCatanCoordMap(), board.getValidVertices())) {
-            	System.out.println("X wert:" + adjacentVertex.getX() + "Y wert:" + adjacentVertex.getY() + "dir wert:" + adjacentVertex.getDirection());
-            }
-            
             renderBoard(); // Board nach Änderung neu rendern
         }
     }
@@ -533,12 +557,12 @@ public class AuthenticBoardController {
         if (result.isPresent()) {
             if (result.get() == settlementBtn) {
             	type = Building.Type.SETTLEMENT;
-                System.out.println("Settlement selected.");
+                Diagnostics.debug(LOG, () -> "Settlement selected.");
             } else if (result.get() == cityBtn) {
             	type = Building.Type.CITY;
-                System.out.println("City selected.");
+                Diagnostics.debug(LOG, () -> "City selected.");
             } else {
-                System.out.println("Cancelled.");
+                Diagnostics.debug(LOG, () -> "Cancelled.");
             }
         }
         return type;
@@ -549,46 +573,17 @@ public class AuthenticBoardController {
      * Wird aufgerufen wenn ein Spieler auf eine baubare Edge klickt.
      */
     private void handleEdgeClick(EdgeCoordinate edge) {
-        Player currentPlayer = game.getCurrentPlayer();
-        
-        if (game.canPlaceRoad(edge, currentPlayer)) {
-            boolean success = game.placeRoad(edge, currentPlayer);
-            if (success) {
-                // Flags für Anfangsphase setzen
-            	if (game.isBeginning()) {
-                	currentPlayer.setInitialRoadPlaced(true);
-                }
-                
-                // Spezialfall: Erste Straße des letzten Spielers in Anfangsrunde
-                if (game.isBeginning() && board.getRoads().size() == game.getPlayers().size() && 
-                    game.getCurrentPlayerIndex() == game.getPlayers().size() - 1) {
-                	currentPlayer.setInitialSettlementPlaced(false);
-                }
-                
-                System.out.println("Straße platziert für " + currentPlayer.getName() + " bei " + edge);
-                renderBoard(); // Board nach Änderung neu rendern
-            }
+        if (actions.placeRoad(edge)) {
+            renderBoard(); // Board nach Änderung neu rendern
         }
     }
     
     /**
      * Stylt ein Terrain-Tile basierend auf seinem Terrain-Typ.
-     * Lädt entsprechende Bilder und setzt Hover-Effekte.
+     * Die Bildfüllung kommt geteilt aus dem {@link AssetCache}, Hover-Effekte werden gesetzt.
      */
     private void styleTerrainTile(Polygon hexagon, TerrainTile tile) {
-        // Bild-Pfad basierend auf Terrain-Typ bestimmen
-        String imagePath = switch (tile.getTerrainType()) {
-            case FOREST -> "/images/forestSmall.jpg";
-            case HILLS -> "/images/hillsSmall.jpeg";
-            case PASTURE -> "/images/pastureSmall.jpg";
-            case FIELDS -> "/images/fieldsSmall.jpg";
-            case MOUNTAINS -> "/images/mountainsSmall.jpg";
-            case DESERT -> "/images/desertSmall.jpg";
-        };
-        
-        // Bild laden und als Füllung setzen
-        Image image = new Image(getClass().getResourceAsStream(imagePath));
-        hexagon.setFill(new ImagePattern(image));
+        hexagon.setFill(AssetCache.getTerrainPattern(tile.getTerrainType()));
         hexagon.setStroke(Color.BLACK);
         hexagon.setStrokeWidth(2.0);
         
@@ -601,7 +596,7 @@ public class AuthenticBoardController {
      * Konvertiert eine Spieler-Farbe in eine JavaFX-Farbe.
      * Verwendet für die Anzeige von Spielerelementen.
      */
-    private Color getPlayerColor(Player player) {
+    static Color getPlayerColor(Player player) {
         return switch (player.getColor()) {
             case RED -> Color.RED;
             case BLUE -> Color.BLUE;
@@ -7,6 +7,7 @@ import java.util.Optional;
 import com.catan.model.CatanGame;
 import com.catan.model.Player;
 import com.catan.model.ResourceType;
+import com.catan.util.Diagnostics;
 
 import javafx.scene.control.ButtonBar;
 import javafx.scene.control.ButtonType;
@@ -86,6 +87,9 @@ public class BankTradeController {
         // Buttons
         ButtonType confirmButton = new ButtonType("Bestätigen", ButtonBar.ButtonData.OK_DONE);
         dialog.getDialogPane().getButtonTypes().addAll(confirmButton, ButtonType.CANCEL);
+        // Tausch eines Rohstoffs gegen sich selbst ist kein Bankhandel
+        dialog.getDialogPane().lookupButton(confirmButton).disableProperty()
+            .bind(giveBox.valueProperty().isEqualTo(getBox.valueProperty()));
 
         // Ergebnis auslesen
         dialog.setResultConverter(dialogButton -> {
@@ -94,7 +98,7 @@ public class BankTradeController {
                 ResourceType get = getBox.getValue();
                 int amount = amountBox.getValue();
 
-                System.out.println("Gebe: " + give.getGermanName() +
+                Diagnostics.debug("BankTradeController", () -> "Gebe: " + give.getGermanName() +
                                    ", Erhalte: " + get.getGermanName() +
                                    ", Anzahl: " + amount);
                 Player currentPlayer = game.getCurrentPlayer();
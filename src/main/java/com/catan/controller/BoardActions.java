@@ -0,0 +1,182 @@
+package com.catan.controller;
+
+import com.catan.model.AuthenticCatanBoard;
+import com.catan.model.BoardOccupancy;
+import com.catan.model.Building;
+import com.catan.model.CatanGame;
+import com.catan.model.EdgeCoordinate;
+import com.catan.model.HexCoordinate;
+import com.catan.model.Player;
+import com.catan.model.Road;
+import com.catan.model.VertexCoordinate;
+import com.catan.util.Diagnostics;
+
+/**
+ * Spielregeln hinter den Klicks auf das Board, gemeinsam für alle {@link BoardRenderer}.
+ * Liefert den Anzeigezustand jedes Bauplatzes und führt Bau- und Räuberaktionen samt der
+ * Sonderfälle der Aufbauphase aus; die Darstellung selbst bleibt beim Renderer.
+ */
+final class BoardActions {
+
+    private static final String LOG = "BoardActions"; // Quelle für Diagnose-Ausgaben
+
+    // Anzeigezustände freier Plätze; belegte Plätze kodieren Sitzplatz und Gebäudeart als Wert >= 0
+    static final int SPOT_UNKNOWN = Integer.MIN_VALUE;
+    static final int SPOT_BUILDABLE = -1; // klickbar
+    static final int SPOT_POSSIBLE = -2;  // erlaubt, aber gerade nicht klickbar
+    static final int SPOT_BLOCKED = -3;
+
+    private final CatanGame game;
+    private final AuthenticCatanBoard board;
+
+    BoardActions(CatanGame game) {
+        this.game = game;
+        this.board = game.getBoard();
+    }
+
+    // === ANZEIGEZUSTAND ===
+
+    /**
+     * @return SPOT_BUILDABLE, SPOT_POSSIBLE oder SPOT_BLOCKED für freie Plätze,
+     *         bei Gebäuden Sitzplatz * 4 + 2 für Städte + 1 wenn zur Stadt ausbaubar
+     */
+    int vertexState(VertexCoordinate vertex, Player currentPlayer) {
+        boolean isInitialSettlementPlaced = currentPlayer.isInitialSettlementPlaced() && game.isBeginning();
+        Building building = board.getBuildingAt(vertex);
+        
+        if (building != null) {
+            boolean upgradable = game.canPlaceCity(vertex, currentPlayer, game.isBeginning())
+                && !isInitialSettlementPlaced && game.hasRolledDice();
+            return BoardOccupancy.seatOf(building.getOwner()) * 4
+                + (building.getType() == Building.Type.CITY ? 2 : 0) + (upgradable ? 1 : 0);
+        }
+        boolean canBuildSettlement = game.canPlaceSettlement(vertex, currentPlayer, game.isBeginning());
+        
+        // Debug-Ausgabe für Bau-Bedingungen
+        Diagnostics.trace(LOG, () -> "Bedingungen für Siedlungsbau bei " + vertex
+            + ": canBuildSettlement=" + canBuildSettlement
+            + " !isInitialSettlementPlaced=" + !isInitialSettlementPlaced
+            + " hasRolledDice=" + game.hasRolledDice());
+        
+        if (canBuildSettlement && !isInitialSettlementPlaced && game.hasRolledDice()) {
+            return SPOT_BUILDABLE;
+        }
+        return game.canPlaceAnyBuilding(vertex, currentPlayer, game.isBeginning()) ? SPOT_POSSIBLE : SPOT_BLOCKED;
+    }
+    
+    /**
+     * @return Sitzplatz des Besitzers bei vorhandener Straße, sonst SPOT_BUILDABLE, SPOT_POSSIBLE oder SPOT_BLOCKED
+     */
+    int edgeState(EdgeCoordinate edge, Player currentPlayer) {
+        Road road = board.getRoads().get(edge);
+        if (road != null) {
+            return BoardOccupancy.seatOf(road.getOwner());
+        }
+        boolean isInitialRoadPlaced = currentPlayer.isInitialRoadPlaced() && game.isBeginning();
+        boolean canBuildRoad = game.canPlaceRoad(edge, currentPlayer);
+        if (canBuildRoad && !isInitialRoadPlaced && game.hasRolledDice()) {
+            return SPOT_BUILDABLE;
+        }
+        return canBuildRoad ? SPOT_POSSIBLE : SPOT_BLOCKED;
+    }
+    
+    static boolean isUpgradable(int state) {
+        return state >= 0 && (state & 1) != 0;
+    }
+    
+    /**
+     * @return Ob ein Klick auf einen Platz mit diesem Zustand etwas bewirkt
+     */
+    static boolean isClickable(int state) {
+        return state == SPOT_BUILDABLE || isUpgradable(state);
+    }
+    
+    // === AKTIONEN ===
+    
+    /**
+     * Versetzt den Räuber, solange er in diesem Zug noch nicht bewegt wurde.
+     * @return true wenn sich der Spielstand geändert hat
+     */
+    boolean moveRobber(HexCoordinate hexCoord) {
+        // Räuber-Bewegung nur erlauben wenn noch nicht bewegt
+        if (game.hasMovedRobber()) {
+            return false;
+        }
+        game.moveRobber(hexCoord);
+        return true;
+    }
+    
+    /**
+     * Baut eine Siedlung für den Spieler am Zug.
+     * @return true wenn sich der Spielstand geändert hat
+     */
+    boolean placeSettlement(VertexCoordinate vertex) {
+        Player currentPlayer = game.getCurrentPlayer();
+        if (!game.canPlaceSettlement(vertex, currentPlayer, game.isBeginning())) {
+            return false;
+        }
+        game.placeBuilding(Building.Type.SETTLEMENT, vertex, currentPlayer);
+        afterInitialBuilding(currentPlayer);
+        Diagnostics.info(LOG, () -> "Siedlung platziert für " + currentPlayer.getName() + " bei " + vertex);
+        return true;
+    }
+    
+    /**
+     * Baut eine eigene Siedlung des Spielers am Zug zur Stadt aus.
+     * @return true wenn sich der Spielstand geändert hat
+     */
+    boolean placeCity(VertexCoordinate vertex) {
+        Player currentPlayer = game.getCurrentPlayer();
+        
+        // Debug-Ausgaben für Stadt-Upgrade-Bedingungen
+        Diagnostics.trace(LOG, () -> "placeCity bei " + vertex
+            + ": ownsSettlement=" + game.getLegalMoves().isCitySpot(BoardOccupancy.seatOf(currentPlayer), board.getTopology().getVertexId(vertex))
+            + " !hasSufficientResourcesForCity=" + !game.hasSufficientResourcesForCity()
+            + " isBeginning=" + game.isBeginning());
+        
+        if (!game.canPlaceCity(vertex, currentPlayer, game.isBeginning())) {
+            return false;
+        }
+        game.placeBuilding(Building.Type.CITY, vertex, currentPlayer);
+        afterInitialBuilding(currentPlayer);
+        Diagnostics.info(LOG, () -> "Stadt platziert für " + currentPlayer.getName() + " bei " + vertex);
+        return true;
+    }
+    
+    // Flags der Aufbauphase nach einem Gebäude setzen
+    private void afterInitialBuilding(Player currentPlayer) {
+        if (game.isBeginning()) {
+            currentPlayer.setInitialSettlementPlaced(true);
+        }
+        
+        // Spezialfall: Zweites Gebäude des letzten Spielers in Anfangsrunde
+        if (game.isBeginning() && board.getBuildings().size() == game.getPlayers().size() + 1 && 
+            game.getCurrentPlayerIndex() == game.getPlayers().size() - 1) {
+            currentPlayer.setInitialRoadPlaced(false);
+        }
+    }
+    
+    /**
+     * Baut eine Straße für den Spieler am Zug.
+     * @return true wenn sich der Spielstand geändert hat
+     */
+    boolean placeRoad(EdgeCoordinate edge) {
+        Player currentPlayer = game.getCurrentPlayer();
+        if (!game.canPlaceRoad(edge, currentPlayer) || !game.placeRoad(edge, currentPlayer)) {
+            return false;
+        }
+        // Flags für Anfangsphase setzen
+        if (game.isBeginning()) {
+            currentPlayer.setInitialRoadPlaced(true);
+        }
+        
+        // Spezialfall: Erste Straße des letzten Spielers in Anfangsrunde
+        if (game.isBeginning() && board.getRoads().size() == game.getPlayers().size() && 
+            game.getCurrentPlayerIndex() == game.getPlayers().size() - 1) {
+            currentPlayer.setInitialSettlementPlaced(false);
+        }
+        
+        Diagnostics.info(LOG, () -> "Straße platziert für " + currentPlayer.getName() + " bei " + edge);
+        return true;
+    }
+}
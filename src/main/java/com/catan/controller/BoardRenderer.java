@@ -0,0 +1,37 @@
+package com.catan.controller;
+
+import com.catan.model.CatanGame;
+
+import javafx.scene.layout.Pane;
+
+/**
+ * Darstellung des Spielbretts im Hauptfenster.
+ * {@link AuthenticBoardController} zeichnet mit einem Knoten pro Feld und Bauplatz,
+ * {@link CanvasBoardRenderer} alles in eine einzige Canvas. Welche Variante verwendet wird,
+ * legt {@link #create} beim Spielstart über die System-Property {@code catan.renderer} fest.
+ */
+public interface BoardRenderer {
+
+    /** Wert von {@code catan.renderer} für die Canvas-Darstellung */
+    String CANVAS = "canvas";
+
+    /**
+     * Bringt die Darstellung auf den aktuellen Spielstand und aktualisiert die Spieleranzeigen.
+     */
+    void renderBoard();
+
+    /**
+     * Setzt die Referenz zum MainController für UI-Updates
+     */
+    void setMainController(MainController controller);
+
+    /**
+     * Erzeugt den per {@code -Dcatan.renderer=nodes|canvas} gewählten Renderer, Standard ist {@code nodes}.
+     */
+    static BoardRenderer create(CatanGame game, Pane boardPane) {
+        if (CANVAS.equalsIgnoreCase(System.getProperty("catan.renderer"))) {
+            return new CanvasBoardRenderer(game, boardPane);
+        }
+        return new AuthenticBoardController(game, boardPane);
+    }
+}
@@ -0,0 +1,64 @@
+package com.catan.controller;
+
+import java.util.List;
+import java.util.Map;
+
+import com.catan.ai.MctsBot;
+import com.catan.model.BoardOccupancy;
+import com.catan.model.CatanGame;
+import com.catan.model.DecisionProvider;
+import com.catan.model.Player;
+import com.catan.model.ResourceType;
+
+/**
+ * Leitet Entscheidungen von Computergegnern an deren {@link MctsBot} weiter,
+ * alle übrigen an den Provider der menschlichen Spieler.
+ */
+public class BotDecisionProvider implements DecisionProvider {
+
+    private final CatanGame game;
+    private final Map<Integer, MctsBot> bots; // Computergegner nach Sitzplatz
+    private final DecisionProvider humans;
+
+    public BotDecisionProvider(CatanGame game, Map<Integer, MctsBot> bots, DecisionProvider humans) {
+        this.game = game;
+        this.bots = bots;
+        this.humans = humans;
+    }
+
+    private MctsBot botOf(Player player) {
+        return bots.get(BoardOccupancy.seatOf(player));
+    }
+
+    /**
+     * Computergegner bestehlen das Opfer, das ihre Suche beim Versetzen des Räubers gewählt hat
+     */
+    @Override
+    public Player chooseStealTarget(Player thief, List<Player> candidates) {
+        MctsBot bot = botOf(thief);
+        return bot != null ? bot.chooseVictim(game, candidates) : humans.chooseStealTarget(thief, candidates);
+    }
+
+    /**
+     * Computergegner lehnen Handelsangebote ab
+     */
+    @Override
+    public boolean acceptTrade(Player offering, Player receiving, Map<ResourceType, Integer> give, Map<ResourceType, Integer> receive) {
+        return botOf(receiving) == null && humans.acceptTrade(offering, receiving, give, receive);
+    }
+
+    /**
+     * Computergegner werfen zufällig ab
+     */
+    @Override
+    public Map<ResourceType, Integer> chooseDiscards(Player player, int count) {
+        return botOf(player) != null ? null : humans.chooseDiscards(player, count);
+    }
+
+    @Override
+    public void robberMustMove(Player player) {
+        if (botOf(player) == null) {
+            humans.robberMustMove(player);
+        }
+    }
+}
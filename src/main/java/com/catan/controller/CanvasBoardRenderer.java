@@ -0,0 +1,420 @@
+package com.catan.controller;
+
+import java.util.Arrays;
+
+import com.catan.model.AuthenticCatanBoard;
+import com.catan.model.BoardHitIndex;
+import com.catan.model.BoardTopology;
+import com.catan.model.CatanGame;
+import com.catan.model.HexCoordinate;
+import com.catan.model.Player;
+import com.catan.model.TerrainTile;
+import com.catan.model.VertexCoordinate;
+import com.catan.util.Diagnostics;
+import com.catan.view.AssetCache;
+
+import javafx.geometry.VPos;
+import javafx.scene.canvas.Canvas;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Pane;
+import javafx.scene.paint.Color;
+import javafx.scene.text.TextAlignment;
+
+/**
+ * Zeichnet das komplette Board in einem Durchgang in eine einzige {@link Canvas}.
+ * Statt hunderter Scene-Graph-Knoten gibt es nur einen; Klicks und Hover werden über das Raster
+ * der Topologie ({@link BoardHitIndex}) auf Hexfelder, Vertices und Edges aufgelöst. Aussehen und Regeln entsprechen
+ * {@link AuthenticBoardController}, baubare Städte werden statt mit Pulsieren mit einem Ring markiert.
+ * Mit {@link #setInteractive(boolean)} lässt sich der Renderer für Zuschauer- und Replay-Ansichten
+ * nur lesend verwenden, sodass viele Boards gleichzeitig dargestellt werden können.
+ */
+public class CanvasBoardRenderer implements BoardRenderer {
+
+    private static final String LOG = "CanvasBoardRenderer"; // Quelle für Diagnose-Ausgaben
+
+    private static final double CANVAS_WIDTH = 800.0;  // wie prefWidth des Board-Panels
+    private static final double CANVAS_HEIGHT = 600.0;
+    private static final double HIT_TOLERANCE = 3.0;   // zusätzlicher Klickradius in Pixeln
+    private static final double TOKEN_RADIUS = 13.0;
+    private static final Color BACKGROUND = Color.web("#87CEFA"); // Hellblau (SkyBlue)
+    private static final Color TOKEN_FILL = Color.web("#FFFFFF", 0.8);
+
+    private final CatanGame game;
+    private final AuthenticCatanBoard board;
+    private final Pane boardPane;
+    private final BoardActions actions;
+    private final Canvas canvas = new Canvas(CANVAS_WIDTH, CANVAS_HEIGHT);
+    private final Tooltip tooltip = new Tooltip();
+    private MainController mainController;
+    private boolean interactive = true;
+
+    // Geometrie: Positionen liefert das Raster der Topologie, hier nur Zeichen-Zusatzdaten über die Ids
+    private final BoardHitIndex hitIndex; // Pixelpositionen und Treffertests
+    private final TerrainTile[] hexTiles;
+    private final double[][] hexCornersX;
+    private final double[][] hexCornersY;
+    private final double[] edgeAngle; // in Grad, wie Node.setRotate
+
+    // Zustand der letzten Zeichnung, für Klicks und Hover
+    private final int[] vertexStates;
+    private final int[] edgeStates;
+    private int hoverVertex = -1;
+    private int hoverEdge = -1;
+    private int hoverHex = -1;
+
+    /**
+     * @param game Das aktuelle CATAN-Spiel
+     * @param boardPane Das UI-Panel, in das die Canvas beim ersten Rendern gelegt wird
+     */
+    public CanvasBoardRenderer(CatanGame game, Pane boardPane) {
+        this.game = game;
+        this.board = game.getBoard();
+        this.boardPane = boardPane;
+        this.actions = new BoardActions(game);
+        
+        BoardTopology topology = board.getTopology();
+        hitIndex = topology.getHitIndex();
+        double hexRadius = topology.getHexSize();
+        hexTiles = new TerrainTile[topology.getHexCount()];
+        hexCornersX = new double[topology.getHexCount()][6];
+        hexCornersY = new double[topology.getHexCount()][6];
+        for (TerrainTile tile : board.getAllTiles().values()) {
+            if (tile.getHexCoordinate() != null) {
+                int hex = topology.getHexId(tile.getHexCoordinate());
+                hexTiles[hex] = tile;
+                // Spitze-Spitze-Ausrichtung wie UIComponents.createHexagon
+                for (int i = 0; i < 6; i++) {
+                    double angle = (2 * Math.PI * i / 6) + Math.PI / 6;
+                    hexCornersX[hex][i] = hitIndex.getHexX(hex) + hexRadius * Math.cos(angle);
+                    hexCornersY[hex][i] = hitIndex.getHexY(hex) + hexRadius * Math.sin(angle);
+                }
+            }
+        }
+        
+        edgeAngle = new double[topology.getEdgeCount()];
+        for (int edge = 0; edge < edgeAngle.length; edge++) {
+            edgeAngle[edge] = topology.getEdge(edge).getRotationAngle(hexRadius, topology.getCenterX(), topology.getCenterY());
+        }
+        
+        vertexStates = new int[topology.getVertexCount()];
+        edgeStates = new int[topology.getEdgeCount()];
+        Arrays.fill(vertexStates, BoardActions.SPOT_BLOCKED);
+        Arrays.fill(edgeStates, BoardActions.SPOT_BLOCKED);
+        
+        canvas.setOnMouseClicked(this::handleClick);
+        canvas.setOnMouseMoved(this::handleMouseMoved);
+        canvas.setOnMouseExited(e -> setHover(-1, -1, -1));
+        Tooltip.install(canvas, tooltip);
+    }
+    
+    @Override
+    public void setMainController(MainController controller) {
+        this.mainController = controller;
+    }
+    
+    /**
+     * @param interactive false für reine Anzeige ohne Klicks und Hover
+     */
+    public void setInteractive(boolean interactive) {
+        this.interactive = interactive;
+        if (!interactive) {
+            setHover(-1, -1, -1);
+        }
+    }
+    
+    public Canvas getCanvas() {
+        return canvas;
+    }
+    
+    /**
+     * Zeichnet das Board neu, sobald der Räuber bewegt wurde, und aktualisiert die Spieleranzeigen.
+     */
+    @Override
+    public void renderBoard() {
+        // Prüfung ob Räuber bereits bewegt wurde (wichtig für Spiellogik)
+        if (game.hasMovedRobber()) {
+            if (canvas.getParent() != boardPane) {
+                boardPane.getChildren().setAll(canvas);
+                boardPane.setStyle("-fx-background-color: #87CEFA;");
+            }
+            updateStates();
+            draw();
+            Diagnostics.debug(LOG, () -> "robber position: " + board.getRobberPosition());
+        }
+        
+        if (mainController != null) {
+            mainController.printPlayerInfo(); // Spieler-Informationen aktualisieren
+            mainController.printResources(); // Ressourcen-Anzeige aktualisieren
+        }
+    }
+    
+    private void updateStates() {
+        Player currentPlayer = game.getCurrentPlayer();
+        BoardTopology topology = board.getTopology();
+        for (int vertex = 0; vertex < vertexStates.length; vertex++) {
+            vertexStates[vertex] = actions.vertexState(topology.getVertex(vertex), currentPlayer);
+        }
+        for (int edge = 0; edge < edgeStates.length; edge++) {
+            edgeStates[edge] = actions.edgeState(topology.getEdge(edge), currentPlayer);
+        }
+    }
+    
+    // === ZEICHNEN ===
+    
+    /**
+     * Zeichnet alle Elemente in der Reihenfolge Hexfelder, Räuber, Nummern-Token,
+     * Siedlungsplätze, Straßenplätze und Spieler-Indikator.
+     */
+    private void draw() {
+        GraphicsContext gc = canvas.getGraphicsContext2D();
+        gc.setGlobalAlpha(1.0);
+        gc.setFill(BACKGROUND);
+        gc.fillRect(0, 0, canvas.getWidth(), canvas.getHeight());
+        
+        // Hexfelder mit geteilter Bildfüllung
+        for (int hex = 0; hex < hexTiles.length; hex++) {
+            if (hexTiles[hex] == null) {
+                continue;
+            }
+            gc.setFill(AssetCache.getTerrainPattern(hexTiles[hex].getTerrainType()));
+            gc.fillPolygon(hexCornersX[hex], hexCornersY[hex], 6);
+            gc.setStroke(hex == hoverHex ? Color.YELLOW : Color.BLACK);
+            gc.setLineWidth(2.0);
+            gc.strokePolygon(hexCornersX[hex], hexCornersY[hex], 6);
+        }
+        
+        // Räuber
+        int robberHex = board.getRobberHexId();
+        double robberSize = AuthenticBoardController.ROBBER_SIZE;
+        gc.drawImage(AssetCache.getRobberImage(),
+            hitIndex.getHexX(robberHex) - robberSize / 2, hitIndex.getHexY(robberHex) - robberSize / 2,
+            robberSize, robberSize);
+        
+        // Nummern-Token
+        gc.setFont(AssetCache.getTokenFont());
+        gc.setTextAlign(TextAlignment.CENTER);
+        gc.setTextBaseline(VPos.CENTER);
+        for (int hex = 0; hex < hexTiles.length; hex++) {
+            if (hexTiles[hex] == null || hexTiles[hex].getNumberToken() <= 0) {
+                continue;
+            }
+            int number = hexTiles[hex].getNumberToken();
+            double x = hitIndex.getHexX(hex);
+            double y = hitIndex.getHexY(hex);
+            gc.setFill(TOKEN_FILL);
+            gc.fillOval(x - TOKEN_RADIUS, y - TOKEN_RADIUS, 2 * TOKEN_RADIUS, 2 * TOKEN_RADIUS);
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(0.5);
+            gc.strokeOval(x - TOKEN_RADIUS, y - TOKEN_RADIUS, 2 * TOKEN_RADIUS, 2 * TOKEN_RADIUS);
+            gc.setFill(number == 6 || number == 8 ? Color.RED : Color.BLACK);
+            gc.fillText(String.valueOf(number), x, y);
+        }
+        
+        for (int vertex = 0; vertex < vertexStates.length; vertex++) {
+            drawVertex(gc, vertex);
+        }
+        for (int edge = 0; edge < edgeStates.length; edge++) {
+            drawEdge(gc, edge);
+        }
+        
+        // Spieler-Indikator
+        gc.setGlobalAlpha(1.0);
+        gc.setFill(AuthenticBoardController.getPlayerColor(game.getCurrentPlayer()));
+        gc.fillRect(30, 20, 20, 20);
+        gc.setStroke(Color.BLACK);
+        gc.setLineWidth(2.0);
+        gc.strokeRect(30, 20, 20, 20);
+    }
+    
+    private void drawVertex(GraphicsContext gc, int vertex) {
+        int state = vertexStates[vertex];
+        double radius = AuthenticBoardController.SETTLEMENT_SIZE;
+        Color fill;
+        Color stroke;
+        double lineWidth;
+        double alpha = 1.0;
+        
+        if (state >= 0) {
+            // Existierendes Gebäude mit Spielerfarbe, Städte größer und dunkler
+            fill = AuthenticBoardController.getPlayerColor(game.getPlayers().get(state / 4));
+            if ((state & 2) != 0) {
+                radius *= 1.5;
+                fill = fill.darker();
+            }
+            stroke = Color.BLACK;
+            lineWidth = 2.0;
+        } else if (state == BoardActions.SPOT_BUILDABLE) {
+            fill = Color.LIGHTGREEN;
+            stroke = Color.DARKGREEN;
+            lineWidth = 1.5;
+        } else {
+            fill = Color.LIGHTGRAY;
+            stroke = Color.GRAY;
+            lineWidth = 0.5;
+            alpha = 0.4;
+        }
+        if (vertex == hoverVertex) {
+            radius *= 1.2;
+        }
+        
+        double x = hitIndex.getVertexX(vertex);
+        double y = hitIndex.getVertexY(vertex);
+        gc.setGlobalAlpha(alpha);
+        gc.setFill(fill);
+        gc.fillOval(x - radius, y - radius, 2 * radius, 2 * radius);
+        gc.setStroke(stroke);
+        gc.setLineWidth(lineWidth);
+        gc.strokeOval(x - radius, y - radius, 2 * radius, 2 * radius);
+        
+        // Ausbaubare Siedlungen statt Pulsieren mit einem Ring markieren
+        if (BoardActions.isUpgradable(state)) {
+            double ring = radius + 3;
+            gc.setStroke(Color.YELLOW);
+            gc.setLineWidth(2.0);
+            gc.strokeOval(x - ring, y - ring, 2 * ring, 2 * ring);
+        }
+    }
+    
+    private void drawEdge(GraphicsContext gc, int edge) {
+        int state = edgeStates[edge];
+        double length = AuthenticBoardController.ROAD_LENGTH;
+        double width = AuthenticBoardController.ROAD_WIDTH;
+        if (edge == hoverEdge) {
+            length *= 1.1;
+            width *= 1.1;
+        }
+        
+        if (state >= 0) {
+            gc.setGlobalAlpha(1.0);
+            gc.setFill(AuthenticBoardController.getPlayerColor(game.getPlayers().get(state)));
+            gc.setStroke(Color.BLACK);
+            gc.setLineWidth(2.0);
+        } else if (state == BoardActions.SPOT_BUILDABLE) {
+            gc.setGlobalAlpha(1.0);
+            gc.setFill(Color.LIGHTBLUE);
+            gc.setStroke(Color.DARKBLUE);
+            gc.setLineWidth(1.5);
+        } else {
+            gc.setGlobalAlpha(0.3);
+            gc.setFill(Color.LIGHTGRAY);
+            gc.setStroke(Color.GRAY);
+            gc.setLineWidth(0.5);
+        }
+        
+        // Rechteck um den Mittelpunkt der Edge drehen, wie Node.setRotate
+        gc.save();
+        gc.translate(hitIndex.getEdgeX(edge), hitIndex.getEdgeY(edge));
+        gc.rotate(edgeAngle[edge]);
+        gc.fillRect(-length / 2, -width / 2, length, width);
+        gc.strokeRect(-length / 2, -width / 2, length, width);
+        gc.restore();
+    }
+    
+    // === TREFFERTEST ===
+    
+    /**
+     * @return Nächster Vertex innerhalb des Klickradius oder -1
+     */
+    int vertexAt(double x, double y) {
+        return hitIndex.nearestVertex(x, y, AuthenticBoardController.SETTLEMENT_SIZE * 1.5 + HIT_TOLERANCE);
+    }
+    
+    /**
+     * @return Edge, deren gedrehtes Straßenrechteck (plus Toleranz) den Punkt enthält, oder -1
+     */
+    int edgeAt(double x, double y) {
+        double halfLength = AuthenticBoardController.ROAD_LENGTH / 2 + HIT_TOLERANCE;
+        double halfWidth = AuthenticBoardController.ROAD_WIDTH / 2 + HIT_TOLERANCE;
+        // Die Rechtecke sind viel kürzer als der Abstand benachbarter Edge-Mittelpunkte,
+        // daher kommt nur die Edge mit dem nächsten Mittelpunkt in Frage
+        int edge = hitIndex.nearestEdge(x, y, Math.hypot(halfLength, halfWidth));
+        if (edge < 0) {
+            return -1;
+        }
+        double angle = Math.toRadians(edgeAngle[edge]);
+        double dx = x - hitIndex.getEdgeX(edge);
+        double dy = y - hitIndex.getEdgeY(edge);
+        // In das Koordinatensystem der Straße zurückdrehen
+        double along = dx * Math.cos(angle) + dy * Math.sin(angle);
+        double across = -dx * Math.sin(angle) + dy * Math.cos(angle);
+        return Math.abs(along) <= halfLength && Math.abs(across) <= halfWidth ? edge : -1;
+    }
+    
+    /**
+     * @return Hexfeld unter dem Punkt oder -1
+     */
+    int hexAt(double x, double y) {
+        int hex = hitIndex.hexAt(x, y);
+        return hex >= 0 && hexTiles[hex] != null ? hex : -1;
+    }
+    
+    // === INTERAKTION ===
+    
+    private void handleClick(MouseEvent e) {
+        if (!interactive) {
+            return;
+        }
+        boolean changed = false;
+        int vertex = vertexAt(e.getX(), e.getY());
+        int edge = vertex < 0 ? edgeAt(e.getX(), e.getY()) : -1;
+        if (vertex >= 0) {
+            VertexCoordinate coordinate = board.getTopology().getVertex(vertex);
+            if (vertexStates[vertex] == BoardActions.SPOT_BUILDABLE) {
+                changed = actions.placeSettlement(coordinate);
+            } else if (BoardActions.isUpgradable(vertexStates[vertex])) {
+                changed = actions.placeCity(coordinate);
+            }
+        } else if (edge >= 0) {
+            if (edgeStates[edge] == BoardActions.SPOT_BUILDABLE) {
+                changed = actions.placeRoad(board.getTopology().getEdge(edge));
+            }
+        } else {
+            int hex = hexAt(e.getX(), e.getY());
+            if (hex >= 0) {
+                HexCoordinate coordinate = board.getTopology().getHex(hex);
+                changed = actions.moveRobber(coordinate);
+            }
+        }
+        if (changed) {
+            renderBoard(); // Board nach Änderung neu zeichnen
+        }
+    }
+    
+    private void handleMouseMoved(MouseEvent e) {
+        if (!interactive) {
+            return;
+        }
+        int vertex = vertexAt(e.getX(), e.getY());
+        int edge = vertex < 0 ? edgeAt(e.getX(), e.getY()) : -1;
+        int hex = vertex < 0 && edge < 0 ? hexAt(e.getX(), e.getY()) : -1;
+        // Hervorhebung wie im Knoten-Renderer nur für klickbare Plätze
+        setHover(vertex >= 0 && BoardActions.isClickable(vertexStates[vertex]) ? vertex : -1,
+            edge >= 0 && edgeStates[edge] == BoardActions.SPOT_BUILDABLE ? edge : -1, hex);
+        tooltip.setText(tooltipText(vertex, edge));
+    }
+    
+    private String tooltipText(int vertex, int edge) {
+        if (vertex >= 0) {
+            int state = vertexStates[vertex];
+            return state >= 0 ? "Gebäude vorhanden" : state == BoardActions.SPOT_BLOCKED ? "Nicht bebaubar" : "Klicken für Siedlung";
+        }
+        if (edge >= 0) {
+            int state = edgeStates[edge];
+            return state >= 0 ? "Straße vorhanden" : state == BoardActions.SPOT_BLOCKED ? "Straße nicht möglich" : "Klicken für Straße";
+        }
+        return "Farbe von: " + game.getCurrentPlayer().getName();
+    }
+    
+    private void setHover(int vertex, int edge, int hex) {
+        if (vertex != hoverVertex || edge != hoverEdge || hex != hoverHex) {
+            hoverVertex = vertex;
+            hoverEdge = edge;
+            hoverHex = hex;
+            if (canvas.getParent() != null) {
+                draw();
+            }
+        }
+    }
+}
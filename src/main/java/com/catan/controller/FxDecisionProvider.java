@@ -0,0 +1,87 @@
+package com.catan.controller;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.catan.model.DecisionProvider;
+import com.catan.model.Player;
+import com.catan.model.ResourceType;
+
+import javafx.scene.control.Alert;
+import javafx.scene.control.ButtonType;
+import javafx.scene.control.ChoiceDialog;
+
+/**
+ * JavaFX-Implementierung des {@link DecisionProvider}.
+ * Fragt Entscheidungen über modale Dialoge beim Benutzer ab.
+ */
+public class FxDecisionProvider implements DecisionProvider {
+
+    /**
+     * Zeigt einen Auswahl-Dialog, bis ein Spieler zum Bestehlen gewählt wurde
+     */
+    @Override
+    public Player chooseStealTarget(Player thief, List<Player> candidates) {
+        Optional<Player> result = Optional.empty();
+
+        // Wiederholung bis gültige Auswahl
+        while (result.isEmpty()) {
+            ChoiceDialog<Player> dialog = new ChoiceDialog<>(candidates.get(0), candidates);
+            dialog.setTitle("Spieler auswählen");
+            dialog.setHeaderText("Wähle einen Spieler aus, von dem du klauen willst:");
+            dialog.setContentText("Spieler:");
+
+            result = dialog.showAndWait();
+
+            if (result.isEmpty()) {
+                // Warnung bei fehlender Auswahl
+                Alert alert = new Alert(Alert.AlertType.WARNING);
+                alert.setTitle("Auswahl erforderlich");
+                alert.setHeaderText("Du musst einen Spieler auswählen!");
+                alert.setContentText("Bitte wähle einen Spieler aus der Liste.");
+                alert.showAndWait();
+            }
+        }
+        return result.get();
+    }
+
+    /**
+     * Zeigt einen Bestätigungs-Dialog für eine Handelsanfrage
+     */
+    @Override
+    public boolean acceptTrade(Player offering, Player receiving, Map<ResourceType, Integer> give, Map<ResourceType, Integer> receive) {
+        List<String> fromOffering = give.entrySet().stream()
+            .map(e -> e.getValue() + " " + e.getKey().getGermanName())
+            .toList();
+
+        List<String> fromReceiving = receive.entrySet().stream()
+            .map(e -> e.getValue() + " " + e.getKey().getGermanName())
+            .toList();
+
+        String tradeMessage = offering.getName() + " möchte dir, " + receiving.getName() + ", "
+            + String.join(", ", fromOffering)
+            + " geben und dafür "
+            + String.join(", ", fromReceiving)
+            + " von dir erhalten.\n\nMöchtest du diesen Handel annehmen?";
+
+        Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
+        alert.setTitle("Handelsanfrage");
+        alert.setHeaderText("Handel mit " + offering.getName());
+        alert.setContentText(tradeMessage);
+
+        Optional<ButtonType> result = alert.showAndWait();
+        return result.isPresent() && result.get() == ButtonType.OK;
+    }
+
+    /**
+     * Zeigt den Hinweis, dass der Räuber versetzt werden muss
+     */
+    @Override
+    public void robberMustMove(Player player) {
+        Alert alert = new Alert(Alert.AlertType.INFORMATION);
+        alert.setTitle("7 gewürfelt");
+        alert.setContentText("Räuber muss versetzt werden vor weiteren Handlungen!\nKlicke dafür auf ein gewünschtes Feld und verschiebe somit den Räuber");
+        alert.showAndWait();
+    }
+}
@@ -1,18 +1,32 @@
 package com.catan.controller;
 
+import java.io.File;
 import java.io.IOException;
 import java.net.URL;
+import java.time.Duration;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
+import com.catan.ai.MctsBot;
+import com.catan.model.BoardOccupancy;
 import com.catan.model.CatanGame;
+import com.catan.model.GameAction;
+import com.catan.model.GameState;
 import com.catan.model.Player;
 import com.catan.model.ResourceType;
 import com.catan.model.TradeOffer;
+import com.catan.storage.GameCodec;
+import com.catan.storage.SavedGame;
+import com.catan.util.Diagnostics;
 
 import javafx.application.HostServices;
+import javafx.application.Platform;
 import javafx.fxml.FXML;
 import javafx.fxml.FXMLLoader;
 import javafx.fxml.Initializable;
@@ -20,6 +34,7 @@ import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Alert;
 import javafx.scene.control.Button;
+import javafx.scene.control.CheckBox;
 import javafx.scene.control.Label;
 import javafx.scene.control.MenuBar;
 import javafx.scene.control.ScrollPane;
@@ -28,6 +43,7 @@ import javafx.scene.control.TextField;
 import javafx.scene.layout.BorderPane;
 import javafx.scene.layout.Pane;
 import javafx.scene.layout.VBox;
+import javafx.stage.FileChooser;
 import javafx.stage.Modality;
 import javafx.stage.Stage;
 
@@ -43,6 +59,10 @@ public class MainController implements Initializable {
     @FXML private TextField player2Field;
     @FXML private TextField player3Field;
     @FXML private TextField player4Field;
+    @FXML private CheckBox player1Bot;
+    @FXML private CheckBox player2Bot;
+    @FXML private CheckBox player3Bot;
+    @FXML private CheckBox player4Bot;
     @FXML private Button startGameButton;
     
     // Spiel-UI-Komponenten
@@ -70,9 +90,20 @@ public class MainController implements Initializable {
     
     // Spiel-Logik und Controller
     private CatanGame game;
-    private AuthenticBoardController boardController;
+    private BoardRenderer boardController;
     private BankTradeController bankTradeController;
     private HostServices hostServices; // Für das Öffnen von externen Links
+    private static final String SAVE_GAME_EXTENSION = ".catan"; // Dateiendung für Spielstände
+    private static final Duration BOT_THINKING_TIME = Duration.ofSeconds(1); // Bedenkzeit pro Entscheidung
+
+    // Computergegner
+    private final Map<Integer, MctsBot> bots = new HashMap<>(); // Computergegner nach Sitzplatz
+    private boolean botThinking; // Ob gerade eine Suche für den aktuellen Spieler läuft
+    private final ExecutorService botDriver = Executors.newSingleThreadExecutor(runnable -> {
+        Thread thread = new Thread(runnable, "catan-bot"); // Sucht außerhalb des JavaFX-Threads
+        thread.setDaemon(true);
+        return thread;
+    });
 
 
 
@@ -112,20 +143,17 @@ public class MainController implements Initializable {
      */
     @FXML
     private void startGame() {
-        // Spielernamen aus den Textfeldern sammeln
+        // Spielernamen und Computergegner aus den Eingabefeldern sammeln
         List<String> playerNames = new ArrayList<>();
+        List<Boolean> botSeats = new ArrayList<>();
+        TextField[] nameFields = {player1Field, player2Field, player3Field, player4Field};
+        CheckBox[] botBoxes = {player1Bot, player2Bot, player3Bot, player4Bot};
         
-        if (!player1Field.getText().trim().isEmpty()) {
-            playerNames.add(player1Field.getText().trim());
-        }
-        if (!player2Field.getText().trim().isEmpty()) {
-            playerNames.add(player2Field.getText().trim());
-        }
-        if (!player3Field.getText().trim().isEmpty()) {
-            playerNames.add(player3Field.getText().trim());
-        }
-        if (!player4Field.getText().trim().isEmpty()) {
-            playerNames.add(player4Field.getText().trim());
+        for (int i = 0; i < nameFields.length; i++) {
+            if (!nameFields[i].getText().trim().isEmpty()) {
+                playerNames.add(nameFields[i].getText().trim());
+                botSeats.add(botBoxes[i].isSelected());
+            }
         }
         
         // Mindestens 2 Spieler benötigt
@@ -134,29 +162,17 @@ public class MainController implements Initializable {
             return;
         }
         
+        // Sitzplätze ohne Lücken vergeben, jeder Computergegner erhält einen eigenen Bot
+        bots.clear();
+        for (int seat = 0; seat < botSeats.size(); seat++) {
+            if (botSeats.get(seat)) {
+                bots.put(seat, new MctsBot(BOT_THINKING_TIME));
+            }
+        }
+        
         try {
             // Neues Spiel mit authentischem CATAN-Board erstellen
-            game = new CatanGame(playerNames);
-            
-            // Controller für Bank- und Spielerhandel initialisieren
-            bankTradeController = new BankTradeController(game);
-            
-            // Board-Controller erstellen und initialisieren
-            boardController = new AuthenticBoardController(game, gamePane);
-            boardController = new AuthenticBoardController(game, gamePane);
-            boardController.setMainController(this); // Controller-Referenz übergeben
-            
-            // Spielbrett rendern
-            boardController.renderBoard();
-            
-            // Spiel-Interface anzeigen
-            playerSetupBox.setVisible(false);
-            gameControlsBox.setVisible(true);
-            boardScrollPane.setVisible(true);
-            
-            // UI aktualisieren
-            updateGameStatus();
-            
+            showGame(new CatanGame(playerNames));
         } catch (Exception e) {
             gameStatusLabel.setText("Error starting game: " + e.getMessage());
             e.printStackTrace();
@@ -166,6 +182,36 @@ public class MainController implements Initializable {
         printPlayerInfo();
         printResources();
         gameLogArea.appendText(game.getCurrentPlayer().getName() + ": Beginnt das Spiel.\n");
+        playBotTurns();
+    }
+
+    /**
+     * Übernimmt ein neues oder geladenes Spiel und zeigt es an
+     */
+    private void showGame(CatanGame newGame) {
+        game = newGame;
+        // Entscheidungen über JavaFX-Dialoge, für Computergegner über deren Suche
+        game.setDecisionProvider(new BotDecisionProvider(game, bots, new FxDecisionProvider()));
+        botThinking = false;
+        
+        // Controller für Bank- und Spielerhandel initialisieren
+        bankTradeController = new BankTradeController(game);
+        
+        // Board-Controller erstellen und initialisieren
+        boardController = BoardRenderer.create(game, gamePane);
+        boardController.setMainController(this); // Controller-Referenz übergeben
+        
+        // Spielbrett rendern
+        boardController.renderBoard();
+        
+        // Spiel-Interface anzeigen
+        playerSetupBox.setVisible(false);
+        gameControlsBox.setVisible(true);
+        gamePane.setVisible(true);
+        boardScrollPane.setVisible(true);
+        
+        // UI aktualisieren
+        updateGameStatus();
     }
 
     /**
@@ -246,11 +292,20 @@ public class MainController implements Initializable {
      */
     @FXML
     private void showTradeResponseWindow(TradeOffer offer) {
+        // Computergegner antworten über den DecisionProvider, ohne Fenster
+        if (bots.containsKey(BoardOccupancy.seatOf(offer.getToPlayer()))) {
+            String result = game.handlePlayerTrade(offer.getToPlayer(),
+                Map.of(offer.getGiveResource(), offer.getGiveAmount()),
+                Map.of(offer.getReceiveResource(), offer.getReceiveAmount()));
+            gameLogArea.appendText(result + "\n");
+            return;
+        }
         try {
             FXMLLoader loader = new FXMLLoader(getClass().getResource("/tradeResponse.fxml"));
             Parent root = loader.load();
 
             TradeResponseController ctrl = loader.getController();
+            ctrl.setGame(game);
             ctrl.setTradeOffer(offer); // Handelsangebot übergeben
 
             // Antwort-Popup konfigurieren und anzeigen
@@ -358,9 +413,94 @@ public class MainController implements Initializable {
                 game.setHasRolledDice(false); // Für nächste Phase zurücksetzen
         		boardController.renderBoard();
             }
+            playBotTurns();
         }
     }
     
+    /**
+     * Lässt Computergegner ziehen, solange einer am Zug ist.
+     * Jede Entscheidung wird auf einer Momentaufnahme im Hintergrund gesucht und danach
+     * im JavaFX-Thread angewendet; Brett und Bedienelemente sind währenddessen gesperrt.
+     */
+    private void playBotTurns() {
+        if (game == null || botThinking) {
+            return;
+        }
+        MctsBot bot = game.isGameFinished() ? null : bots.get(game.getCurrentPlayerIndex());
+        gameControlsBox.setDisable(bot != null);
+        gamePane.setDisable(bot != null);
+        if (bot == null) {
+            return;
+        }
+        
+        // Würfeln ist keine Entscheidung und läuft wie beim menschlichen Spieler
+        if (game.getCurrentPhase() == CatanGame.GamePhase.PLAYING && !game.hasRolledDice()) {
+            rollDice();
+        }
+        
+        CatanGame current = game;
+        GameState state = game.snapshot();
+        botThinking = true;
+        CompletableFuture.supplyAsync(() -> bot.chooseAction(state), botDriver)
+            .whenComplete((action, error) -> Platform.runLater(() -> {
+                if (game != current) {
+                    return; // Inzwischen neues oder geladenes Spiel
+                }
+                botThinking = false;
+                if (error != null) {
+                    showError("Computergegner konnte nicht ziehen", new IllegalStateException(error));
+                    return;
+                }
+                applyBotAction(bot, action);
+                playBotTurns();
+            }));
+    }
+    
+    /**
+     * Führt die Entscheidung eines Computergegners aus und aktualisiert die Anzeige
+     */
+    private void applyBotAction(MctsBot bot, GameAction action) {
+        Player player = game.getCurrentPlayer();
+        if (action instanceof GameAction.EndTurn) {
+            endTurn();
+            return;
+        }
+        if (action instanceof GameAction.MoveRobber) {
+            GameAction.MoveRobber move = (GameAction.MoveRobber) action;
+            bot.setPendingRobber(move);
+            game.moveRobber(game.getBoard().getTopology().getHex(move.hex()));
+            gameLogArea.appendText(player.getName() + ": Versetzt den Räuber.\n");
+            if (game.getStolenResourcesLog() != null) {
+                gameLogArea.appendText(game.getStolenResourcesLog() + "\n");
+            }
+        } else {
+            game.apply(action);
+            gameLogArea.appendText(player.getName() + ": " + describeBotAction(action) + "\n");
+        }
+        boardController.renderBoard();
+        updateGameStatus();
+        printPlayerInfo();
+        printResources();
+    }
+    
+    private static String describeBotAction(GameAction action) {
+        if (action instanceof GameAction.PlaceSettlement) {
+            return "Baut eine Siedlung.";
+        }
+        if (action instanceof GameAction.PlaceCity) {
+            return "Baut eine Stadt.";
+        }
+        if (action instanceof GameAction.PlaceRoad) {
+            return "Baut eine Straße.";
+        }
+        if (action instanceof GameAction.BankTrade) {
+            GameAction.BankTrade trade = (GameAction.BankTrade) action;
+            return "Tauscht " + GameState.BANK_TRADE_RATIO + " " + trade.give().getGermanName()
+                + " gegen 1 " + trade.receive().getGermanName() + ".";
+        }
+        return action.toString();
+    }
+    
     /**
      * Aktualisiert den Spielstatus und die UI-Elemente
      */
@@ -445,7 +585,7 @@ public class MainController implements Initializable {
         
         sb.append(lumber).append(brick).append(wool).append(grain).append(ore);
         resourceLine.setText(sb.toString());
-        System.out.println("Ressourcen aktualisiert: " + sb.toString());
+        Diagnostics.debug("MainController", () -> "Ressourcen aktualisiert: " + sb);
     }
 
     /**
@@ -453,7 +593,7 @@ public class MainController implements Initializable {
      */
     @FXML
 	private void handleNewGame() {
-	    System.out.println("Neues Spiel gestartet!");
+	    Diagnostics.info("MainController", () -> "Neues Spiel gestartet!");
 	    
 	    // Setup-Panel anzeigen
 	    playerSetupBox.setVisible(true);
@@ -467,17 +607,98 @@ public class MainController implements Initializable {
 	    player2Field.clear();
 	    player3Field.clear();
 	    player4Field.clear();
+	    player1Bot.setSelected(false);
+	    player2Bot.setSelected(false);
+	    player3Bot.setSelected(false);
+	    player4Bot.setSelected(false);
+	    
+	    // Laufende Computerzüge verwerfen
+	    game = null;
+	    bots.clear();
+	    gameControlsBox.setDisable(false);
+	    gamePane.setDisable(false);
 	    
 	    // Status-Label zurücksetzen
 	    gameStatusLabel.setText("");
 	}
     
+    /**
+     * Speichert das laufende Spiel in eine Spielstanddatei
+     */
+    @FXML
+    private void handleSaveGame() {
+        if (game == null) {
+            return;
+        }
+        FileChooser chooser = createSaveGameChooser("Spiel speichern");
+        File file = chooser.showSaveDialog(rootPane.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        try {
+            GameCodec.write(file.toPath(), List.of(SavedGame.of(game)));
+            gameLogArea.appendText("Spiel gespeichert: " + file.getName() + "\n");
+        } catch (IOException e) {
+            showError("Spiel konnte nicht gespeichert werden", e);
+        }
+    }
+
+    /**
+     * Lädt den ersten Spielstand einer Spielstanddatei
+     */
+    @FXML
+    private void handleLoadGame() {
+        FileChooser chooser = createSaveGameChooser("Spiel laden");
+        File file = chooser.showOpenDialog(rootPane.getScene().getWindow());
+        if (file == null) {
+            return;
+        }
+        try {
+            List<SavedGame> saved = GameCodec.read(file.toPath());
+            if (saved.isEmpty()) {
+                throw new IOException("Die Datei enthält keinen Spielstand");
+            }
+            // Spielstände enthalten keine Computergegner, alle Sitzplätze werden menschlich gespielt
+            bots.clear();
+            showGame(saved.get(0).restore());
+            gameControlsBox.setDisable(false);
+            gamePane.setDisable(false);
+            
+            // Würfeln nur anbieten, wenn im geladenen Zug noch nicht gewürfelt wurde
+            if (game.getCurrentPhase() == CatanGame.GamePhase.PLAYING && !game.isGameFinished()) {
+                rollDiceButton.setDisable(game.hasRolledDice());
+            }
+            gameLogArea.appendText("Spiel geladen: " + file.getName() + "\n");
+            printPlayerInfo();
+            printResources();
+        } catch (IOException | RuntimeException e) {
+            showError("Spiel konnte nicht geladen werden", e);
+        }
+    }
+
+    private FileChooser createSaveGameChooser(String title) {
+        FileChooser chooser = new FileChooser();
+        chooser.setTitle(title);
+        chooser.getExtensionFilters().add(new FileChooser.ExtensionFilter("CATAN-Spielstand", "*" + SAVE_GAME_EXTENSION));
+        chooser.setInitialFileName("spielstand" + SAVE_GAME_EXTENSION);
+        return chooser;
+    }
+
+    private void showError(String header, Exception e) {
+        Diagnostics.warn("MainController", () -> header + ": " + e.getMessage());
+        Alert alert = new Alert(Alert.AlertType.ERROR);
+        alert.setTitle("Fehler");
+        alert.setHeaderText(header);
+        alert.setContentText(e.getMessage());
+        alert.showAndWait();
+    }
+
     /**
      * Beendet die Anwendung
      */
     @FXML
     private void handleExit() {
-        System.out.println("Spiel wird beendet...");
+        Diagnostics.info("MainController", () -> "Spiel wird beendet...");
         System.exit(0); // Anwendung schließen
     }
 
@@ -1,7 +1,11 @@
 package com.catan.controller;
 
+import java.util.Map;
+
+import com.catan.model.CatanGame;
 import com.catan.model.Player;
 import com.catan.model.TradeOffer;
+import com.catan.util.Diagnostics;
 
 import javafx.fxml.FXML;
 import javafx.scene.control.Alert;
@@ -14,10 +18,15 @@ public class TradeResponseController {
     private Label offerLabel;
 
     private TradeOffer offer;
+    private CatanGame game;
+
+    public void setGame(CatanGame game) {
+        this.game = game;
+    }
 
     public void setTradeOffer(TradeOffer offer) {
         this.offer = offer;
-        System.out.println("TradeOffer gesetzt: " + offer);
+        Diagnostics.debug("TradeResponseController", () -> "TradeOffer gesetzt: " + offer);
         if (offerLabel != null) {
             offerLabel.setText(
                 offer.getFromPlayer().getName() + " bietet " +
@@ -30,22 +39,13 @@ public class TradeResponseController {
 
     @FXML
     private void acceptTrade() {
-        Player from = offer.getFromPlayer();
         Player to = offer.getToPlayer();
 
-        // Ressourcen prüfen
-        boolean fromHasEnough = from.getResources().getOrDefault(offer.getGiveResource(), 0) >= offer.getGiveAmount();
-        boolean toHasEnough   = to.getResources().getOrDefault(offer.getReceiveResource(), 0) >= offer.getReceiveAmount();
-
-
-        if (fromHasEnough && toHasEnough) {
-            // Handel durchführen
-            from.removeResource(offer.getGiveResource(), offer.getGiveAmount());
-            to.addResource(offer.getGiveResource(), offer.getGiveAmount());
-
-            to.removeResource(offer.getReceiveResource(), offer.getReceiveAmount());
-            from.addResource(offer.getReceiveResource(), offer.getReceiveAmount());
-
+        // Über das Spiel ausführen, damit der Handel geprüft und im Aktions-Log protokolliert wird
+        boolean traded = game.offerTrade(to,
+            Map.of(offer.getGiveResource(), offer.getGiveAmount()),
+            Map.of(offer.getReceiveResource(), offer.getReceiveAmount()));
+        if (traded) {
             showInfo("Handel erfolgreich!");
         } else {
             showError("Mindestens ein Spieler hat nicht genug Ressourcen.");
@@ -0,0 +1,101 @@
+package com.catan.model;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Geordnete Aufzeichnung aller Zustandsänderungen einer Partie.
+ * Zusammen mit dem Seed reicht das Log, um die Partie per {@link CatanGame#replay} exakt wiederherzustellen;
+ * für Netzwerk-Synchronisation genügen die Einträge ab einem bekannten Index ({@link #since(int)}).
+ * Das Log selbst ist nicht threadsicher, Listener werden synchron beim Anhängen aufgerufen.
+ */
+public final class ActionLog implements Iterable<GameAction> {
+
+    private final List<GameAction> actions = new ArrayList<>();
+    private final List<Consumer<GameAction>> listeners = new CopyOnWriteArrayList<>();
+
+    /**
+     * Hängt eine Aktion an und benachrichtigt alle Listener.
+     */
+    public void append(GameAction action) {
+        actions.add(action);
+        for (Consumer<GameAction> listener : listeners) {
+            listener.accept(action);
+        }
+    }
+
+    public int size() {
+        return actions.size();
+    }
+
+    public GameAction get(int index) {
+        return actions.get(index);
+    }
+
+    /**
+     * @return Kopie aller Aktionen ab dem Index (für Deltas an Clients, die bis dahin synchron sind)
+     */
+    public List<GameAction> since(int fromIndex) {
+        return List.copyOf(actions.subList(fromIndex, actions.size()));
+    }
+
+    /**
+     * @return Unveränderliche Sicht auf alle Aktionen
+     */
+    public List<GameAction> asList() {
+        return Collections.unmodifiableList(actions);
+    }
+
+    @Override
+    public Iterator<GameAction> iterator() {
+        return asList().iterator();
+    }
+
+    public void addListener(Consumer<GameAction> listener) {
+        listeners.add(listener);
+    }
+
+    public void removeListener(Consumer<GameAction> listener) {
+        listeners.remove(listener);
+    }
+
+    // === SERIALISIERUNG ===
+
+    /**
+     * Schreibt alle Aktionen per Java-Serialisierung in den Stream.
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        ObjectOutputStream objects = new ObjectOutputStream(out);
+        objects.writeInt(actions.size());
+        for (GameAction action : actions) {
+            objects.writeObject(action);
+        }
+        objects.flush();
+    }
+
+    /**
+     * Liest Aktionen, die mit {@link #writeTo(OutputStream)} geschrieben wurden.
+     */
+    public static List<GameAction> readFrom(InputStream in) throws IOException {
+        ObjectInputStream objects = new ObjectInputStream(in);
+        int count = objects.readInt();
+        List<GameAction> read = new ArrayList<>(count);
+        try {
+            for (int i = 0; i < count; i++) {
+                read.add((GameAction) objects.readObject());
+            }
+        } catch (ClassNotFoundException | ClassCastException e) {
+            throw new IOException("Ungültiges Aktions-Log", e);
+        }
+        return read;
+    }
+}
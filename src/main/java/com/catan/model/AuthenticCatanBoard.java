@@ -4,10 +4,13 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.random.RandomGenerator;
+
+import com.catan.util.Diagnostics;
 
 /**
  * Authentisches CATAN-Board mit exakt 54 Siedlungsplätzen und 72 Straßenpositionen.
@@ -32,63 +35,88 @@ public class AuthenticCatanBoard {
     private static final double SETTLEMENT_SIZE = 8.0;
     private static final double ROAD_LENGTH = 20.0;
     private static final double ROAD_WIDTH = 4.0;
-
-    private static final Set<HexCoordinate> STANDARD_HEX_SET = new HashSet<>(STANDARD_HEX_POSITIONS);
-
-    // Konstanten
-    private final double hexSize;
-    private final double centerX;
-    private final double centerY;
+    private static final double VERTEX_PICK_TOLERANCE = 2 * Math.sqrt(2); // Ecke des ±2-Quadrats von RoundedPoint2D
 
     private final Map<HexCoordinate, TerrainTile> hexTiles;
     private final Map<VertexCoordinate, Building> buildings;
     private final Map<EdgeCoordinate, Road> roads;
+    private final Map<VertexCoordinate, Building> buildingsView;
+    private final Map<EdgeCoordinate, Road> roadsView;
     private HexCoordinate robberPosition;
 
-    //die obere sollte für euch nur wichtig sein, ist Ausgabe von validEdges()
-    //gibt gibt map aus mit der man normalisieren kann validEdges.get(edge) -> normalisiert
-    private final Set<EdgeCoordinate> uniqueEdges;
+    // Ganzzahlige Topologie und Geometrie-Maps, von allen Boards mit diesem Layout geteilt
+    private final BoardTopology topology;
+    private final TerrainTile[] tilesById;
     
-    
-    //die obere sollte für euch nur wichtig sein, ist Ausgabe von validVertices()
-    //gibt gibt map aus mit der man normalisieren kann validVertices.get(vertex) -> normalisiert
-    private final Map<VertexCoordinate, VertexCoordinate> normalizedVerticeMap;
-    private final Map<RoundedPoint2D, List<VertexCoordinate>> coordVerticeMap;
-    private  final Map<RoundedPoint2D, VertexCoordinate> normalizedCatanCoordMap;
-    private final Map<VertexCoordinate, List<VertexCoordinate>> normalizedToUnnormalized;
+    // Bitboard-Belegung als maßgeblicher Speicher für Regelprüfungen, die Maps dienen als Sicht für die UI
+    private final BoardOccupancy occupancy;
 
     // === Neuer Default-Konstruktor ===
     
 
     // === Dein bisheriger Konstruktor bleibt bestehen ===
     public AuthenticCatanBoard() {
-        hexSize = this.HEX_RADIUS;
-        centerX = this.BOARD_CENTER_X;
-        centerY = this.BOARD_CENTER_Y;
+        this(new SplittableRandom());
+    }
+    
+    /**
+     * Erzeugt ein Board, dessen Layout vollständig durch die Zufallsquelle bestimmt ist.
+     * @param random Zufallsquelle für das Mischen von Terrain und Zahlenchips
+     */
+    public AuthenticCatanBoard(RandomGenerator random) {
+        this(standardTopology());
+        initializeHexBoard(random);
+        logInitialized();
+    }
 
+    /**
+     * Erzeugt ein leeres Board mit vorgegebenem Terrain und Zahlenchips, z.B. aus einem Spielstand.
+     * Der Räuber steht wie beim Spielstart auf der Wüste.
+     * @param layout Layout auf der Standard-Topologie ({@link #standardTopology()})
+     */
+    public AuthenticCatanBoard(BoardLayout layout) {
+        this(standardTopology());
+        if (layout.getTopology() != topology) {
+            throw new IllegalArgumentException("Layout gehört nicht zur Standard-Topologie");
+        }
+        for (int h = 0; h < tilesById.length; h++) {
+            placeTile(topology.getHex(h), layout.getTerrain(h), layout.getNumber(h));
+        }
+        logInitialized();
+    }
+
+    // Gemeinsame Felder ohne Terrain
+    private AuthenticCatanBoard(BoardTopology topology) {
         this.hexTiles = new HashMap<>();
         this.buildings = new HashMap<>();
         this.roads = new HashMap<>();
-        //maps
-        //54 rounded coords to 114 unnormalized catan coords
-        this.coordVerticeMap = calculateAuthenticVertices();
-        //114 catan coords to 54 normalized catan coords
-        this.normalizedVerticeMap = createNormalizeVertexMap(coordVerticeMap);
-        //54 rounded coords to 54 normalized catan coords
-        this.normalizedCatanCoordMap = getNormalizedCatanCoordsHelper(coordVerticeMap);
-        //54 normalized auf die 114 unnormalized
-        this.normalizedToUnnormalized = mapNormalizedToUnnormalized();
-        
-        this.uniqueEdges = calculateAuthenticEdges();
-        
-        initializeHexBoard();
+        this.buildingsView = Collections.unmodifiableMap(buildings);
+        this.roadsView = Collections.unmodifiableMap(roads);
+        this.topology = topology;
+        this.tilesById = new TerrainTile[topology.getHexCount()];
+        this.occupancy = new BoardOccupancy(topology);
+    }
 
-        System.out.println("✓ Authentisches CATAN-Board initialisiert: " +
-                           normalizedVerticeMap.size() + " Siedlungen, " +
-                           uniqueEdges.size() + " Straßen"); //eigentlich unnötige Abfrage
+    /**
+     * @return Topologie des Standard-Boards, von allen Instanzen geteilt
+     */
+    public static BoardTopology standardTopology() {
+        return StandardTopology.INSTANCE;
+    }
+
+    // Einmalige Cache-Abfrage statt Hashen der Hex-Liste bei jedem Aufruf
+    private static final class StandardTopology {
+        static final BoardTopology INSTANCE =
+            BoardTopology.forLayout(STANDARD_HEX_POSITIONS, HEX_RADIUS, BOARD_CENTER_X, BOARD_CENTER_Y);
+    }
+
+    private void logInitialized() {
+        Diagnostics.debug("AuthenticCatanBoard", () -> "✓ Authentisches CATAN-Board initialisiert: " +
+                           topology.getVertexCount() + " Siedlungen, " +
+                           topology.getEdgeCount() + " Straßen");
     }
     
-    private void initializeHexBoard() {
+    private void initializeHexBoard(RandomGenerator random) {
         // Standard CATAN Terrain-Verteilung
         List<TerrainType> terrainTypes = new ArrayList<>(Arrays.asList(
             TerrainType.FOREST, TerrainType.FOREST, TerrainType.FOREST, TerrainType.FOREST,
@@ -105,8 +133,8 @@ public class AuthenticCatanBoard {
         ));
         
         // Mische für zufälliges Board
-        Collections.shuffle(terrainTypes);
-        Collections.shuffle(numbers);
+        shuffle(terrainTypes, random);
+        shuffle(numbers, random);
         
         int numberIndex = 0;
         
@@ -120,91 +148,28 @@ public class AuthenticCatanBoard {
                 numberToken = numbers.get(numberIndex++);
             }
             
-            TerrainTile tile = new TerrainTile(terrain, numberToken, pos);
-            hexTiles.put(pos, tile);
-            
-            // Setze initiale Räuber-Position auf Wüste
-            if (terrain == TerrainType.DESERT) {
-                robberPosition = pos;
-            }
+            placeTile(pos, terrain, numberToken);
         }
     }
-    
-    /**
-     * Berechnet die authentischen 54 Siedlungsplätze eines CATAN-Boards.
-     * Verwendet eine vereinfachte Strategie um exakt die korrekten Positionen zu generieren.
-     */
-    /**
-     * Berechnet die authentischen 54 Siedlungspositionen (Vertices) des CATAN-Boards.
-     */
-    //alle diese Map Sachen ignorieren, sorgt nur für dafür Vertice maps brauchbar zu initialisieren
-    private Map<RoundedPoint2D, List<VertexCoordinate>> calculateAuthenticVertices() {
-        Map<RoundedPoint2D, List<VertexCoordinate>> verticeMap = new HashMap<>();
-        for (HexCoordinate hex : STANDARD_HEX_SET) {
-            int q = hex.getQ();
-            int r = hex.getR();
-
-            for (int dir = 0; dir < 6; dir++) {
-            	
-                VertexCoordinate vertex = new VertexCoordinate(q, r, dir);
-                RoundedPoint2D rounded = vertex.toPixel(hexSize, centerX, centerY);
 
-                System.out.println("Vertex dir=" + dir + " q: " + q + " r: " + r +
-                        " x=" + rounded.getX() + " roundedX=" + rounded.x +
-                        " y=" + rounded.getY() + " roundedY=" + rounded.y);
-                verticeMap.computeIfAbsent(rounded, k -> new ArrayList<>()).add(vertex);
-                                
-
-                
-            }
-        }
-        for (Map.Entry<RoundedPoint2D, List<VertexCoordinate>> entry : verticeMap.entrySet()) {
-            RoundedPoint2D key = entry.getKey();
-            List<VertexCoordinate> value = entry.getValue();
-            System.out.println("Key X: " + key.getX() + "Key Y: " + key.getY() + ", Value: " + value);
+    private void placeTile(HexCoordinate pos, TerrainType terrain, int numberToken) {
+        TerrainTile tile = new TerrainTile(terrain, numberToken, pos);
+        hexTiles.put(pos, tile);
+        tilesById[topology.getHexId(pos)] = tile;
+        
+        // Setze initiale Räuber-Position auf Wüste
+        if (terrain == TerrainType.DESERT) {
+            robberPosition = pos;
         }
-
-        return verticeMap;
     }
     
-    
-    private Set<EdgeCoordinate> calculateAuthenticEdges() {
-    	Set<EdgeCoordinate> edgeSet = new HashSet<>();
-    	for (VertexCoordinate currentVertex : normalizedVerticeMap.values()) {
-    		for (VertexCoordinate vertex : currentVertex.getAdjacentVertices(hexSize, centerX, centerY, normalizedCatanCoordMap, normalizedVerticeMap)) {
-    			EdgeCoordinate currentEdge = new EdgeCoordinate(currentVertex, vertex);
-    			if (!edgeSet.contains(currentEdge)) {
-    				edgeSet.add(currentEdge);
-    			}
-    		}
-    	}
-    	return edgeSet;
-    }
-        
-private Map<VertexCoordinate, VertexCoordinate> createNormalizeVertexMap(Map<RoundedPoint2D, List<VertexCoordinate>>oldMap){
-	Map<VertexCoordinate, VertexCoordinate> verticeMap = new HashMap<>();
-	for (Map.Entry<RoundedPoint2D, List<VertexCoordinate>> entry : oldMap.entrySet()) {
-		for (VertexCoordinate element : entry.getValue()) {
-			verticeMap.put(element, entry.getValue().get(0)); //nimmt immer das erste Element und mappt die anderen auf das
-		}
-	}
-	for (Map.Entry<VertexCoordinate, VertexCoordinate> entry : verticeMap.entrySet()) {
-	    System.out.println("Key: " + entry.getKey() + " -> Value: " + entry.getValue());
-	    System.out.println("Size: " + verticeMap.size());	
-}
-	return verticeMap;
-}
-
-
-private Map<RoundedPoint2D, VertexCoordinate> getNormalizedCatanCoordsHelper(Map<RoundedPoint2D, List<VertexCoordinate>> oldMap) {
-    Map<RoundedPoint2D, VertexCoordinate> verticeMap = new HashMap<>();
-    for (Map.Entry<RoundedPoint2D, List<VertexCoordinate>> entry : oldMap.entrySet()) {
-            verticeMap.put(entry.getKey(), entry.getValue().get(0)); // nimmt immer das erste Element und mappt die anderen darauf
-            
+    // Fisher-Yates mit beliebigem RandomGenerator (Collections.shuffle akzeptiert nur java.util.Random)
+    private static <T> void shuffle(List<T> list, RandomGenerator random) {
+        for (int i = list.size() - 1; i > 0; i--) {
+            Collections.swap(list, i, random.nextInt(i + 1));
+        }
     }
-    return verticeMap;
-
-}
+    
 public List<HexCoordinate> getHexNeighbours(VertexCoordinate vertex) {
 	int q = vertex.getX();
 	int r = vertex.getY();
@@ -216,46 +181,27 @@ public List<HexCoordinate> getHexNeighbours(VertexCoordinate vertex) {
 	return HexCoordinates;
 } 
 
-public Map<VertexCoordinate, List<VertexCoordinate>> mapNormalizedToUnnormalized() {
-    Map<VertexCoordinate, List<VertexCoordinate>> normalizedToUnnormalized = new HashMap<>();
-
-    for (Map.Entry<RoundedPoint2D, List<VertexCoordinate>> entry : coordVerticeMap.entrySet()) {
-        RoundedPoint2D roundedPoint = entry.getKey();   
-        List<VertexCoordinate> unnormalizedVertices  = entry.getValue();      
-
-        VertexCoordinate normalized = normalizedCatanCoordMap.get(roundedPoint);
-
-       
-        normalizedToUnnormalized.computeIfAbsent(normalized, k -> new ArrayList<>())
-                                .addAll(unnormalizedVertices);
-    }
-
-    return normalizedToUnnormalized;
-}
-
-
 //ECHTE GETTER FÜR FUNKTIONEN
 public Map<VertexCoordinate, List<VertexCoordinate>> getNormalizedToUnnormalized(){
-	return normalizedToUnnormalized;
+	return topology.getNormalizedToUnnormalized();
 }
 
 public VertexCoordinate getNormalizedVertexCoordinate(VertexCoordinate vertex) {
-	VertexCoordinate normalizedVertex = this.normalizedVerticeMap.get(vertex);
+	VertexCoordinate normalizedVertex = topology.getNormalizedVertexMap().get(vertex);
 	return normalizedVertex;
 }
 
 
 
 public Map<RoundedPoint2D, VertexCoordinate> getNormalizedCatanCoordMap(){
-	return normalizedCatanCoordMap;
+	return topology.getNormalizedCoordMap();
 }
 
 
- //gibt für x und y wert die korrekten normalized catan coords an
+ //gibt für x und y wert die korrekten normalized catan coords an (null wenn kein Vertex in der Nähe)
 public VertexCoordinate getNormalizedVertexCoordinate(int x, int y) {
-	RoundedPoint2D point = new RoundedPoint2D(x, y);
-	VertexCoordinate normalizedVertex = normalizedCatanCoordMap.get(point);
-	return normalizedVertex;
+	int vertex = topology.getHitIndex().nearestVertex(x, y, VERTEX_PICK_TOLERANCE);
+	return vertex < 0 ? null : topology.getVertex(vertex);
 }
 
     
@@ -265,15 +211,58 @@ public VertexCoordinate getNormalizedVertexCoordinate(int x, int y) {
     public Building getBuildingAt(VertexCoordinate vertex) {
         return buildings.get(vertex);
     }
+    
+    /**
+     * Setzt ein Gebäude auf das Board. Eine Stadt ersetzt eine vorhandene Siedlung.
+     * Aktualisiert Bitboards und die Gebäude-Sicht gemeinsam.
+     */
+    public void placeBuilding(Building building) {
+        int vertex = topology.getVertexId(building.getVertexCoordinate());
+        int seat = BoardOccupancy.seatOf(building.getOwner());
+        if (building.getType() == Building.Type.CITY) {
+            occupancy.placeCity(seat, vertex);
+        } else {
+            occupancy.placeSettlement(seat, vertex);
+        }
+        buildings.put(building.getVertexCoordinate(), building);
+    }
+    
+    /**
+     * Wertet die Siedlung an einem Vertex zur Stadt auf.
+     * @return true wenn dort eine Siedlung stand
+     */
+    public boolean upgradeToCity(VertexCoordinate vertex) {
+        Building existing = buildings.get(vertex);
+        if (existing == null || existing.getType() != Building.Type.SETTLEMENT) {
+            return false;
+        }
+        existing.setType(Building.Type.CITY);
+        occupancy.placeCity(BoardOccupancy.seatOf(existing.getOwner()), topology.getVertexId(vertex));
+        return true;
+    }
+    
+    /**
+     * Setzt eine Straße auf das Board und aktualisiert Bitboards und Straßen-Sicht gemeinsam.
+     */
+    public void placeRoad(Road road) {
+        occupancy.placeRoad(BoardOccupancy.seatOf(road.getOwner()), topology.getEdgeId(road.getEdgeCoordinate()));
+        roads.put(road.getEdgeCoordinate(), road);
+    }
 
     // === GETTERS ===
     
+    /**
+     * @return Nur lesbare, mit allen Boards geteilte Abbildung jeder Vertex-Koordinate auf ihre normalisierte Form
+     */
     public Map<VertexCoordinate, VertexCoordinate> getValidVertices() {
-        return new HashMap<>(normalizedVerticeMap);
+        return topology.getNormalizedVertexMap();
     }
     
+    /**
+     * @return Nur lesbare, mit allen Boards geteilte Menge aller Edges
+     */
     public Set<EdgeCoordinate> getValidEdges() {
-        return new HashSet<>(uniqueEdges);
+        return topology.getUniqueEdges();
     }
     
     public Map<HexCoordinate, TerrainTile> getAllTiles() {
@@ -284,12 +273,30 @@ public VertexCoordinate getNormalizedVertexCoordinate(int x, int y) {
         return hexTiles.get(hexCoord);
     }
     
+    public TerrainTile getHexTile(int hexId) {
+        return tilesById[hexId];
+    }
+    
+    public BoardTopology getTopology() {
+        return topology;
+    }
+    
+    /**
+     * @return Nur lesbare Sicht auf alle Gebäude, Änderungen laufen über {@link #placeBuilding(Building)}
+     */
     public Map<VertexCoordinate, Building> getBuildings() {
-        return buildings;
+        return buildingsView;
     }
     
+    /**
+     * @return Nur lesbare Sicht auf alle Straßen, Änderungen laufen über {@link #placeRoad(Road)}
+     */
     public Map<EdgeCoordinate,Road> getRoads() {
-        return roads;
+        return roadsView;
+    }
+    
+    public BoardOccupancy getOccupancy() {
+        return occupancy;
     }
     
     public int getTotalBuildings() {
@@ -303,6 +310,10 @@ public VertexCoordinate getNormalizedVertexCoordinate(int x, int y) {
     public HexCoordinate getRobberPosition() {
         return robberPosition;
     }
+    
+    public int getRobberHexId() {
+        return topology.getHexId(robberPosition);
+    }
     public void setRobberPosition(HexCoordinate robberPosition) {
     	this.robberPosition = robberPosition;
     }
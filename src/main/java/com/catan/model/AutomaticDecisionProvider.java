@@ -0,0 +1,22 @@
+package com.catan.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Entscheidungs-Provider ohne Benutzerinteraktion für den Headless-Betrieb.
+ * Bestiehlt immer den ersten betroffenen Spieler, nimmt jeden Handel an
+ * und überlässt die Kartenabgabe der zufälligen Auswahl der Spiellogik.
+ */
+public class AutomaticDecisionProvider implements DecisionProvider {
+
+    @Override
+    public Player chooseStealTarget(Player thief, List<Player> candidates) {
+        return candidates.get(0);
+    }
+
+    @Override
+    public boolean acceptTrade(Player offering, Player receiving, Map<ResourceType, Integer> give, Map<ResourceType, Integer> receive) {
+        return true;
+    }
+}
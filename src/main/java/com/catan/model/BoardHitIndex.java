@@ -0,0 +1,217 @@
+package com.catan.model;
+
+/**
+ * Gleichmäßiges Raster über die Pixel-Geometrie eines Layouts für Treffertests.
+ * Jede Rasterzelle kennt die Vertices, Edges und Hexfelder, deren Pixelposition bzw. Umriss sie berührt,
+ * so dass eine Abfrage nur die wenigen Kandidaten der Zellen um den Punkt prüft statt alle Plätze.
+ * Vertex- und Edge-Positionen stammen aus {@link VertexCoordinate#toPixel} und {@link EdgeCoordinate#toPixel}
+ * (Mittelpunkt der Edge), Hexfelder sind spitze-oben-Sechsecke um {@link HexCoordinate#toPixelCatan}.
+ * Wird einmal pro {@link BoardTopology} berechnet und ist unveränderlich.
+ */
+public final class BoardHitIndex {
+
+    private static final double SQRT3 = Math.sqrt(3);
+
+    private final double hexSize;
+    private final double cellSize;
+    private final double originX;
+    private final double originY;
+    private final int columns;
+    private final int rows;
+
+    // Pixelpositionen pro Id
+    private final double[] vertexX;
+    private final double[] vertexY;
+    private final double[] edgeX;
+    private final double[] edgeY;
+    private final double[] hexX;
+    private final double[] hexY;
+
+    // Kandidaten pro Zelle: Einträge von start[cell] bis start[cell + 1]
+    private final int[] vertexStart;
+    private final int[] vertexItems;
+    private final int[] edgeStart;
+    private final int[] edgeItems;
+    private final int[] hexStart;
+    private final int[] hexItems;
+
+    BoardHitIndex(BoardTopology topology) {
+        this.hexSize = topology.getHexSize();
+        // Halber Radius: ein Klickradius bis dahin berührt höchstens 2x2 Zellen
+        this.cellSize = hexSize / 2;
+
+        int hexCount = topology.getHexCount();
+        hexX = new double[hexCount];
+        hexY = new double[hexCount];
+        double minX = Double.MAX_VALUE, minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE, maxY = -Double.MAX_VALUE;
+        for (int h = 0; h < hexCount; h++) {
+            RoundedPoint2D center = topology.getHex(h).toPixelCatan(hexSize);
+            hexX[h] = topology.getCenterX() + center.x;
+            hexY[h] = topology.getCenterY() + center.y;
+            minX = Math.min(minX, hexX[h] - hexSize);
+            minY = Math.min(minY, hexY[h] - hexSize);
+            maxX = Math.max(maxX, hexX[h] + hexSize);
+            maxY = Math.max(maxY, hexY[h] + hexSize);
+        }
+        this.originX = minX;
+        this.originY = minY;
+        this.columns = Math.max(1, (int) Math.ceil((maxX - minX) / cellSize));
+        this.rows = Math.max(1, (int) Math.ceil((maxY - minY) / cellSize));
+
+        vertexX = new double[topology.getVertexCount()];
+        vertexY = new double[topology.getVertexCount()];
+        for (int v = 0; v < vertexX.length; v++) {
+            RoundedPoint2D pos = topology.getVertex(v).toPixel(hexSize, topology.getCenterX(), topology.getCenterY());
+            vertexX[v] = pos.x;
+            vertexY[v] = pos.y;
+        }
+        edgeX = new double[topology.getEdgeCount()];
+        edgeY = new double[topology.getEdgeCount()];
+        for (int e = 0; e < edgeX.length; e++) {
+            RoundedPoint2D pos = topology.getEdge(e).toPixel(hexSize, topology.getCenterX(), topology.getCenterY());
+            edgeX[e] = pos.x;
+            edgeY[e] = pos.y;
+        }
+
+        // Punkte liegen in genau einer Zelle, Hexfelder in allen Zellen ihres Umrisses
+        vertexStart = new int[columns * rows + 1];
+        vertexItems = bucket(vertexX, vertexY, 0, vertexStart);
+        edgeStart = new int[columns * rows + 1];
+        edgeItems = bucket(edgeX, edgeY, 0, edgeStart);
+        hexStart = new int[columns * rows + 1];
+        hexItems = bucket(hexX, hexY, hexSize, hexStart);
+    }
+
+    /**
+     * Verteilt Einträge mit Ausdehnung extent um (x, y) auf die Zellen (zwei Durchläufe: zählen, füllen).
+     * @return Flache Kandidatenliste, start erhält die Zeilenanfänge
+     */
+    private int[] bucket(double[] x, double[] y, double extent, int[] start) {
+        for (int pass = 0; pass < 2; pass++) {
+            int[] items = pass == 0 ? null : new int[start[start.length - 1]];
+            int[] fill = pass == 0 ? start : start.clone();
+            for (int i = 0; i < x.length; i++) {
+                int c0 = column(x[i] - extent), c1 = column(x[i] + extent);
+                int r0 = row(y[i] - extent), r1 = row(y[i] + extent);
+                for (int r = r0; r <= r1; r++) {
+                    for (int c = c0; c <= c1; c++) {
+                        int cell = r * columns + c;
+                        if (pass == 0) {
+                            fill[cell + 1]++;
+                        } else {
+                            items[fill[cell]++] = i;
+                        }
+                    }
+                }
+            }
+            if (pass == 1) {
+                return items;
+            }
+            for (int cell = 0; cell < columns * rows; cell++) {
+                start[cell + 1] += start[cell];
+            }
+        }
+        throw new AssertionError();
+    }
+
+    private int column(double x) {
+        return Math.max(0, Math.min(columns - 1, (int) Math.floor((x - originX) / cellSize)));
+    }
+
+    private int row(double y) {
+        return Math.max(0, Math.min(rows - 1, (int) Math.floor((y - originY) / cellSize)));
+    }
+
+    // === ABFRAGEN ===
+
+    /**
+     * @param tolerance Maximaler Abstand in Pixeln
+     * @return Id des nächsten Vertex höchstens tolerance vom Punkt entfernt oder -1
+     */
+    public int nearestVertex(double x, double y, double tolerance) {
+        return nearest(x, y, tolerance, vertexX, vertexY, vertexStart, vertexItems);
+    }
+
+    /**
+     * @param tolerance Maximaler Abstand zum Edge-Mittelpunkt in Pixeln
+     * @return Id der Edge mit dem nächsten Mittelpunkt höchstens tolerance vom Punkt entfernt oder -1
+     */
+    public int nearestEdge(double x, double y, double tolerance) {
+        return nearest(x, y, tolerance, edgeX, edgeY, edgeStart, edgeItems);
+    }
+
+    /**
+     * @return Id des Hexfelds, dessen Sechseck den Punkt enthält, oder -1
+     */
+    public int hexAt(double x, double y) {
+        if (x < originX || y < originY || x >= originX + columns * cellSize || y >= originY + rows * cellSize) {
+            return -1;
+        }
+        int cell = row(y) * columns + column(x);
+        for (int i = hexStart[cell]; i < hexStart[cell + 1]; i++) {
+            int hex = hexItems[i];
+            // Spitze-Spitze-Sechseck: senkrechte Seiten bei ±r·√3/2, schräge Seiten |dy| + |dx|/√3 = r
+            double dx = Math.abs(x - hexX[hex]);
+            double dy = Math.abs(y - hexY[hex]);
+            if (dx <= hexSize * SQRT3 / 2 && dy + dx / SQRT3 <= hexSize) {
+                return hex;
+            }
+        }
+        return -1;
+    }
+
+    private int nearest(double x, double y, double tolerance, double[] px, double[] py, int[] start, int[] items) {
+        // Suchquadrat außerhalb des Rasters: keine Zelle kann einen Treffer enthalten
+        if (x + tolerance < originX || y + tolerance < originY
+                || x - tolerance >= originX + columns * cellSize || y - tolerance >= originY + rows * cellSize) {
+            return -1;
+        }
+        double best = tolerance * tolerance;
+        int found = -1;
+        int c0 = column(x - tolerance), c1 = column(x + tolerance);
+        int r0 = row(y - tolerance), r1 = row(y + tolerance);
+        for (int r = r0; r <= r1; r++) {
+            for (int c = c0; c <= c1; c++) {
+                int cell = r * columns + c;
+                for (int i = start[cell]; i < start[cell + 1]; i++) {
+                    int id = items[i];
+                    double dx = x - px[id];
+                    double dy = y - py[id];
+                    double distance = dx * dx + dy * dy;
+                    if (distance <= best && (found < 0 || distance < best || id < found)) {
+                        best = distance;
+                        found = id;
+                    }
+                }
+            }
+        }
+        return found;
+    }
+
+    // === GEOMETRIE ===
+
+    public double getVertexX(int vertex) {
+        return vertexX[vertex];
+    }
+
+    public double getVertexY(int vertex) {
+        return vertexY[vertex];
+    }
+
+    public double getEdgeX(int edge) {
+        return edgeX[edge];
+    }
+
+    public double getEdgeY(int edge) {
+        return edgeY[edge];
+    }
+
+    public double getHexX(int hex) {
+        return hexX[hex];
+    }
+
+    public double getHexY(int hex) {
+        return hexY[hex];
+    }
+}
@@ -0,0 +1,79 @@
+package com.catan.model;
+
+import java.util.Arrays;
+
+/**
+ * Unveränderliche Terrain- und Zahlenverteilung eines Boards, geteilt von allen {@link GameState}s einer Partie.
+ */
+public final class BoardLayout {
+
+    private final BoardTopology topology;
+    private final TerrainType[] hexTerrains; // Terrain pro Hex-Id
+    private final int[] hexNumbers;          // Zahlenchip pro Hex-Id, 0 für Wüste
+
+    private BoardLayout(BoardTopology topology, TerrainType[] hexTerrains, int[] hexNumbers) {
+        this.topology = topology;
+        this.hexTerrains = hexTerrains;
+        this.hexNumbers = hexNumbers;
+    }
+
+    public static BoardLayout of(AuthenticCatanBoard board) {
+        BoardTopology topology = board.getTopology();
+        TerrainType[] terrains = new TerrainType[topology.getHexCount()];
+        int[] numbers = new int[topology.getHexCount()];
+        for (int h = 0; h < terrains.length; h++) {
+            TerrainTile tile = board.getHexTile(h);
+            terrains[h] = tile.getTerrainType();
+            numbers[h] = tile.getTerrainType().producesResource() ? tile.getNumberToken() : 0;
+        }
+        return new BoardLayout(topology, terrains, numbers);
+    }
+
+    /**
+     * Layout aus Terrain und Zahlen pro Hex-Id, z.B. beim Laden eines Spielstands.
+     */
+    public static BoardLayout of(BoardTopology topology, TerrainType[] terrains, int[] numbers) {
+        if (terrains.length != topology.getHexCount() || numbers.length != topology.getHexCount()) {
+            throw new IllegalArgumentException("Layout passt nicht zur Topologie: " + terrains.length + " Hexfelder");
+        }
+        return new BoardLayout(topology, terrains.clone(), numbers.clone());
+    }
+
+    public BoardTopology getTopology() {
+        return topology;
+    }
+
+    public TerrainType getTerrain(int hex) {
+        return hexTerrains[hex];
+    }
+
+    /**
+     * @return Ressource des Hexfelds oder null für die Wüste
+     */
+    public ResourceType getResource(int hex) {
+        return hexTerrains[hex].getResourceType();
+    }
+
+    public int getNumber(int hex) {
+        return hexNumbers[hex];
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof BoardLayout)) return false;
+        BoardLayout other = (BoardLayout) o;
+        return topology == other.topology && Arrays.equals(hexTerrains, other.hexTerrains)
+            && Arrays.equals(hexNumbers, other.hexNumbers);
+    }
+
+    @Override
+    public int hashCode() {
+        // Über Ordinalzahlen statt Enum-Identitäts-Hashes, damit der Wert in jedem Prozess gleich ist
+        int hash = 1;
+        for (TerrainType terrain : hexTerrains) {
+            hash = 31 * hash + terrain.ordinal();
+        }
+        return 31 * hash + Arrays.hashCode(hexNumbers);
+    }
+}
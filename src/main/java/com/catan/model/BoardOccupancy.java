@@ -0,0 +1,152 @@
+package com.catan.model;
+
+/**
+ * Belegung des Boards als Bitboards: pro Spieler je eine long-Bitmaske für Siedlungen und Städte
+ * (54 Vertices) sowie {@link BoardTopology#EDGE_WORDS} longs für Straßen (72 Edges).
+ * Distanzregel, Anbindung und Besitz lassen sich damit über wenige AND/OR-Operationen prüfen.
+ * Spieler werden über ihren Sitzplatz (Index in der Spielerliste) adressiert.
+ */
+public final class BoardOccupancy {
+
+    public static final int MAX_PLAYERS = 4;
+
+    private final BoardTopology topology;
+    private final long[] settlements = new long[MAX_PLAYERS];
+    private final long[] cities = new long[MAX_PLAYERS];
+    private final long[] roads = new long[MAX_PLAYERS * BoardTopology.EDGE_WORDS];
+
+    public BoardOccupancy(BoardTopology topology) {
+        this.topology = topology;
+    }
+
+    /**
+     * Sitzplatz eines Spielers. Die Farben werden in Sitzreihenfolge vergeben.
+     */
+    public static int seatOf(Player player) {
+        return player.getColor().ordinal();
+    }
+
+    // === ÄNDERUNGEN ===
+
+    public void placeSettlement(int seat, int vertex) {
+        settlements[seat] |= 1L << vertex;
+    }
+
+    /**
+     * Ersetzt eine Siedlung durch eine Stadt (oder setzt eine Stadt direkt).
+     */
+    public void placeCity(int seat, int vertex) {
+        settlements[seat] &= ~(1L << vertex);
+        cities[seat] |= 1L << vertex;
+    }
+
+    public void placeRoad(int seat, int edge) {
+        roads[seat * BoardTopology.EDGE_WORDS + (edge >>> 6)] |= 1L << edge;
+    }
+
+    // === MASKEN ===
+
+    public long getSettlements(int seat) {
+        return settlements[seat];
+    }
+
+    public long getCities(int seat) {
+        return cities[seat];
+    }
+
+    /**
+     * @return Alle Gebäude (Siedlungen und Städte) eines Spielers
+     */
+    public long getBuildings(int seat) {
+        return settlements[seat] | cities[seat];
+    }
+
+    /**
+     * @return Alle Gebäude aller Spieler
+     */
+    public long getAllBuildings() {
+        long all = 0L;
+        for (int seat = 0; seat < MAX_PLAYERS; seat++) {
+            all |= settlements[seat] | cities[seat];
+        }
+        return all;
+    }
+
+    public long getRoads(int seat, int word) {
+        return roads[seat * BoardTopology.EDGE_WORDS + word];
+    }
+
+    public long getAllRoads(int word) {
+        long all = 0L;
+        for (int seat = 0; seat < MAX_PLAYERS; seat++) {
+            all |= roads[seat * BoardTopology.EDGE_WORDS + word];
+        }
+        return all;
+    }
+
+    public int getBuildingCount(int seat) {
+        return Long.bitCount(getBuildings(seat));
+    }
+
+    public int getRoadCount(int seat) {
+        int count = 0;
+        for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+            count += Long.bitCount(roads[seat * BoardTopology.EDGE_WORDS + word]);
+        }
+        return count;
+    }
+
+    // === REGELPRÜFUNGEN ===
+
+    public boolean isOccupied(int vertex) {
+        return (getAllBuildings() & (1L << vertex)) != 0;
+    }
+
+    /**
+     * @return Sitzplatz des Besitzers oder -1 wenn der Vertex frei ist
+     */
+    public int getOwner(int vertex) {
+        long bit = 1L << vertex;
+        for (int seat = 0; seat < MAX_PLAYERS; seat++) {
+            if (((settlements[seat] | cities[seat]) & bit) != 0) {
+                return seat;
+            }
+        }
+        return -1;
+    }
+
+    public boolean hasSettlementAt(int seat, int vertex) {
+        return (settlements[seat] & (1L << vertex)) != 0;
+    }
+
+    public boolean hasBuildingAt(int seat, int vertex) {
+        return (getBuildings(seat) & (1L << vertex)) != 0;
+    }
+
+    /**
+     * Distanzregel: Kein Gebäude auf einem Nachbar-Vertex
+     */
+    public boolean hasAdjacentBuilding(int vertex) {
+        return (topology.getVertexNeighbourMask(vertex) & getAllBuildings()) != 0;
+    }
+
+    public boolean hasRoad(int edge) {
+        return (getAllRoads(edge >>> 6) & (1L << edge)) != 0;
+    }
+
+    /**
+     * @return true wenn eine Straße des Spielers am Vertex anliegt
+     */
+    public boolean hasRoadAt(int seat, int vertex) {
+        int base = seat * BoardTopology.EDGE_WORDS;
+        return ((roads[base] & topology.getVertexEdgeMask(vertex, 0))
+              | (roads[base + 1] & topology.getVertexEdgeMask(vertex, 1))) != 0;
+    }
+
+    /**
+     * @return true wenn ein Gebäude des Spielers an einem Endpunkt der Edge steht
+     */
+    public boolean hasBuildingAtEdge(int seat, int edge) {
+        return (topology.getEdgeVertexMask(edge) & getBuildings(seat)) != 0;
+    }
+}
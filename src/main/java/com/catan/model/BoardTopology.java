@@ -0,0 +1,456 @@
+package com.catan.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Kompakte, ganzzahlig indizierte Topologie des CATAN-Boards.
+ * Jeder normalisierte Vertex erhält eine Id 0..53, jede Edge eine Id 0..71 und jedes Hexfeld eine Id 0..18.
+ * Die Nachbarschaften liegen als flache {@code int[]}-Tabellen mit fester Schrittweite vor,
+ * freie Plätze sind mit {@code -1} belegt. Dazu kommen die Pixel-Geometrie-Maps der UI.
+ * Topologie und Geometrie sind unveränderlich und werden über {@link #forLayout} einmal pro Layout
+ * berechnet und von allen Boards mit diesem Layout geteilt; Terrain, Zahlen und Belegung liegen im Board.
+ */
+public final class BoardTopology {
+
+    // Ein Eintrag pro (Hex-Positionen, Radius, Mittelpunkt)
+    private static final Map<List<Object>, BoardTopology> CACHE = new ConcurrentHashMap<>();
+
+    // Schrittweiten der flachen Tabellen
+    public static final int MAX_VERTEX_NEIGHBOURS = 3; // Ein Vertex hat höchstens 3 Nachbar-Vertices
+    public static final int MAX_VERTEX_EDGES = 3;      // ... und damit höchstens 3 anliegende Edges
+    public static final int MAX_VERTEX_HEXES = 3;      // Ein Vertex grenzt an höchstens 3 Hexfelder
+    public static final int HEX_VERTICES = 6;          // Jedes Hexfeld hat genau 6 Ecken
+    public static final int EDGE_WORDS = 2;            // 72 Edges passen in zwei long-Bitmasken
+
+    // Pixel-Geometrie, aus der die Ids abgeleitet werden
+    private final double hexSize;
+    private final double centerX;
+    private final double centerY;
+    private final Map<RoundedPoint2D, List<VertexCoordinate>> coordVertexMap;
+    private final Map<VertexCoordinate, VertexCoordinate> normalizedVertexMap;
+    private final Map<RoundedPoint2D, VertexCoordinate> normalizedCoordMap;
+    private final Map<VertexCoordinate, List<VertexCoordinate>> normalizedToUnnormalized;
+    private final Set<EdgeCoordinate> uniqueEdges;
+
+    private final HexCoordinate[] hexes;
+    private final VertexCoordinate[] vertices;
+    private final EdgeCoordinate[] edges;
+
+    // Koordinate -> Id, enthält auch alle unnormalisierten Vertex-Koordinaten
+    private final Map<HexCoordinate, Integer> hexIds;
+    private final Map<VertexCoordinate, Integer> vertexIds;
+
+    // Adjazenz-Tabellen
+    private final int[] vertexVertices;
+    private final int[] vertexEdges;
+    private final int[] vertexHexes;
+    private final int[] hexVertices;
+    private final int[] edgeVertices;
+
+    // Bitmasken für die Belegung (Vertex-Bits in einem long, Edge-Bits in EDGE_WORDS longs)
+    private final long[] vertexNeighbourMasks;
+    private final long[] vertexEdgeMasks;
+    private final long[] edgeVertexMasks;
+    private final long[] hexVertexMasks;
+
+    // Raster für Treffertests auf Pixelkoordinaten
+    private final BoardHitIndex hitIndex;
+
+    /**
+     * Liefert die gemeinsame Topologie für ein Layout und berechnet sie beim ersten Aufruf.
+     * Threadsicher; jeder Aufrufer mit gleichen Parametern erhält dieselbe Instanz.
+     * @param hexPositions Hexfelder in fester Reihenfolge (bestimmt die Hex-Ids)
+     * @param hexSize Hex-Radius in Pixeln
+     * @param centerX X-Koordinate des Board-Mittelpunkts
+     * @param centerY Y-Koordinate des Board-Mittelpunkts
+     */
+    public static BoardTopology forLayout(List<HexCoordinate> hexPositions, double hexSize, double centerX, double centerY) {
+        List<HexCoordinate> positions = List.copyOf(hexPositions);
+        return CACHE.computeIfAbsent(List.of(positions, hexSize, centerX, centerY),
+            key -> new BoardTopology(positions, hexSize, centerX, centerY));
+    }
+
+    private BoardTopology(List<HexCoordinate> hexPositions, double hexSize, double centerX, double centerY) {
+        this.hexSize = hexSize;
+        this.centerX = centerX;
+        this.centerY = centerY;
+
+        //rounded coords auf alle unnormalized catan coords (114 bei Standardboard)
+        this.coordVertexMap = calculateVertices(new HashSet<>(hexPositions));
+        //alle unnormalized catan coords auf normalized catan coords (54)
+        this.normalizedVertexMap = Collections.unmodifiableMap(createNormalizedVertexMap(coordVertexMap));
+        //rounded coords auf normalized catan coords
+        this.normalizedCoordMap = Collections.unmodifiableMap(createNormalizedCoordMap(coordVertexMap));
+        //normalized auf die unnormalized
+        this.normalizedToUnnormalized = createNormalizedToUnnormalized();
+        this.uniqueEdges = Collections.unmodifiableSet(calculateEdges());
+
+        Map<VertexCoordinate, VertexCoordinate> normalizedVertices = normalizedVertexMap;
+        // Hex-Ids in der vorgegebenen Reihenfolge vergeben
+        this.hexes = hexPositions.toArray(new HexCoordinate[0]);
+        this.hexIds = new HashMap<>();
+        for (int h = 0; h < hexes.length; h++) {
+            hexIds.put(hexes[h], h);
+        }
+
+        // Vertex-Ids deterministisch über Hex-Reihenfolge und Richtung vergeben
+        List<VertexCoordinate> vertexList = new ArrayList<>();
+        Map<VertexCoordinate, Integer> normalizedIds = new HashMap<>();
+        for (HexCoordinate hex : hexes) {
+            for (int dir = 0; dir < HEX_VERTICES; dir++) {
+                VertexCoordinate normalized = normalizedVertices.get(new VertexCoordinate(hex.getQ(), hex.getR(), dir));
+                if (normalized != null && !normalizedIds.containsKey(normalized)) {
+                    normalizedIds.put(normalized, vertexList.size());
+                    vertexList.add(normalized);
+                }
+            }
+        }
+        this.vertices = vertexList.toArray(new VertexCoordinate[0]);
+        this.vertexIds = new HashMap<>();
+        for (Map.Entry<VertexCoordinate, VertexCoordinate> entry : normalizedVertices.entrySet()) {
+            vertexIds.put(entry.getKey(), normalizedIds.get(entry.getValue()));
+        }
+
+        // Hex <-> Vertex
+        this.hexVertices = new int[hexes.length * HEX_VERTICES];
+        this.vertexHexes = filled(vertices.length * MAX_VERTEX_HEXES);
+        for (int h = 0; h < hexes.length; h++) {
+            for (int dir = 0; dir < HEX_VERTICES; dir++) {
+                int v = vertexIds.get(new VertexCoordinate(hexes[h].getQ(), hexes[h].getR(), dir));
+                hexVertices[h * HEX_VERTICES + dir] = v;
+                append(vertexHexes, v, MAX_VERTEX_HEXES, h);
+            }
+        }
+
+        // Edge-Ids nach (kleinere Vertex-Id, größere Vertex-Id) sortiert vergeben
+        List<int[]> pairs = new ArrayList<>();
+        for (EdgeCoordinate edge : uniqueEdges) {
+            int a = vertexIds.get(edge.getVertexA());
+            int b = vertexIds.get(edge.getVertexB());
+            pairs.add(new int[] { Math.min(a, b), Math.max(a, b) });
+        }
+        pairs.sort((p1, p2) -> p1[0] != p2[0] ? Integer.compare(p1[0], p2[0]) : Integer.compare(p1[1], p2[1]));
+
+        this.edges = new EdgeCoordinate[pairs.size()];
+        this.edgeVertices = new int[pairs.size() * 2];
+        this.vertexVertices = filled(vertices.length * MAX_VERTEX_NEIGHBOURS);
+        this.vertexEdges = filled(vertices.length * MAX_VERTEX_EDGES);
+        for (int e = 0; e < pairs.size(); e++) {
+            int a = pairs.get(e)[0];
+            int b = pairs.get(e)[1];
+            edges[e] = new EdgeCoordinate(vertices[a], vertices[b]);
+            edgeVertices[e * 2] = a;
+            edgeVertices[e * 2 + 1] = b;
+            append(vertexVertices, a, MAX_VERTEX_NEIGHBOURS, b);
+            append(vertexVertices, b, MAX_VERTEX_NEIGHBOURS, a);
+            append(vertexEdges, a, MAX_VERTEX_EDGES, e);
+            append(vertexEdges, b, MAX_VERTEX_EDGES, e);
+        }
+
+        if (vertices.length > Long.SIZE || edges.length > Long.SIZE * EDGE_WORDS) {
+            throw new IllegalStateException("Board zu groß für Bitmasken");
+        }
+
+        // Bitmasken aus den Tabellen ableiten
+        this.vertexNeighbourMasks = new long[vertices.length];
+        this.vertexEdgeMasks = new long[vertices.length * EDGE_WORDS];
+        for (int v = 0; v < vertices.length; v++) {
+            for (int slot = 0; slot < MAX_VERTEX_NEIGHBOURS; slot++) {
+                int n = getVertexNeighbour(v, slot);
+                if (n >= 0) {
+                    vertexNeighbourMasks[v] |= 1L << n;
+                }
+                int e = getVertexEdge(v, slot);
+                if (e >= 0) {
+                    vertexEdgeMasks[v * EDGE_WORDS + (e >>> 6)] |= 1L << e;
+                }
+            }
+        }
+        this.edgeVertexMasks = new long[edges.length];
+        for (int e = 0; e < edges.length; e++) {
+            edgeVertexMasks[e] = (1L << edgeVertices[e * 2]) | (1L << edgeVertices[e * 2 + 1]);
+        }
+        this.hexVertexMasks = new long[hexes.length];
+        for (int h = 0; h < hexes.length; h++) {
+            for (int dir = 0; dir < HEX_VERTICES; dir++) {
+                hexVertexMasks[h] |= 1L << hexVertices[h * HEX_VERTICES + dir];
+            }
+        }
+
+        // Zuletzt, da das Raster die fertigen Id-Tabellen liest
+        this.hitIndex = new BoardHitIndex(this);
+    }
+
+    // === GEOMETRIE (einmalig pro Layout) ===
+
+    private Map<RoundedPoint2D, List<VertexCoordinate>> calculateVertices(Set<HexCoordinate> hexSet) {
+        Map<RoundedPoint2D, List<VertexCoordinate>> vertexMap = new HashMap<>();
+        for (HexCoordinate hex : hexSet) {
+            for (int dir = 0; dir < HEX_VERTICES; dir++) {
+                VertexCoordinate vertex = new VertexCoordinate(hex.getQ(), hex.getR(), dir);
+                vertexMap.computeIfAbsent(vertex.toPixel(hexSize, centerX, centerY), k -> new ArrayList<>()).add(vertex);
+            }
+        }
+        Map<RoundedPoint2D, List<VertexCoordinate>> frozen = new HashMap<>();
+        for (Map.Entry<RoundedPoint2D, List<VertexCoordinate>> entry : vertexMap.entrySet()) {
+            frozen.put(entry.getKey(), List.copyOf(entry.getValue()));
+        }
+        return Collections.unmodifiableMap(frozen);
+    }
+
+    // Nimmt immer das erste Element eines Pixelpunkts und bildet die anderen darauf ab
+    private static Map<VertexCoordinate, VertexCoordinate> createNormalizedVertexMap(Map<RoundedPoint2D, List<VertexCoordinate>> coordMap) {
+        Map<VertexCoordinate, VertexCoordinate> vertexMap = new HashMap<>();
+        for (List<VertexCoordinate> sameVertex : coordMap.values()) {
+            for (VertexCoordinate element : sameVertex) {
+                vertexMap.put(element, sameVertex.get(0));
+            }
+        }
+        return vertexMap;
+    }
+
+    private static Map<RoundedPoint2D, VertexCoordinate> createNormalizedCoordMap(Map<RoundedPoint2D, List<VertexCoordinate>> coordMap) {
+        Map<RoundedPoint2D, VertexCoordinate> vertexMap = new HashMap<>();
+        for (Map.Entry<RoundedPoint2D, List<VertexCoordinate>> entry : coordMap.entrySet()) {
+            vertexMap.put(entry.getKey(), entry.getValue().get(0));
+        }
+        return vertexMap;
+    }
+
+    private Map<VertexCoordinate, List<VertexCoordinate>> createNormalizedToUnnormalized() {
+        Map<VertexCoordinate, List<VertexCoordinate>> result = new HashMap<>();
+        for (Map.Entry<RoundedPoint2D, List<VertexCoordinate>> entry : coordVertexMap.entrySet()) {
+            result.put(normalizedCoordMap.get(entry.getKey()), entry.getValue());
+        }
+        return Collections.unmodifiableMap(result);
+    }
+
+    private Set<EdgeCoordinate> calculateEdges() {
+        Set<EdgeCoordinate> edgeSet = new HashSet<>();
+        for (VertexCoordinate currentVertex : normalizedVertexMap.values()) {
+            for (VertexCoordinate vertex : currentVertex.getAdjacentVertices(hexSize, centerX, centerY, normalizedCoordMap, normalizedVertexMap)) {
+                edgeSet.add(new EdgeCoordinate(currentVertex, vertex));
+            }
+        }
+        return edgeSet;
+    }
+
+    private static int[] filled(int size) {
+        int[] table = new int[size];
+        Arrays.fill(table, -1);
+        return table;
+    }
+
+    // Trägt value in den ersten freien Platz der Zeile row ein
+    private static void append(int[] table, int row, int stride, int value) {
+        for (int i = row * stride; i < (row + 1) * stride; i++) {
+            if (table[i] == -1) {
+                table[i] = value;
+                return;
+            }
+        }
+        throw new IllegalStateException("Topologie-Tabelle voll für Zeile " + row);
+    }
+
+    // === GEOMETRIE-MAPS (nur lesbar) ===
+
+    public double getHexSize() {
+        return hexSize;
+    }
+
+    public double getCenterX() {
+        return centerX;
+    }
+
+    public double getCenterY() {
+        return centerY;
+    }
+
+    /**
+     * @return Raster für Treffertests (Vertex, Edge, Hexfeld an einem Pixelpunkt)
+     */
+    public BoardHitIndex getHitIndex() {
+        return hitIndex;
+    }
+
+    /**
+     * @return Gerundeter Pixelpunkt auf alle unnormalisierten Vertex-Koordinaten an diesem Punkt
+     */
+    public Map<RoundedPoint2D, List<VertexCoordinate>> getCoordVertexMap() {
+        return coordVertexMap;
+    }
+
+    /**
+     * @return Jede Vertex-Koordinate auf ihre normalisierte Form
+     */
+    public Map<VertexCoordinate, VertexCoordinate> getNormalizedVertexMap() {
+        return normalizedVertexMap;
+    }
+
+    /**
+     * @return Gerundeter Pixelpunkt auf die normalisierte Vertex-Koordinate
+     */
+    public Map<RoundedPoint2D, VertexCoordinate> getNormalizedCoordMap() {
+        return normalizedCoordMap;
+    }
+
+    /**
+     * @return Normalisierte Vertex-Koordinate auf alle ihre unnormalisierten Formen
+     */
+    public Map<VertexCoordinate, List<VertexCoordinate>> getNormalizedToUnnormalized() {
+        return normalizedToUnnormalized;
+    }
+
+    /**
+     * @return Alle Edges zwischen normalisierten Vertices
+     */
+    public Set<EdgeCoordinate> getUniqueEdges() {
+        return uniqueEdges;
+    }
+
+    // === GRÖSSEN ===
+
+    public int getVertexCount() {
+        return vertices.length;
+    }
+
+    public int getEdgeCount() {
+        return edges.length;
+    }
+
+    public int getHexCount() {
+        return hexes.length;
+    }
+
+    // === KOORDINATE -> ID ===
+
+    /**
+     * @return Id des (auch unnormalisiert übergebenen) Vertex oder -1 falls ungültig
+     */
+    public int getVertexId(VertexCoordinate vertex) {
+        Integer id = vertexIds.get(vertex);
+        return id == null ? -1 : id;
+    }
+
+    /**
+     * @return Id der Edge zwischen den beiden Vertices oder -1 falls ungültig
+     */
+    public int getEdgeId(EdgeCoordinate edge) {
+        int a = getVertexId(edge.getVertexA());
+        int b = getVertexId(edge.getVertexB());
+        if (a < 0 || b < 0) {
+            return -1;
+        }
+        return getEdgeId(a, b);
+    }
+
+    /**
+     * @return Id der Edge zwischen zwei Vertex-Ids oder -1 falls nicht benachbart
+     */
+    public int getEdgeId(int vertexA, int vertexB) {
+        for (int i = vertexA * MAX_VERTEX_EDGES; i < (vertexA + 1) * MAX_VERTEX_EDGES; i++) {
+            int e = vertexEdges[i];
+            if (e >= 0 && (edgeVertices[e * 2] == vertexB || edgeVertices[e * 2 + 1] == vertexB)) {
+                return e;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return Id des Hexfelds oder -1 falls nicht auf dem Board
+     */
+    public int getHexId(HexCoordinate hex) {
+        Integer id = hexIds.get(hex);
+        return id == null ? -1 : id;
+    }
+
+    // === ID -> KOORDINATE ===
+
+    public VertexCoordinate getVertex(int vertex) {
+        return vertices[vertex];
+    }
+
+    public EdgeCoordinate getEdge(int edge) {
+        return edges[edge];
+    }
+
+    public HexCoordinate getHex(int hex) {
+        return hexes[hex];
+    }
+
+    // === ADJAZENZ-TABELLEN ===
+
+    /**
+     * @return slot-ter Nachbar-Vertex oder -1 wenn der Vertex weniger Nachbarn hat
+     */
+    public int getVertexNeighbour(int vertex, int slot) {
+        return vertexVertices[vertex * MAX_VERTEX_NEIGHBOURS + slot];
+    }
+
+    /**
+     * @return slot-te anliegende Edge oder -1 wenn der Vertex weniger Edges hat
+     */
+    public int getVertexEdge(int vertex, int slot) {
+        return vertexEdges[vertex * MAX_VERTEX_EDGES + slot];
+    }
+
+    /**
+     * @return slot-tes angrenzendes Hexfeld oder -1 am Boardrand
+     */
+    public int getVertexHex(int vertex, int slot) {
+        return vertexHexes[vertex * MAX_VERTEX_HEXES + slot];
+    }
+
+    /**
+     * @return Vertex-Id der Ecke in Richtung direction (0-5) des Hexfelds
+     */
+    public int getHexVertex(int hex, int direction) {
+        return hexVertices[hex * HEX_VERTICES + direction];
+    }
+
+    /**
+     * @return Erster (end == 0) oder zweiter (end == 1) Endpunkt der Edge
+     */
+    public int getEdgeVertex(int edge, int end) {
+        return edgeVertices[edge * 2 + end];
+    }
+
+    // === BITMASKEN ===
+
+    /**
+     * @return Bitmaske aller Nachbar-Vertices
+     */
+    public long getVertexNeighbourMask(int vertex) {
+        return vertexNeighbourMasks[vertex];
+    }
+
+    /**
+     * @return Wort word (0 = Edges 0..63, 1 = Edges 64..71) der Bitmaske aller anliegenden Edges
+     */
+    public long getVertexEdgeMask(int vertex, int word) {
+        return vertexEdgeMasks[vertex * EDGE_WORDS + word];
+    }
+
+    /**
+     * @return Bitmaske der beiden Endpunkte einer Edge
+     */
+    public long getEdgeVertexMask(int edge) {
+        return edgeVertexMasks[edge];
+    }
+
+    /**
+     * @return Bitmaske der 6 Ecken eines Hexfelds
+     */
+    public long getHexVertexMask(int hex) {
+        return hexVertexMasks[hex];
+    }
+}
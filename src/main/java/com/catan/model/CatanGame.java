@@ -1,32 +1,32 @@
 package com.catan.model;
 
 import java.util.ArrayList;
-import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.Random;
 import java.util.Set;
-import java.util.stream.Collectors;
+import java.util.SplittableRandom;
 
-import javafx.scene.control.Alert;
-import javafx.scene.control.ButtonType;
-import javafx.scene.control.ChoiceDialog;
+import com.catan.util.Diagnostics;
 
 /**
  * Hauptklasse für die CATAN-Spiellogik, die den Spielzustand und die Regeln verwaltet.
  * Behandelt Zurverwaltung, Würfeln, Ressourcenproduktion und Siegbedingungen.
+ * Die Klasse ist unabhängig von JavaFX, Spielerentscheidungen laufen über einen {@link DecisionProvider}.
  */
 public class CatanGame {
     // Spielkonstanten
+    private static final String LOG = "CatanGame"; // Quelle für Diagnose-Ausgaben
     public static final int VICTORY_POINTS_TO_WIN = 7; // Siegpunkte zum Gewinnen (Testzwecke - normal 10)
     public static final int MAX_HAND_SIZE_ON_SEVEN = 7; // Maximale Handkarten bei gewürfelter 7
     
     // Grundlegende Spielkomponenten
     private final List<Player> players; // Liste aller Spieler
     private final AuthenticCatanBoard board; // Das Spielbrett
-    private final Random random; // Zufallsgenerator für Würfel
+    private final LegalMoveGenerator legalMoves; // Inkrementell gepflegte legale Bauplätze
+    private final ProductionIndex production; // Erträge pro Würfelzahl
+    private final long seed; // Startwert, aus dem Board, Würfel und Diebstähle abgeleitet werden
+    private final SplittableRandom random; // Zufallsgenerator für Würfel, Abwerfen und Diebstahl
     private int currentPlayerIndex; // Index des aktuellen Spielers
     private GamePhase currentPhase; // Aktuelle Spielphase
     private boolean firstNormalRound; // Flag für erste normale Runde
@@ -36,6 +36,9 @@ public class CatanGame {
     private boolean hasRolledDice; // Flag ob Spieler bereits gewürfelt hat
     private boolean hasMovedRobber; // Flag ob Räuber bewegt wurde
     private String stolenResourcesLog; // Log für gestohlene Ressourcen
+    private DecisionProvider decisionProvider; // Quelle für Spielerentscheidungen (UI, Bot, Test)
+    private final ActionLog actionLog = new ActionLog(); // Alle Zustandsänderungen in Reihenfolge
+    private final ZobristHash positionHash; // Inkrementell gepflegter Hash der Spielposition
     
     // Entwicklungskarten-Vorrat
     private int knightCardsRemaining; // Verbleibende Ritterkarten
@@ -58,6 +61,25 @@ public class CatanGame {
      * @param playerNames Liste der Spielernamen
      */
     public CatanGame(List<String> playerNames) {
+        this(playerNames, new SplittableRandom().nextLong());
+    }
+    
+    /**
+     * Konstruktor für ein reproduzierbares CATAN-Spiel.
+     * Gleicher Seed und gleiche Aktionsfolge ergeben exakt denselben Spielverlauf.
+     * @param playerNames Liste der Spielernamen
+     * @param seed Startwert für alle Zufallsentscheidungen
+     */
+    public CatanGame(List<String> playerNames, long seed) {
+        // Board erhält einen eigenen Teilstrom, damit sein Layout unabhängig vom Spielverlauf ist
+        this(playerNames, seed, new SplittableRandom(seed));
+    }
+
+    private CatanGame(List<String> playerNames, long seed, SplittableRandom root) {
+        this(playerNames, seed, new AuthenticCatanBoard(root.split()), root);
+    }
+
+    private CatanGame(List<String> playerNames, long seed, AuthenticCatanBoard board, SplittableRandom root) {
         // Spieleranzahl validieren
         if (playerNames.size() < 2 || playerNames.size() > 4) {
             throw new IllegalArgumentException("CATAN requires 2-4 players");
@@ -72,8 +94,15 @@ public class CatanGame {
         }
         
         // Spielbrett und Grundzustand initialisieren
-        this.board = new AuthenticCatanBoard();
-        this.random = new Random();
+        this.seed = seed;
+        this.board = board;
+        this.legalMoves = new LegalMoveGenerator(board.getTopology(), board.getOccupancy(), board.getRobberHexId());
+        this.production = new ProductionIndex(board);
+        this.positionHash = new ZobristHash(BoardLayout.of(board), board.getRobberHexId());
+        for (Player player : players) {
+            player.setPositionHash(positionHash);
+        }
+        this.random = root;
         this.currentPlayerIndex = 0;
         this.currentPhase = GamePhase.INITIAL_PLACEMENT_1;
         this.gameFinished = false;
@@ -81,6 +110,7 @@ public class CatanGame {
         this.hasRolledDice = true; // Anfangs auf true für Aufbauphase
         this.hasMovedRobber = true; // Anfangs auf true für Aufbauphase
         this.lastDiceRoll = 0;
+        this.decisionProvider = new AutomaticDecisionProvider();
         this.initializeDevelopmentCards();
     }
     
@@ -112,10 +142,225 @@ public class CatanGame {
         this.stolenResourcesLog = stolenResourcesLog;
     }
     
+    public long getSeed() {
+        return seed;
+    }
+    
     public AuthenticCatanBoard getBoard() {
         return board;
     }
     
+    public LegalMoveGenerator getLegalMoves() {
+        return legalMoves;
+    }
+    
+    public ProductionIndex getProduction() {
+        return production;
+    }
+
+    public ActionLog getActionLog() {
+        return actionLog;
+    }
+
+    /**
+     * @return 64-Bit-Zobrist-Hash der aktuellen Position, gleich {@code ZobristHash.of(snapshot())}
+     */
+    public long getPositionHash() {
+        return positionHash.get();
+    }
+
+    /**
+     * Unveränderliche Momentaufnahme für Vorausschau und nebenläufige Leser
+     */
+    public GameState snapshot() {
+        return GameState.of(this);
+    }
+
+    // === SPIELSTÄNDE ===
+
+    /**
+     * Stellt eine Partie aus einem gespeicherten Zustand wieder her.
+     * Das Aktions-Log beginnt leer; der Zufallsstrom wird aus Seed und Zustand abgeleitet,
+     * so dass das Laden desselben Spielstands immer denselben Fortgang ergibt.
+     * @param playerNames Spielernamen in Sitzreihenfolge
+     * @param seed Seed der ursprünglichen Partie
+     * @param state Zu übernehmender Zustand (ohne offene Abwürfe)
+     */
+    public static CatanGame restore(List<String> playerNames, long seed, GameState state) {
+        if (state.players().size() != playerNames.size()) {
+            throw new IllegalArgumentException("Spielerzahl passt nicht zum Zustand: " + playerNames.size());
+        }
+        if (state.discardMask() != 0) {
+            throw new IllegalArgumentException("Offene Abwürfe können nicht übernommen werden");
+        }
+        // Nur inhaltsbasierte Werte: hashCode() des Zustands enthält Enum-Identitäts-Hashes und schwankt zwischen Prozessen
+        long stateKey = ZobristHash.of(state) ^ (31L * state.turn() + state.phase().ordinal());
+        SplittableRandom random = new SplittableRandom(seed ^ stateKey);
+        CatanGame game = new CatanGame(playerNames, seed, new AuthenticCatanBoard(state.layout()), random);
+        game.restoreState(state);
+        return game;
+    }
+
+    private void restoreState(GameState state) {
+        BoardTopology topology = board.getTopology();
+        OccupancyBits bits = state.occupancy();
+        for (int seat = 0; seat < players.size(); seat++) {
+            Player player = players.get(seat);
+            for (long mask = bits.getBuildings(seat); mask != 0; mask &= mask - 1) {
+                int vertex = Long.numberOfTrailingZeros(mask);
+                boolean city = (bits.getCities(seat) & (1L << vertex)) != 0;
+                board.placeBuilding(new Building(city ? Building.Type.CITY : Building.Type.SETTLEMENT, player, topology.getVertex(vertex)));
+                if (city) {
+                    positionHash.toggleCity(seat, vertex);
+                } else {
+                    positionHash.toggleSettlement(seat, vertex);
+                }
+                legalMoves.onBuildingPlaced(seat, vertex, Building.Type.SETTLEMENT);
+                if (city) {
+                    legalMoves.onBuildingPlaced(seat, vertex, Building.Type.CITY);
+                }
+                production.onBuildingPlaced(vertex);
+            }
+            for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+                for (long mask = bits.getRoads(seat, word); mask != 0; mask &= mask - 1) {
+                    int edge = word * Long.SIZE + Long.numberOfTrailingZeros(mask);
+                    board.placeRoad(new Road(player, topology.getEdge(edge)));
+                    positionHash.toggleRoad(seat, edge);
+                    legalMoves.onRoadPlaced(seat, edge);
+                }
+            }
+
+            PlayerState saved = state.player(seat);
+            player.addResources(saved.resources());
+            player.addVictoryPoints(saved.victoryPoints());
+            player.setSettlementCount(saved.settlementsLeft());
+            player.setCityCount(saved.citiesLeft());
+            player.setRoadCount(saved.roadsLeft());
+        }
+        placeRobber(topology.getHex(state.robberHex()));
+
+        currentPhase = state.phase();
+        positionHash.changeSide(currentPlayerIndex, state.currentSeat());
+        currentPlayerIndex = state.currentSeat();
+        if (isBeginning()) {
+            // Bereits erledigte Aufbauzüge des aktuellen Spielers markieren
+            int required = state.setupPiecesRequired();
+            getCurrentPlayer().setInitialSettlementPlaced(Long.bitCount(bits.getBuildings(currentPlayerIndex)) >= required);
+            getCurrentPlayer().setInitialRoadPlaced(bits.getRoadCount(currentPlayerIndex) >= required);
+        } else {
+            hasRolledDice = state.rolled();
+        }
+        hasMovedRobber = !state.robberPending();
+        lastDiceRoll = state.robberPending() ? 7 : 0;
+        if (state.isFinished()) {
+            gameFinished = true;
+            winner = players.get(state.winnerSeat());
+        }
+    }
+
+    // === EVENT-SOURCING ===
+
+    /**
+     * Stellt eine Partie aus Seed und Aktions-Log wieder her.
+     * Zufallsergebnisse stammen aus den Aktionen, der Zufallsstrom des Spiels wird dabei nicht verbraucht.
+     * @param playerNames Spielernamen in Sitzreihenfolge
+     * @param seed Seed der aufgezeichneten Partie (bestimmt das Board)
+     * @param actions Aufgezeichnete Aktionen in Reihenfolge
+     * @return Partie im Zustand nach der letzten Aktion, mit identischem Log
+     */
+    public static CatanGame replay(List<String> playerNames, long seed, Iterable<GameAction> actions) {
+        CatanGame game = new CatanGame(playerNames, seed);
+        for (GameAction action : actions) {
+            game.apply(action);
+        }
+        return game;
+    }
+
+    /**
+     * Wendet eine aufgezeichnete oder entfernt empfangene Aktion an und hängt sie an das Log.
+     * Bauen, Handeln und Zugende laufen über dieselben Methoden wie im interaktiven Spiel,
+     * Würfel, Abwürfe und Diebstahl übernehmen die Ergebnisse aus der Aktion.
+     * @throws IllegalStateException wenn die Aktion im aktuellen Zustand nicht ausführbar ist
+     */
+    public void apply(GameAction action) {
+        if (!(action instanceof GameAction.Discard) && action.seat() != currentPlayerIndex) {
+            throw new IllegalStateException("Aktion " + action + " nicht am Zug, aktuell Sitzplatz " + currentPlayerIndex);
+        }
+        Player player = players.get(action.seat());
+        BoardTopology topology = board.getTopology();
+
+        if (action instanceof GameAction.PlaceSettlement) {
+            VertexCoordinate vertex = topology.getVertex(((GameAction.PlaceSettlement) action).vertex());
+            if (!canPlaceSettlement(vertex, player, isBeginning())) {
+                throw new IllegalStateException("Siedlung nicht baubar: " + action);
+            }
+            placeBuilding(Building.Type.SETTLEMENT, vertex, player);
+            checkVictoryCondition();
+        } else if (action instanceof GameAction.PlaceCity) {
+            VertexCoordinate vertex = topology.getVertex(((GameAction.PlaceCity) action).vertex());
+            if (!canPlaceCity(vertex, player, isBeginning())) {
+                throw new IllegalStateException("Stadt nicht baubar: " + action);
+            }
+            placeBuilding(Building.Type.CITY, vertex, player);
+            checkVictoryCondition();
+        } else if (action instanceof GameAction.PlaceRoad) {
+            if (!placeRoad(topology.getEdge(((GameAction.PlaceRoad) action).edge()), player)) {
+                throw new IllegalStateException("Straße nicht baubar: " + action);
+            }
+        } else if (action instanceof GameAction.RollDice) {
+            GameAction.RollDice roll = (GameAction.RollDice) action;
+            lastDiceRoll = roll.sum();
+            hasRolledDice = true;
+            actionLog.append(action);
+            // Abwürfe folgen als eigene Aktionen
+            if (lastDiceRoll == 7) {
+                hasMovedRobber = false;
+            } else {
+                ingameResourceDistribution(lastDiceRoll);
+            }
+        } else if (action instanceof GameAction.Discard) {
+            player.removeResource(((GameAction.Discard) action).cards());
+            actionLog.append(action);
+        } else if (action instanceof GameAction.MoveRobber) {
+            GameAction.MoveRobber move = (GameAction.MoveRobber) action;
+            if (!placeRobber(topology.getHex(move.hex()))) {
+                throw new IllegalStateException("Ungültiges Räuberfeld: " + action);
+            }
+            Player victim = move.victimSeat() < 0 ? null : players.get(move.victimSeat());
+            Map<ResourceType, Integer> stolen = move.stolen() == null ? Map.of() : Map.of(move.stolen(), 1);
+            if (victim != null) {
+                victim.removeResource(ResourceVector.fromMap(stolen));
+                player.addResources(stolen);
+            }
+            stolenResourcesLog = getSingleStolenResourceAsString(victim, victim == null ? null : stolen);
+            actionLog.append(action);
+        } else if (action instanceof GameAction.BankTrade) {
+            GameAction.BankTrade trade = (GameAction.BankTrade) action;
+            if (player.getResourceCount(trade.give()) < GameState.BANK_TRADE_RATIO) {
+                throw new IllegalStateException("Bankhandel nicht gedeckt: " + action);
+            }
+            subtractPlayerRessources(player, Map.of(trade.give(), GameState.BANK_TRADE_RATIO), Map.of(trade.receive(), 1));
+        } else if (action instanceof GameAction.PlayerTrade) {
+            GameAction.PlayerTrade trade = (GameAction.PlayerTrade) action;
+            if (!offerTrade(players.get(trade.partnerSeat()), trade.give().asMap(), trade.receive().asMap())) {
+                throw new IllegalStateException("Handel nicht ausführbar: " + action);
+            }
+        } else if (action instanceof GameAction.EndTurn) {
+            endTurn();
+            if (currentPhase == GamePhase.PLAYING) {
+                hasRolledDice = false;
+            }
+        }
+    }
+
+    public DecisionProvider getDecisionProvider() {
+        return decisionProvider;
+    }
+
+    public void setDecisionProvider(DecisionProvider decisionProvider) {
+        this.decisionProvider = decisionProvider;
+    }
+    
     public boolean getIsFirstNormalRound() {
         return firstNormalRound;
     }
@@ -202,6 +447,7 @@ public class CatanGame {
         int die1 = random.nextInt(6) + 1;
         int die2 = random.nextInt(6) + 1;
         lastDiceRoll = die1 + die2;
+        actionLog.append(new GameAction.RollDice(currentPlayerIndex, die1, die2));
         
         // Spezialbehandlung für gewürfelte 7
         if (lastDiceRoll == 7) {
@@ -221,49 +467,61 @@ public class CatanGame {
             int totalCards = player.getTotalResourceCount();
             if (totalCards > MAX_HAND_SIZE_ON_SEVEN) {
                 int cardsToDiscard = totalCards / 2;
-                // In echter Implementierung würde hier UI für Kartenauswahl aufgerufen
-                discardRandomCards(player, cardsToDiscard);
+                // Kartenauswahl über den Provider, ohne Auswahl zufällig
+                Map<ResourceType, Integer> discards = decisionProvider.chooseDiscards(player, cardsToDiscard);
+                ResourceVector discarded;
+                if (isValidDiscard(player, discards, cardsToDiscard)) {
+                	player.spendResources(discards);
+                	discarded = ResourceVector.fromMap(discards);
+                } else {
+                	discarded = discardRandomCards(player, cardsToDiscard);
+                }
+                actionLog.append(new GameAction.Discard(BoardOccupancy.seatOf(player), discarded));
             }
         }
         
         // Räuber muss bewegt werden
         hasMovedRobber = false;
-        System.out.println("7 GEWÜRFELT (in handleSevenRolled aktuell)");
-        robberAlert();
+        Diagnostics.info(LOG, () -> "7 gewürfelt, " + getCurrentPlayer().getName() + " muss den Räuber versetzen");
+        decisionProvider.robberMustMove(getCurrentPlayer());
     }
     
     /**
-     * Zeigt Alert für Räuber-Bewegung bei gewürfelter 7
+     * Prüft eine Abwurfauswahl wie {@link GameState#isLegal}: genau count Karten, keine negativen Mengen,
+     * alle auf der Hand. Sonst würde eine Aktion protokolliert, die beim Replay abgelehnt wird.
      */
-    private void robberAlert() {
-    	Alert alert = new Alert(Alert.AlertType.INFORMATION);
-    	alert.setTitle("7 gewürfelt");
-        alert.setContentText("Räuber muss versetzt werden vor weiteren Handlungen!\nKlicke dafür auf ein gewünschtes Feld und verschiebe somit den Räuber");
-        alert.showAndWait();
+    private static boolean isValidDiscard(Player player, Map<ResourceType, Integer> discards, int count) {
+        if (discards == null || !player.hasSufficientResources(discards)) {
+            return false;
+        }
+        int total = 0;
+        for (Integer amount : discards.values()) {
+            if (amount == null || amount < 0) {
+                return false;
+            }
+            total += amount;
+        }
+        return total == count;
     }
     
     /**
      * Lässt einen Spieler zufällig Karten abgeben
      * @param player Spieler der Karten abgeben muss
      * @param count Anzahl der abzugebenden Karten
+     * @return Abgegebene Karten
      */
-    private void discardRandomCards(Player player, int count) {
-        // Alle verfügbaren Ressourcen sammeln
-        List<ResourceType> availableResources = new ArrayList<>();
-        
-        for (ResourceType type : ResourceType.values()) {
-            int amount = player.getResourceCount(type);
-            for (int i = 0; i < amount; i++) {
-                availableResources.add(type);
+    private ResourceVector discardRandomCards(Player player, int count) {
+        // Karte für Karte gleichverteilt aus der verbleibenden Hand ziehen
+        ResourceVector discardedCards = new ResourceVector();
+        for (int i = 0; i < count; i++) {
+            ResourceType discarded = player.getResourceVector().sample(random);
+            if (discarded == null) {
+                break;
             }
+            player.removeResource(discarded, 1);
+            discardedCards.add(discarded, 1);
         }
-        
-        // Zufällig mischen und entfernen
-        Collections.shuffle(availableResources);
-        
-        for (int i = 0; i < Math.min(count, availableResources.size()); i++) {
-            player.removeResource(availableResources.get(i), 1);
-        }
+        return discardedCards;
     }
     
     /**
@@ -271,28 +529,23 @@ public class CatanGame {
      * Wird nach der Aufbauphase einmalig aufgerufen
      */
     private void initialResourceDistribution() {
-        // Für jeden Spieler Ressourcen basierend auf Gebäuden verteilen
-    	for (Player player : getPlayers()) {
-            // Alle Gebäude des Spielers finden
-        	Map<VertexCoordinate, Building> playerBuildings = board.getBuildings().entrySet().stream()
-        		    .filter(entry -> entry.getValue().getOwner().equals(player))
-        		    .collect(Collectors.toMap(
-        		        Map.Entry::getKey,
-        		        Map.Entry::getValue
-        		    ));
-        	
-        	Map<HexCoordinate, TerrainTile> tiles = board.getAllTiles();
-        	
-        	// Für jedes Gebäude die angrenzenden Hexe prüfen
-        	for (Building building : playerBuildings.values()) {
-        		List<HexCoordinate> neighbourHexes = board.getHexNeighbours(building.getVertexCoordinate());
-        		for (HexCoordinate neighbourHex : neighbourHexes) {
-        			TerrainTile tile = tiles.get(neighbourHex);
-        			// Ressource vom Terrain-Typ hinzufügen
-        			player.setResources(tile.getTerrainType().getResourceType(), 1);
-        		}
-        	}
-        }
+    	BoardTopology topology = board.getTopology();
+    	
+        // Für jedes Gebäude die angrenzenden Hexe über die Topologie-Tabelle prüfen
+    	for (Building building : board.getBuildings().values()) {
+    		int vertex = topology.getVertexId(building.getVertexCoordinate());
+    		for (int slot = 0; slot < BoardTopology.MAX_VERTEX_HEXES; slot++) {
+    			int hex = topology.getVertexHex(vertex, slot);
+    			if (hex < 0) {
+    				break;
+    			}
+    			TerrainTile tile = board.getHexTile(hex);
+    			// Ressource vom Terrain-Typ hinzufügen (Wüste liefert nichts)
+    			if (tile.getTerrainType().producesResource()) {
+    				building.getOwner().setResources(tile.getTerrainType().getResourceType(), 1);
+    			}
+    		}
+    	}
     }
     
     /**
@@ -300,57 +553,29 @@ public class CatanGame {
      * @param roll Das Würfelergebnis
      */
     public void ingameResourceDistribution(int roll){
-        // Für jeden Spieler Ressourcen basierend auf Würfelergebnis verteilen
-    	for (Player player : getPlayers()) {
-            // Alle Gebäude des Spielers finden
-        	Map<VertexCoordinate, Building> playerBuildings = board.getBuildings().entrySet().stream()
-        		    .filter(entry -> entry.getValue().getOwner().equals(player))
-        		    .collect(Collectors.toMap(
-        		        Map.Entry::getKey,
-        		        Map.Entry::getValue
-        		    ));
-        	
-        	Map<HexCoordinate, TerrainTile> tiles = board.getAllTiles();
-        	
-        	// Für jedes Gebäude die angrenzenden Hexe prüfen
-        	for (Building building : playerBuildings.values()) {
-        		List<HexCoordinate> neighbourHexes = board.getHexNeighbours(building.getVertexCoordinate());
-        		for (HexCoordinate neighbourHex : neighbourHexes) {
-        			// Räuber blockiert Ressourcenproduktion
-        			if (neighbourHex != board.getRobberPosition()) {
-        				TerrainTile tile = tiles.get(neighbourHex);
-        				
-        				// Prüfen ob Würfelergebnis mit Tile-Token übereinstimmt
-        				TerrainType type = tile.compareTokens(roll);
-        				if (type != null && !tile.hasRobber()) {
-        					// Ressourcen entsprechend Gebäudetyp hinzufügen
-        					player.setResources(type.getResourceType(), building.getResourceProduction());
-        				}
-        			}
-        		}
-        	}
+        // Vorberechnete Einträge der Würfelzahl abarbeiten (Räuber ist bereits berücksichtigt)
+    	int entries = production.getEntryCount(roll);
+    	for (int i = 0; i < entries; i++) {
+    		players.get(production.getSeat(roll, i))
+    			.setResources(production.getResource(roll, i), production.getAmount(roll, i));
     	}
     }
     
     /**
-     * Debug-Methode: Gibt alle Spieler-Ressourcen in der Konsole aus
+     * Debug-Methode: Gibt alle Spieler-Ressourcen über {@link Diagnostics} aus
      */
     public void listPlayersResources() {
-    	for (Player player : getPlayers()) {    	   	
-        	Map<ResourceType, Integer> playerResources = player.getResources();
-    		System.out.println("Resources for player " + player.getName() + ":");
-    		playerResources.forEach((resource, amount) -> 
-    		    System.out.println(" - " + resource + ": " + amount));
+    	for (Player player : players) {
+    		Diagnostics.debug(LOG, () -> "Resources for player " + player.getName() + ": " + player.getResources());
     	}
     }
     
     /**
-     * Debug-Methode: Gibt alle Spieler-Siegpunkte in der Konsole aus
+     * Debug-Methode: Gibt alle Spieler-Siegpunkte über {@link Diagnostics} aus
      */
     public void listPlayersVictoryPoints() {
-        for (Player player : getPlayers()) {
-            System.out.println("Victory points for player " + player.getName() + ":");
-            System.out.println(" - " + player.getVictoryPoints());
+        for (Player player : players) {
+            Diagnostics.debug(LOG, () -> "Victory points for player " + player.getName() + ": " + player.getVictoryPoints());
         }
     }
     
@@ -392,6 +617,8 @@ public class CatanGame {
             otherPlayer.removeResource(entry.getKey(), entry.getValue());
             currentPlayer.addResource(entry.getKey(), entry.getValue());
         }
+        actionLog.append(new GameAction.PlayerTrade(currentPlayerIndex, BoardOccupancy.seatOf(otherPlayer),
+            ResourceVector.fromMap(give), ResourceVector.fromMap(receive)));
         
         return true;
     }
@@ -401,19 +628,21 @@ public class CatanGame {
      */
     public void endTurn() {
     	boolean skipInkrement = false;
+    	int previousPlayerIndex = currentPlayerIndex;
+    	actionLog.append(new GameAction.EndTurn(currentPlayerIndex));
     	
         if (currentPhase == GamePhase.INITIAL_PLACEMENT_1) {
             // Erste Aufbauphase: Vorwärts durch Spieler
         	this.getCurrentPlayer().setInitialSettlementPlaced(false);
         	this.getCurrentPlayer().setInitialRoadPlaced(false);
             currentPlayerIndex = (currentPlayerIndex + 1);
-            System.out.println("index: " + getCurrentPlayerIndex());
+            Diagnostics.debug(LOG, () -> "index: " + currentPlayerIndex);
             
             // Wenn alle Spieler dran waren, zur zweiten Phase
             if (currentPlayerIndex == players.size()) {
                 currentPhase = GamePhase.INITIAL_PLACEMENT_2;
                 currentPlayerIndex = players.size() - 2; // Rückwärts-Reihenfolge
-                System.out.println("Geht jetzt in Phase 2");
+                Diagnostics.info(LOG, () -> "Geht jetzt in Phase 2");
             }
         } else if (currentPhase == GamePhase.INITIAL_PLACEMENT_2) {
             // Zweite Aufbauphase: Rückwärts durch Spieler
@@ -429,14 +658,9 @@ public class CatanGame {
                 initialResourceDistribution();
                 
                 // Debug-Ausgabe der Startressourcen
-                for (Player player : getPlayers()) {
-                    System.out.println("=== Ressourcen des Spielers ===" + player.getName());
-                    player.getResources().forEach((type, amount) -> {
-                        System.out.println(type + ": " + amount);
-                    });
-                }                   
+                listPlayersResources();
                 
-                System.out.println("geht jetzt in normale 'Spielphase'");
+                Diagnostics.info(LOG, () -> "geht jetzt in normale 'Spielphase'");
                 firstNormalRound = true;
                 setHasRolledDice(false);
             }
@@ -448,6 +672,7 @@ public class CatanGame {
         }
         
         skipInkrement = false;
+        positionHash.changeSide(previousPlayerIndex, currentPlayerIndex);
     }
     
     /**
@@ -499,43 +724,16 @@ public class CatanGame {
      * @return true wenn Gebäude platziert werden kann
      */
     public boolean canPlaceAnyBuilding(VertexCoordinate vertex, Player player, boolean isBeginning) {
+    	BoardTopology topology = board.getTopology();
+    	
         // Vertex muss gültig sein
-        if (!board.getValidVertices().containsKey(vertex)) {
-            return false;
-        }
-        
-        // Position darf nicht besetzt sein
-        if (board.getBuildings().containsKey(vertex)) {
+    	int vertexId = topology.getVertexId(vertex);
+        if (vertexId < 0) {
             return false;
         }
         
-        // Distanzregel: Keine angrenzenden Gebäude
-        for (VertexCoordinate vert : vertex.getAdjacentVertices(AuthenticCatanBoard.getHexRadius(), AuthenticCatanBoard.getBoardCenterX(), AuthenticCatanBoard.getBoardCenterY(), board.getNormalizedCatanCoordMap(), board.getValidVertices())) {
-        	if (board.getBuildings().containsKey(vert)) {
-        		return false;
-        	}
-        }
-        
-        // Prüfung auf Anbindung zu eigener Straße (außer in Aufbauphase)
-        List<Road> ownedRoads = board.getRoads().values().stream()
-        	    .filter(b -> b.getOwner().equals(player))
-        	    .collect(Collectors.toList());
-        
-        for (Road road : ownedRoads) {
-            List<VertexCoordinate> roadVertices = road.getEdgeCoordinate().getConnectedVertices();
-            for (VertexCoordinate roadVertex : roadVertices) {
-                if (roadVertex.equals(vertex) && !isBeginning()) {
-                    return true;
-                }
-            }
-        }
-        
-        // In Aufbauphase immer erlaubt
-        if (isBeginning()) {
-        	return true;
-        }
-        
-        return false;
+        // Frei, Distanzregel erfüllt und (außer in Aufbauphase) an eigene Straße angebunden
+        return legalMoves.isSettlementSpot(BoardOccupancy.seatOf(player), vertexId, isBeginning());
     }
     
     /**
@@ -557,10 +755,8 @@ public class CatanGame {
         }  
         
         // Distanzregel prüfen
-        for (VertexCoordinate vert : vertex.getAdjacentVertices(AuthenticCatanBoard.getHexRadius(), AuthenticCatanBoard.getBoardCenterX(), AuthenticCatanBoard.getBoardCenterY(), board.getNormalizedCatanCoordMap(), board.getValidVertices())) {
-        	if (board.getBuildings().containsKey(vert)) {
-        		return false;
-        	}
+        if (board.getOccupancy().hasAdjacentBuilding(board.getTopology().getVertexId(vertex))) {
+        	return false;
         }
         
         // Ressourcenprüfung
@@ -583,12 +779,9 @@ public class CatanGame {
      */
     public boolean canPlaceCity(VertexCoordinate vertex, Player player, boolean isBeginning) {
         // Prüfung ob Spieler bereits eine Siedlung an dieser Position besitzt
-    	boolean ownsSettlementAt = board.getBuildings().entrySet().stream()
-    		    .anyMatch(entry ->
-    		        entry.getKey().equals(vertex) &&
-    		        entry.getValue().getOwner().equals(player) &&
-    		        entry.getValue().getType() == Building.Type.SETTLEMENT
-    		    );
+    	int vertexId = board.getTopology().getVertexId(vertex);
+    	boolean ownsSettlementAt = vertexId >= 0 
+    		&& legalMoves.isCitySpot(BoardOccupancy.seatOf(player), vertexId);
 
     	// Stadt nur möglich wenn: eigene Siedlung vorhanden, genügend Ressourcen, nicht Aufbauphase, genügend Städte verfügbar
     	if (!ownsSettlementAt || !hasSufficientResourcesForCity() || isBeginning || player.getCityCount() <= 0) {
@@ -622,19 +815,31 @@ public class CatanGame {
      */
     public void placeBuilding(Building.Type type, VertexCoordinate vertex, Player player) {
         // Gebäude zum Board hinzufügen
-        board.getBuildings().put(vertex, new Building(type, player, vertex));
+        board.placeBuilding(new Building(type, player, vertex));
+        int vertexId = board.getTopology().getVertexId(vertex);
+        int seat = BoardOccupancy.seatOf(player);
+        if (type == Building.Type.CITY) {
+            positionHash.upgradeToCity(seat, vertexId);
+        } else {
+            positionHash.toggleSettlement(seat, vertexId);
+        }
+        legalMoves.onBuildingPlaced(seat, vertexId, type);
+        production.onBuildingPlaced(vertexId);
+        actionLog.append(type == Building.Type.CITY
+            ? new GameAction.PlaceCity(seat, vertexId)
+            : new GameAction.PlaceSettlement(seat, vertexId));
         player.addVictoryPoints(1); // Siegpunkt für beide Gebäudetypen
         
         if (type == Building.Type.SETTLEMENT && !isBeginning()) {
             // Normale Spielphase: Ressourcen abziehen
         	player.removeResource(Player.SETTLEMENT_COST);
         	player.setSettlementCount(player.getSettlementCount() - 1);
-        	System.out.println("Settlement count: " + player.getSettlementCount());
+        	Diagnostics.debug(LOG, () -> "Settlement count: " + player.getSettlementCount());
         }
         else if (type == Building.Type.SETTLEMENT && isBeginning()) {
             // Aufbauphase: Nur Anzahl reduzieren
         	player.setSettlementCount(player.getSettlementCount() - 1);
-        	System.out.println("Settlement count: " + player.getSettlementCount());
+        	Diagnostics.debug(LOG, () -> "Settlement count: " + player.getSettlementCount());
         }
         else if (type == Building.Type.CITY && !isBeginning()) {
             // Stadt-Upgrade: Ressourcen abziehen, Städte-Anzahl reduzieren
@@ -650,8 +855,11 @@ public class CatanGame {
      * @return true wenn Straße platziert werden kann
      */
     public boolean canPlaceRoad(EdgeCoordinate edge, Player player) {
+    	BoardTopology topology = board.getTopology();
+    	
         // Edge muss gültig sein
-        if (!board.getValidEdges().contains(edge)) {
+    	int edgeId = topology.getEdgeId(edge);
+        if (edgeId < 0) {
             return false;
         }
         
@@ -660,41 +868,14 @@ public class CatanGame {
         	return false;
         }
         
-        // Straße darf nicht bereits existieren
-        if (board.getRoads().containsKey(edge)){
-        	return false;
-        }
-        
-        // Spezialfall Aufbauphase: Anbindung zu Gebäude aber nicht zu anderer Straße
-        if (isBuildingClose(edge, player) && isBeginning()) {
-        	return !isAdjacentRoad(edge, player);
-        }
-        
         // Normale Spielphase: Genügend Ressourcen
-        if (!hasSufficientResourcesForRoad()) {
+        if (!isBeginning() && !hasSufficientResourcesForRoad()) {
         	return false;
         }
         
-        // Anbindung zu eigenem Gebäude
-        if (isBuildingClose(edge, player)) {
-        	return true;
-        }
-        
-        // Anbindung zu eigener Straße (nur normale Spielphase)
-        List<Road> ownedRoads = board.getRoads().values().stream()
-        	    .filter(b -> b.getOwner().equals(player))
-        	    .collect(Collectors.toList());
-        
-        for (Road road : ownedRoads) {
-            List<VertexCoordinate> roadVertices = road.getEdgeCoordinate().getConnectedVertices();
-            for (VertexCoordinate roadVertex : roadVertices) {
-                if ((roadVertex.equals(edge.getVertexA()) || roadVertex.equals(edge.getVertexB())) && !isBeginning()) {
-                    return true;
-                }
-            }
-        }       
-        
-        return false;
+        // Frei und angebunden: in der Aufbauphase nur an ein Gebäude ohne eigene Straße,
+        // sonst an ein eigenes Gebäude oder eine eigene Straße
+        return legalMoves.isRoadSpot(BoardOccupancy.seatOf(player), edgeId, isBeginning());
     }
     
     /**
@@ -706,7 +887,11 @@ public class CatanGame {
     public boolean placeRoad(EdgeCoordinate edge, Player player) {
         if (canPlaceRoad(edge, player)) {
             // Straße zum Board hinzufügen
-            board.getRoads().put(edge, new Road(player, edge));
+            board.placeRoad(new Road(player, edge));
+            int edgeId = board.getTopology().getEdgeId(edge);
+            positionHash.toggleRoad(BoardOccupancy.seatOf(player), edgeId);
+            legalMoves.onRoadPlaced(BoardOccupancy.seatOf(player), edgeId);
+            actionLog.append(new GameAction.PlaceRoad(BoardOccupancy.seatOf(player), edgeId));
             player.setRoadCount(player.getRoadCount() - 1);
             
             // Ressourcen nur in normaler Spielphase abziehen
@@ -725,19 +910,11 @@ public class CatanGame {
      * @return true wenn Gebäude in der Nähe
      */
     boolean isBuildingClose(EdgeCoordinate edge, Player player) {
-        // Alle eigenen Gebäude finden
-    	List<Building> ownedBuildings = board.getBuildings().values().stream()
-        	    .filter(b -> b.getOwner().equals(player))
-        	    .collect(Collectors.toList());
+    	BoardTopology topology = board.getTopology();
+    	int edgeId = topology.getEdgeId(edge);
     	
-        // Prüfen ob Gebäude an einem der Edge-Endpunkte liegt
-        for (Building building : ownedBuildings) {
-			if (building.getVertexCoordinate().equals(edge.getVertexA()) || 
-			    building.getVertexCoordinate().equals(edge.getVertexB())) {	
-				return true;
-			}
-        }
-        return false;
+        // Prüfen ob eigenes Gebäude an einem der Edge-Endpunkte liegt
+        return edgeId >= 0 && board.getOccupancy().hasBuildingAtEdge(BoardOccupancy.seatOf(player), edgeId);
     }
     
     /**
@@ -747,28 +924,21 @@ public class CatanGame {
      * @return true wenn bereits angrenzende Straße existiert
      */
     boolean isAdjacentRoad(EdgeCoordinate edge, Player player) {
-        // Alle eigenen Straßen finden
-    	List<Road> ownedRoads = board.getRoads().values().stream()
-        	    .filter(b -> b.getOwner().equals(player))
-        	    .collect(Collectors.toList());
+    	BoardTopology topology = board.getTopology();
+    	int edgeId = topology.getEdgeId(edge);
+    	if (edgeId < 0) {
+    		return false;
+    	}
     	
         // Gebäude an einem der Edge-Endpunkte finden
-    	Optional<Building> building = board.getBuildings().values().stream()
-    		    .filter(b -> b.getVertexCoordinate().equals(edge.getVertexA()) || 
-    		                 b.getVertexCoordinate().equals(edge.getVertexB()))
-    		    .findFirst();
+    	int vertexA = topology.getEdgeVertex(edgeId, 0);
+    	int vertexB = topology.getEdgeVertex(edgeId, 1);
+    	BoardOccupancy occupancy = board.getOccupancy();
+    	int buildingVertex = occupancy.isOccupied(vertexA) ? vertexA
+    		: occupancy.isOccupied(vertexB) ? vertexB : -1;
     	
-    	if (building.isPresent()){
-    		Building b = building.get();
-    		// Prüfen ob bereits Straße an diesem Gebäude liegt
-    		for (Road road : ownedRoads) {
-    			if (b.getVertexCoordinate() == road.getEdgeCoordinate().getVertexA() || 
-    			    b.getVertexCoordinate() == road.getEdgeCoordinate().getVertexB()) {
-    				return true;
-    			}
-    		}
-    	}
-    	return false;
+		// Prüfen ob bereits Straße an diesem Gebäude liegt
+    	return buildingVertex >= 0 && occupancy.hasRoadAt(BoardOccupancy.seatOf(player), buildingVertex);
     }
     
     /**
@@ -779,13 +949,9 @@ public class CatanGame {
     	Player player = getCurrentPlayer();
     	
         // Anzahl der platzierten Gebäude und Straßen zählen
-        long settlementCount = board.getBuildings().values().stream()
-            .filter(b -> b.getOwner().equals(player))
-            .count();
-
-        long roadCount = board.getRoads().values().stream()
-            .filter(r -> r.getOwner().equals(player))
-            .count();
+        int seat = BoardOccupancy.seatOf(player);
+        int settlementCount = board.getOccupancy().getBuildingCount(seat);
+        int roadCount = board.getOccupancy().getRoadCount(seat);
         
         // Bedingungen je nach Phase
         if (currentPhase == GamePhase.INITIAL_PLACEMENT_1 && getCurrentPlayerIndex() == getPlayers().size() - 1) {
@@ -803,55 +969,56 @@ public class CatanGame {
         return true;
     }
     
-    /**
-     * Erweitert eine Siedlung zu einer Stadt (Legacy-Methode)
-     * @param vertex Die Vertex-Koordinate
-     * @param player Der Spieler
-     * @return true wenn erfolgreich
-     */
-    public boolean upgradeToCity(VertexCoordinate vertex, Player player) {
-        Building existing = board.getBuildings().get(vertex);
-        
-        if (existing != null && existing.getOwner() == player && 
-            existing.getType() == Building.Type.SETTLEMENT) {
-            existing.setType(Building.Type.CITY);
-            return true;
-        }
-        return false;
-    }
-    
     /**
      * Bewegt den Räuber zu einer neuen Position
      * @param newPosition Die neue Hex-Koordinate für den Räuber
      */
     public void moveRobber(HexCoordinate newPosition) {
-        // Räuber von aktueller Position entfernen
-        TerrainTile currentTile = board.getHexTile(board.getRobberPosition());
-        if (currentTile != null) {
-            currentTile.setRobber(false);
-        }
-        
-        // Räuber auf neue Position setzen
-        TerrainTile newTile = board.getHexTile(newPosition);
-        if (newTile != null) {
-            newTile.setRobber(true);
-            setHasMovedRobber(true);
-            board.setRobberPosition(newPosition);
-            
+        if (placeRobber(newPosition)) {
             // Betroffene Spieler bestimmen und Ressource stehlen
             Set<Player> adjacentPlayers = determinePlayers(newPosition);
-            System.out.println("Betroffene Spieler gefunden, Anzahl: " + adjacentPlayers.size());
+            Diagnostics.debug(LOG, () -> "Betroffene Spieler gefunden, Anzahl: " + adjacentPlayers.size());
             
             Player selectedPlayer = choosePlayer(adjacentPlayers);
+            ResourceType stolen = null;
             if (selectedPlayer != null) {
 	            Map<ResourceType, Integer> stolenResources = stealFromPlayer(selectedPlayer);
 	            stolenResourcesLog = getSingleStolenResourceAsString(selectedPlayer, stolenResources);
+	            stolen = stolenResources.isEmpty() ? null : stolenResources.keySet().iterator().next();
             } else {
             	stolenResourcesLog = getSingleStolenResourceAsString(selectedPlayer, null);
             }
+            actionLog.append(new GameAction.MoveRobber(currentPlayerIndex, board.getRobberHexId(),
+                selectedPlayer == null ? -1 : BoardOccupancy.seatOf(selectedPlayer), stolen));
         }
     }
 
+    /**
+     * Versetzt den Räuber ohne Diebstahl
+     * @return true wenn die Position auf dem Board liegt
+     */
+    private boolean placeRobber(HexCoordinate newPosition) {
+        int previousHex = board.getRobberHexId();
+        // Räuber von aktueller Position entfernen
+        TerrainTile currentTile = board.getHexTile(board.getRobberPosition());
+        if (currentTile != null) {
+            currentTile.setRobber(false);
+        }
+        
+        // Räuber auf neue Position setzen
+        TerrainTile newTile = board.getHexTile(newPosition);
+        if (newTile == null) {
+            return false;
+        }
+        newTile.setRobber(true);
+        setHasMovedRobber(true);
+        board.setRobberPosition(newPosition);
+        positionHash.moveRobber(previousHex, board.getRobberHexId());
+        legalMoves.onRobberMoved(board.getRobberHexId());
+        production.onRobberMoved(board.getRobberHexId());
+        return true;
+    }
+
     /**
      * Bestimmt alle Spieler die von einer Räuber-Position betroffen sind
      * @param position Die Hex-Koordinate des Räubers
@@ -859,18 +1026,14 @@ public class CatanGame {
      */
     private Set<Player> determinePlayers(HexCoordinate position) {
     	Set<Player> adjacentPlayers = new HashSet<>();
+    	BoardTopology topology = board.getTopology();
+    	int hex = topology.getHexId(position);
     	
-    	// Alle Gebäude durchgehen
-    	for (Building building : board.getBuildings().values()) {
-    		VertexCoordinate normalizedVertex = building.getVertexCoordinate();
-    		List<VertexCoordinate> unnormalizedVertices = board.getNormalizedToUnnormalized().get(normalizedVertex);
-    		
-    		// Prüfen ob Vertex an der Räuber-Position liegt
-    		for (VertexCoordinate vertex : unnormalizedVertices) {
-				if (vertex.getX() == position.getQ() && vertex.getY() == position.getR() && 
-				    building.getOwner() != getCurrentPlayer()) {
-					adjacentPlayers.add(building.getOwner());
-				}
+    	// Die 6 Ecken des Räuber-Feldes durchgehen
+    	for (int dir = 0; dir < BoardTopology.HEX_VERTICES; dir++) {
+    		Building building = board.getBuildings().get(topology.getVertex(topology.getHexVertex(hex, dir)));
+			if (building != null && building.getOwner() != getCurrentPlayer()) {
+				adjacentPlayers.add(building.getOwner());
 			}
     	}
     	return adjacentPlayers;
@@ -887,35 +1050,23 @@ public class CatanGame {
     	 // Wenn nur ein Spieler verfügbar
     	 if (adjacentPlayers.size() == 1) {
     	        Player onlyPlayer = adjacentPlayers.iterator().next();
-    	        System.out.println("Nur ein Spieler verfügbar: " + onlyPlayer.getName());
+    	        Diagnostics.debug(LOG, () -> "Nur ein Spieler verfügbar: " + onlyPlayer.getName());
     	        return onlyPlayer;
     	 }
     	 
-    	 // Auswahl-Dialog für mehrere Spieler
-    	 List<Player> playerList = new ArrayList<>(adjacentPlayers);
-    	 Optional<Player> result = Optional.empty();
-
-    	 // Wiederholung bis gültige Auswahl
-    	 while (result.isEmpty()) {
-    	        ChoiceDialog<Player> dialog = new ChoiceDialog<>(playerList.get(0), playerList);
-    	        dialog.setTitle("Spieler auswählen");
-    	        dialog.setHeaderText("Wähle einen Spieler aus, von dem du klauen willst:");
-    	        dialog.setContentText("Spieler:");
-
-    	        result = dialog.showAndWait();
-
-    	        if (result.isEmpty()) {
-    	            // Warnung bei fehlender Auswahl
-    	            Alert alert = new Alert(Alert.AlertType.WARNING);
-    	            alert.setTitle("Auswahl erforderlich");
-    	            alert.setHeaderText("Du musst einen Spieler auswählen!");
-    	            alert.setContentText("Bitte wähle einen Spieler aus der Liste.");
-    	            alert.showAndWait();
-    	        }
+    	 // Kandidaten in Sitzreihenfolge an den Provider übergeben
+    	 List<Player> playerList = new ArrayList<>();
+    	 for (Player player : players) {
+    		 if (adjacentPlayers.contains(player)) {
+    			 playerList.add(player);
+    		 }
     	 }
-
-    	 Player selectedPlayer = result.get();
-    	 System.out.println("Du hast gewählt: " + selectedPlayer.getName());
+    	 
+    	 Player selectedPlayer = decisionProvider.chooseStealTarget(getCurrentPlayer(), playerList);
+    	 if (!adjacentPlayers.contains(selectedPlayer)) {
+    		 throw new IllegalStateException("Ungültiges Ziel für den Räuber: " + selectedPlayer);
+    	 }
+    	 Diagnostics.debug(LOG, () -> "Du hast gewählt: " + selectedPlayer.getName());
     	 return selectedPlayer;
     }
     
@@ -925,7 +1076,7 @@ public class CatanGame {
      * @return Map mit gestohlenen Ressourcen
      */
     private Map<ResourceType, Integer> stealFromPlayer(Player selectedPlayer) {
-    	Map<ResourceType, Integer> stolenResources = selectedPlayer.stealRandomResource();
+    	Map<ResourceType, Integer> stolenResources = selectedPlayer.stealRandomResource(random);
     	getCurrentPlayer().addResources(stolenResources);
     	return stolenResources;
     }
@@ -960,10 +1111,16 @@ public class CatanGame {
      * @return Beschreibungstext der Transaktion
      */
     public String subtractPlayerRessources(Player player, Map<ResourceType, Integer> cost, Map<ResourceType, Integer> add) {
+    	// Nur Transaktionen, die sich als BankTrade-Aktionen protokollieren lassen, verändern den Zustand
+    	if (!isBankTrade(cost, add)) {
+    		Diagnostics.warn(LOG, () -> "Transaktion ohne 4:1-Kurs abgelehnt: " + cost + " gegen " + add);
+    		return "Ungültiger Handel: nur " + GameState.BANK_TRADE_RATIO + " gleiche Rohstoffe gegen 1 anderen sind erlaubt.";
+    	}
     	if (player.hasSufficientResources(cost)) {
     		// Transaktion durchführen
 			player.spendResources(cost);
 			player.addResources(add);
+			logBankTrades(player, cost, add);
 			
 			// Beschreibungstext erstellen
 			StringBuilder message = new StringBuilder();
@@ -989,6 +1146,26 @@ public class CatanGame {
     	}
     }
     
+    // Genau ein Rohstoff wird im 4:1-Kurs gegen einen anderen getauscht
+    private static boolean isBankTrade(Map<ResourceType, Integer> cost, Map<ResourceType, Integer> add) {
+    	if (cost.size() != 1 || add.size() != 1) {
+    		return false;
+    	}
+    	ResourceType give = cost.keySet().iterator().next();
+    	ResourceType receive = add.keySet().iterator().next();
+    	int trades = add.get(receive);
+    	return give != receive && trades > 0 && cost.get(give) == trades * GameState.BANK_TRADE_RATIO;
+    }
+    
+    // Bankhandel wird als Folge einzelner 4:1-Tausche protokolliert (vorher mit isBankTrade geprüft)
+    private void logBankTrades(Player player, Map<ResourceType, Integer> cost, Map<ResourceType, Integer> add) {
+    	ResourceType give = cost.keySet().iterator().next();
+    	ResourceType receive = add.keySet().iterator().next();
+    	for (int i = add.get(receive); i > 0; i--) {
+    		actionLog.append(new GameAction.BankTrade(BoardOccupancy.seatOf(player), give, receive));
+    	}
+    }
+    
     /**
      * Führt einen Handel zwischen zwei Spielern durch (mit Bestätigung)
      * @param otherPlayer Der andere Spieler
@@ -1001,7 +1178,7 @@ public class CatanGame {
     	
     	// Prüfen ob beide Spieler genügend Ressourcen haben
     	if (otherPlayer.hasSufficientResources(amountOtherPlayer) && currentPlayer.hasSufficientResources(amountCurrentPlayer)) {
-    		// Handelstext für Bestätigung erstellen
+    		// Handelstext für die Log-Ausgabe erstellen
     		List<String> fromCurrentToOther = amountCurrentPlayer.entrySet().stream()
     	        .map(e -> e.getValue() + " " + e.getKey().getGermanName())
     	        .toList();
@@ -1010,26 +1187,15 @@ public class CatanGame {
     	        .map(e -> e.getValue() + " " + e.getKey().getGermanName())
     	        .toList();
 
-    	    String tradeMessage = currentPlayer.getName() + " möchte dir, " + otherPlayer.getName() + ", "
-    	        + String.join(", ", fromCurrentToOther)
-    	        + " geben und dafür "
-    	        + String.join(", ", fromOtherToCurrent)
-    	        + " von dir erhalten.\n\nMöchtest du diesen Handel annehmen?";
-
-    	    // Bestätigungs-Dialog anzeigen
-    	    Alert alert = new Alert(Alert.AlertType.CONFIRMATION);
-    	    alert.setTitle("Handelsanfrage");
-    	    alert.setHeaderText("Handel mit " + currentPlayer.getName());
-    	    alert.setContentText(tradeMessage);
-
-    	    Optional<ButtonType> result = alert.showAndWait();
-
-    	    if (result.isPresent() && result.get() == ButtonType.OK) {
+    	    // Bestätigung beim angefragten Spieler einholen
+    	    if (decisionProvider.acceptTrade(currentPlayer, otherPlayer, amountCurrentPlayer, amountOtherPlayer)) {
     	        // Handel durchführen
     	        currentPlayer.spendResources(amountCurrentPlayer);
     	        currentPlayer.addResources(amountOtherPlayer);
     	        otherPlayer.spendResources(amountOtherPlayer);
     	        otherPlayer.addResources(amountCurrentPlayer);
+    	        actionLog.append(new GameAction.PlayerTrade(currentPlayerIndex, BoardOccupancy.seatOf(otherPlayer),
+    	            ResourceVector.fromMap(amountCurrentPlayer), ResourceVector.fromMap(amountOtherPlayer)));
 
     	        // Erfolgstext erstellen
     	        StringBuilder message = new StringBuilder();
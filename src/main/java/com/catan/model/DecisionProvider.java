@@ -0,0 +1,47 @@
+package com.catan.model;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Schnittstelle für alle Entscheidungen, die während der Spiellogik von Spielern getroffen werden müssen.
+ * Die Spiellogik selbst blockiert nie auf einer Benutzeroberfläche, sondern fragt den gesetzten Provider.
+ * Die JavaFX-Oberfläche liefert eine Implementierung mit Dialogen, Bots und Simulationen eigene.
+ */
+public interface DecisionProvider {
+
+    /**
+     * Wählt den Spieler aus, von dem nach dem Versetzen des Räubers gestohlen wird.
+     * @param thief Der Spieler, der den Räuber versetzt hat
+     * @param candidates Alle betroffenen Spieler (nie leer, Reihenfolge nach Sitzplatz)
+     * @return Einer der Kandidaten
+     */
+    Player chooseStealTarget(Player thief, List<Player> candidates);
+
+    /**
+     * Fragt den angesprochenen Spieler, ob er ein Handelsangebot annimmt.
+     * @param offering Der anbietende Spieler
+     * @param receiving Der angefragte Spieler
+     * @param give Ressourcen die der anbietende Spieler abgibt
+     * @param receive Ressourcen die der anbietende Spieler dafür erhalten möchte
+     * @return true wenn der Handel angenommen wird
+     */
+    boolean acceptTrade(Player offering, Player receiving, Map<ResourceType, Integer> give, Map<ResourceType, Integer> receive);
+
+    /**
+     * Wählt die Karten aus, die ein Spieler bei einer gewürfelten 7 abgeben muss.
+     * @param player Der betroffene Spieler
+     * @param count Anzahl der abzugebenden Karten
+     * @return Abzugebende Ressourcen oder null für eine zufällige Abgabe durch die Spiellogik
+     */
+    default Map<ResourceType, Integer> chooseDiscards(Player player, int count) {
+        return null;
+    }
+
+    /**
+     * Benachrichtigung, dass der Räuber vor weiteren Handlungen versetzt werden muss.
+     * @param player Der Spieler, der den Räuber versetzen muss
+     */
+    default void robberMustMove(Player player) {
+    }
+}
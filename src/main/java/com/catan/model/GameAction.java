@@ -0,0 +1,73 @@
+package com.catan.model;
+
+import java.io.Serializable;
+
+/**
+ * Ein vollständig bestimmter Spielzug für {@link GameState#apply(GameAction)}.
+ * Zufallsergebnisse (Würfel, gestohlene Karte) sind Teil der Aktion, damit das Anwenden
+ * deterministisch bleibt. Vertices, Edges und Hexfelder werden über ihre {@link BoardTopology}-Ids angegeben.
+ * Aktionen sind serialisierbar und werden von {@link CatanGame} in einem {@link ActionLog} aufgezeichnet.
+ */
+public sealed interface GameAction extends Serializable {
+
+    /**
+     * @return Sitzplatz des handelnden Spielers
+     */
+    int seat();
+
+    record PlaceSettlement(int seat, int vertex) implements GameAction {
+    }
+
+    record PlaceCity(int seat, int vertex) implements GameAction {
+    }
+
+    record PlaceRoad(int seat, int edge) implements GameAction {
+    }
+
+    record RollDice(int seat, int die1, int die2) implements GameAction {
+        public RollDice {
+            if (die1 < 1 || die1 > 6 || die2 < 1 || die2 > 6) {
+                throw new IllegalArgumentException("Ungültiger Würfelwert: " + die1 + ", " + die2);
+            }
+        }
+
+        public int sum() {
+            return die1 + die2;
+        }
+    }
+
+    /**
+     * Abwerfen nach einer gewürfelten 7, von jedem Spieler mit zu vielen Karten einmal.
+     * @param cards Abgeworfene Karten (nur lesbarer Vektor)
+     */
+    record Discard(int seat, ResourceVector cards) implements GameAction {
+        public Discard {
+            cards = cards.readOnlyView();
+        }
+    }
+
+    /**
+     * @param victimSeat Bestohlener Spieler oder -1
+     * @param stolen Gestohlene Karte oder null, wenn niemand bestohlen wird oder der Bestohlene keine Karten hat
+     */
+    record MoveRobber(int seat, int hex, int victimSeat, ResourceType stolen) implements GameAction {
+    }
+
+    record BankTrade(int seat, ResourceType give, ResourceType receive) implements GameAction {
+    }
+
+    /**
+     * Handel des Spielers am Zug mit einem Mitspieler.
+     * @param give Karten des Spielers am Zug an den Partner (nur lesbarer Vektor)
+     * @param receive Karten des Partners an den Spieler am Zug (nur lesbarer Vektor)
+     */
+    record PlayerTrade(int seat, int partnerSeat, ResourceVector give, ResourceVector receive) implements GameAction {
+        public PlayerTrade {
+            give = give.readOnlyView();
+            receive = receive.readOnlyView();
+        }
+    }
+
+    record EndTurn(int seat) implements GameAction {
+    }
+}
@@ -0,0 +1,463 @@
+package com.catan.model;
+
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Unveränderlicher Spielzustand für Vorausschau, Undo und nebenläufige Leser.
+ * {@link #apply(GameAction)} liefert einen neuen Zustand und teilt alles Unveränderte mit dem alten:
+ * Board-Layout und nicht betroffene {@link PlayerState}s werden übernommen, die Belegung liegt in
+ * wenigen Bitboard-Wörtern ({@link OccupancyBits}). Ein Zug kostet damit nur den geänderten Spieler,
+ * die Spielerliste und höchstens ein 16-Wort-Array.
+ * Die Regeln entsprechen {@link CatanGame} einschließlich der Schlangenreihenfolge der Aufbauphase.
+ * @param layout Terrain und Zahlen, für alle Zustände einer Partie dieselbe Instanz
+ * @param players Spieler nach Sitzplatz
+ * @param occupancy Gebäude und Straßen aller Spieler
+ * @param robberHex Hex-Id des Räubers
+ * @param phase Spielphase
+ * @param currentSeat Sitzplatz des Spielers am Zug
+ * @param turn Anzahl abgeschlossener Züge der normalen Spielphase
+ * @param rolled Ob im aktuellen Zug bereits gewürfelt wurde
+ * @param discardMask Bit pro Sitzplatz, der nach einer 7 noch abwerfen muss
+ * @param robberPending Ob der Räuber nach einer 7 noch versetzt werden muss
+ * @param winnerSeat Sitzplatz des Siegers oder -1
+ */
+public record GameState(BoardLayout layout, List<PlayerState> players, OccupancyBits occupancy, int robberHex,
+                        CatanGame.GamePhase phase, int currentSeat, int turn, boolean rolled,
+                        int discardMask, boolean robberPending, int winnerSeat) {
+
+    public static final int BANK_TRADE_RATIO = 4; // Tauschkurs mit der Bank ohne Hafen
+
+    public GameState {
+        players = List.copyOf(players);
+    }
+
+    /**
+     * Startzustand vor der ersten Aufbauphase.
+     */
+    public static GameState initial(BoardLayout layout, int playerCount, int robberHex) {
+        if (playerCount < 2 || playerCount > BoardOccupancy.MAX_PLAYERS) {
+            throw new IllegalArgumentException("Ungültige Spieleranzahl: " + playerCount);
+        }
+        return new GameState(layout, Collections.nCopies(playerCount, PlayerState.INITIAL),
+            OccupancyBits.EMPTY, robberHex, CatanGame.GamePhase.INITIAL_PLACEMENT_1, 0, 0, false, 0, false, -1);
+    }
+
+    /**
+     * Momentaufnahme einer laufenden Partie. Ein Zugzähler wird von CatanGame nicht geführt und beginnt bei 0.
+     */
+    public static GameState of(CatanGame game) {
+        AuthenticCatanBoard board = game.getBoard();
+        PlayerState[] players = new PlayerState[game.getPlayers().size()];
+        for (int seat = 0; seat < players.length; seat++) {
+            players[seat] = PlayerState.of(game.getPlayers().get(seat));
+        }
+        boolean playing = game.getCurrentPhase() == CatanGame.GamePhase.PLAYING;
+        boolean robberPending = playing && game.hasRolledDice() && game.getLastDiceRoll() == 7 && !game.hasMovedRobber();
+        Player winner = game.getWinner();
+        return new GameState(BoardLayout.of(board), List.of(players), OccupancyBits.of(board.getOccupancy()),
+            board.getRobberHexId(), game.getCurrentPhase(), game.getCurrentPlayerIndex(), 0,
+            playing && game.hasRolledDice(), 0, robberPending, winner == null ? -1 : BoardOccupancy.seatOf(winner));
+    }
+
+    // === ABFRAGEN ===
+
+    public PlayerState player(int seat) {
+        return players.get(seat);
+    }
+
+    public PlayerState currentPlayer() {
+        return players.get(currentSeat);
+    }
+
+    public boolean isBeginning() {
+        return phase != CatanGame.GamePhase.PLAYING;
+    }
+
+    public boolean isFinished() {
+        return winnerSeat >= 0;
+    }
+
+    /**
+     * @return Bitmaske aller Vertices, die durch Gebäude oder die Distanzregel blockiert sind
+     */
+    public long blockedVertices() {
+        BoardTopology topology = layout.getTopology();
+        long buildings = occupancy.getAllBuildings();
+        long blocked = buildings;
+        while (buildings != 0) {
+            blocked |= topology.getVertexNeighbourMask(Long.numberOfTrailingZeros(buildings));
+            buildings &= buildings - 1;
+        }
+        return blocked;
+    }
+
+    /**
+     * Positionell legale Siedlungsplätze, ohne Ressourcen und Bauteile zu prüfen.
+     */
+    public long settlementMask(int seat) {
+        BoardTopology topology = layout.getTopology();
+        long free = lowBits(topology.getVertexCount()) & ~blockedVertices();
+        if (isBeginning()) {
+            return free;
+        }
+        // Nur Endpunkte eigener Straßen
+        long connected = 0L;
+        for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+            for (long roads = occupancy.getRoads(seat, word); roads != 0; roads &= roads - 1) {
+                connected |= topology.getEdgeVertexMask(word * Long.SIZE + Long.numberOfTrailingZeros(roads));
+            }
+        }
+        return free & connected;
+    }
+
+    /**
+     * @return Eigene Siedlungen, die zur Stadt ausgebaut werden können
+     */
+    public long cityMask(int seat) {
+        return occupancy.getSettlements(seat);
+    }
+
+    /**
+     * Positionell legale Straßenplätze (Wort word), Regeln wie {@link LegalMoveGenerator#getRoadMask}.
+     */
+    public long roadMask(int seat, int word) {
+        BoardTopology topology = layout.getTopology();
+        long mask = 0L;
+        for (long buildings = occupancy.getBuildings(seat); buildings != 0; buildings &= buildings - 1) {
+            int vertex = Long.numberOfTrailingZeros(buildings);
+            if (!isBeginning() || !hasRoadAt(seat, vertex)) {
+                mask |= topology.getVertexEdgeMask(vertex, word);
+            }
+        }
+        if (!isBeginning()) {
+            for (int w = 0; w < BoardTopology.EDGE_WORDS; w++) {
+                for (long roads = occupancy.getRoads(seat, w); roads != 0; roads &= roads - 1) {
+                    int edge = w * Long.SIZE + Long.numberOfTrailingZeros(roads);
+                    mask |= topology.getVertexEdgeMask(topology.getEdgeVertex(edge, 0), word)
+                        | topology.getVertexEdgeMask(topology.getEdgeVertex(edge, 1), word);
+                }
+            }
+        }
+        int edgesInWord = Math.max(0, Math.min(Long.SIZE, topology.getEdgeCount() - word * Long.SIZE));
+        return mask & lowBits(edgesInWord) & ~occupancy.getAllRoads(word);
+    }
+
+    /**
+     * @return Hexfelder, auf die der Räuber versetzt werden darf
+     */
+    public long robberMask() {
+        return lowBits(layout.getTopology().getHexCount()) & ~(1L << robberHex);
+    }
+
+    /**
+     * @return Bit pro Sitzplatz eines Gegners mit Gebäude am Hexfeld
+     */
+    public int stealCandidates(int seat, int hex) {
+        long corners = layout.getTopology().getHexVertexMask(hex);
+        int candidates = 0;
+        for (int s = 0; s < players.size(); s++) {
+            if (s != seat && (occupancy.getBuildings(s) & corners) != 0) {
+                candidates |= 1 << s;
+            }
+        }
+        return candidates;
+    }
+
+    private boolean hasRoadAt(int seat, int vertex) {
+        BoardTopology topology = layout.getTopology();
+        for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+            if ((occupancy.getRoads(seat, word) & topology.getVertexEdgeMask(vertex, word)) != 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static long lowBits(int count) {
+        return count >= Long.SIZE ? -1L : (1L << count) - 1;
+    }
+
+    /**
+     * @return Pflichtbauten (Siedlungen und Straßen) des aktuellen Spielers in der Aufbauphase,
+     *         wie in {@link CatanGame#hasCompletedPlacementForCurrentPhase()}
+     */
+    public int setupPiecesRequired() {
+        if (phase == CatanGame.GamePhase.INITIAL_PLACEMENT_1 && currentSeat != players.size() - 1) {
+            return 1;
+        }
+        return 2;
+    }
+
+    /**
+     * @return true wenn der aktuelle Spieler seine Aufbauzüge der Phase erledigt hat (in der Spielphase immer)
+     */
+    public boolean hasCompletedPlacement() {
+        if (!isBeginning()) {
+            return true;
+        }
+        int required = setupPiecesRequired();
+        return Long.bitCount(occupancy.getBuildings(currentSeat)) >= required
+            && occupancy.getRoadCount(currentSeat) >= required;
+    }
+
+    // Hauptphase: gewürfelt, kein offener Räuber
+    private boolean canBuild() {
+        return rolled && !robberPending && discardMask == 0;
+    }
+
+    /**
+     * Prüft einen Zug gegen die Regeln, ohne einen neuen Zustand zu erzeugen.
+     */
+    public boolean isLegal(GameAction action) {
+        if (isFinished()) {
+            return false;
+        }
+        // Abwerfen ist der einzige Zug außerhalb der eigenen Reihe
+        if (action instanceof GameAction.Discard) {
+            GameAction.Discard discard = (GameAction.Discard) action;
+            ResourceVector hand = player(discard.seat()).resources();
+            return (discardMask & (1 << discard.seat())) != 0
+                && discard.cards().total() == hand.total() / 2 && hand.covers(discard.cards());
+        }
+        if (action.seat() != currentSeat) {
+            return false;
+        }
+        PlayerState player = currentPlayer();
+
+        if (action instanceof GameAction.PlaceSettlement) {
+            int vertex = ((GameAction.PlaceSettlement) action).vertex();
+            if (player.settlementsLeft() <= 0 || (settlementMask(currentSeat) & (1L << vertex)) == 0) {
+                return false;
+            }
+            if (isBeginning()) {
+                return Long.bitCount(occupancy.getBuildings(currentSeat)) < setupPiecesRequired();
+            }
+            return canBuild() && player.resources().covers(Player.SETTLEMENT_COST);
+        }
+        if (action instanceof GameAction.PlaceCity) {
+            int vertex = ((GameAction.PlaceCity) action).vertex();
+            return !isBeginning() && canBuild() && player.citiesLeft() > 0
+                && (cityMask(currentSeat) & (1L << vertex)) != 0 && player.resources().covers(Player.CITY_COST);
+        }
+        if (action instanceof GameAction.PlaceRoad) {
+            int edge = ((GameAction.PlaceRoad) action).edge();
+            if (player.roadsLeft() <= 0 || (roadMask(currentSeat, edge >>> 6) & (1L << edge)) == 0) {
+                return false;
+            }
+            if (isBeginning()) {
+                return occupancy.getRoadCount(currentSeat) < setupPiecesRequired();
+            }
+            return canBuild() && player.resources().covers(Player.ROAD_COST);
+        }
+        if (action instanceof GameAction.RollDice) {
+            return !isBeginning() && !rolled;
+        }
+        if (action instanceof GameAction.MoveRobber) {
+            GameAction.MoveRobber move = (GameAction.MoveRobber) action;
+            if (!robberPending || discardMask != 0 || (robberMask() & (1L << move.hex())) == 0) {
+                return false;
+            }
+            int candidates = stealCandidates(currentSeat, move.hex());
+            if (move.victimSeat() < 0) {
+                return candidates == 0 && move.stolen() == null;
+            }
+            if ((candidates & (1 << move.victimSeat())) == 0) {
+                return false;
+            }
+            ResourceVector victimHand = player(move.victimSeat()).resources();
+            return move.stolen() == null ? victimHand.isEmpty() : victimHand.get(move.stolen()) > 0;
+        }
+        if (action instanceof GameAction.BankTrade) {
+            GameAction.BankTrade trade = (GameAction.BankTrade) action;
+            return !isBeginning() && canBuild() && trade.give() != trade.receive()
+                && player.resources().get(trade.give()) >= BANK_TRADE_RATIO;
+        }
+        if (action instanceof GameAction.PlayerTrade) {
+            GameAction.PlayerTrade trade = (GameAction.PlayerTrade) action;
+            int partner = trade.partnerSeat();
+            return !isBeginning() && canBuild() && partner != currentSeat && partner >= 0 && partner < players.size()
+                && player.resources().covers(trade.give()) && player(partner).resources().covers(trade.receive());
+        }
+        if (action instanceof GameAction.EndTurn) {
+            return isBeginning() ? hasCompletedPlacement() : canBuild();
+        }
+        return false;
+    }
+
+    // === ZUSTANDSÜBERGÄNGE ===
+
+    /**
+     * Wendet einen Zug an und liefert den Folgezustand; dieser Zustand bleibt unverändert.
+     * @throws IllegalStateException wenn der Zug in diesem Zustand nicht legal ist
+     */
+    public GameState apply(GameAction action) {
+        if (!isLegal(action)) {
+            throw new IllegalStateException("Illegaler Zug " + action + " in Phase " + phase);
+        }
+        int seat = action.seat();
+        PlayerState player = players.get(seat);
+
+        if (action instanceof GameAction.PlaceSettlement) {
+            int vertex = ((GameAction.PlaceSettlement) action).vertex();
+            PlayerState built = player.withBuilt(1, -1, 0, 0);
+            if (!isBeginning()) {
+                built = built.minus(Player.SETTLEMENT_COST);
+            }
+            return withBuilding(seat, built, occupancy.withSettlement(seat, vertex));
+        }
+        if (action instanceof GameAction.PlaceCity) {
+            int vertex = ((GameAction.PlaceCity) action).vertex();
+            PlayerState built = player.withBuilt(1, 0, -1, 0).minus(Player.CITY_COST);
+            return withBuilding(seat, built, occupancy.withCity(seat, vertex));
+        }
+        if (action instanceof GameAction.PlaceRoad) {
+            int edge = ((GameAction.PlaceRoad) action).edge();
+            PlayerState built = player.withBuilt(0, 0, 0, -1);
+            if (!isBeginning()) {
+                built = built.minus(Player.ROAD_COST);
+            }
+            return new GameState(layout, replace(players, seat, built), occupancy.withRoad(seat, edge), robberHex,
+                phase, currentSeat, turn, rolled, discardMask, robberPending, winnerSeat);
+        }
+        if (action instanceof GameAction.RollDice) {
+            return roll(((GameAction.RollDice) action).sum());
+        }
+        if (action instanceof GameAction.Discard) {
+            PlayerState discarded = player.minus(((GameAction.Discard) action).cards());
+            return new GameState(layout, replace(players, seat, discarded), occupancy, robberHex, phase, currentSeat,
+                turn, rolled, discardMask & ~(1 << seat), robberPending, winnerSeat);
+        }
+        if (action instanceof GameAction.MoveRobber) {
+            GameAction.MoveRobber move = (GameAction.MoveRobber) action;
+            List<PlayerState> next = players;
+            if (move.stolen() != null) {
+                next = replace(next, move.victimSeat(), next.get(move.victimSeat()).plus(move.stolen(), -1));
+                next = replace(next, seat, next.get(seat).plus(move.stolen(), 1));
+            }
+            return new GameState(layout, next, occupancy, move.hex(), phase, currentSeat, turn, rolled,
+                discardMask, false, winnerSeat);
+        }
+        if (action instanceof GameAction.BankTrade) {
+            GameAction.BankTrade trade = (GameAction.BankTrade) action;
+            PlayerState traded = player.plus(trade.give(), -BANK_TRADE_RATIO).plus(trade.receive(), 1);
+            return new GameState(layout, replace(players, seat, traded), occupancy, robberHex, phase, currentSeat,
+                turn, rolled, discardMask, robberPending, winnerSeat);
+        }
+        if (action instanceof GameAction.PlayerTrade) {
+            GameAction.PlayerTrade trade = (GameAction.PlayerTrade) action;
+            int partner = trade.partnerSeat();
+            List<PlayerState> next = replace(players, seat, player.minus(trade.give()).plus(trade.receive()));
+            next = replace(next, partner, next.get(partner).minus(trade.receive()).plus(trade.give()));
+            return new GameState(layout, next, occupancy, robberHex, phase, currentSeat, turn, rolled, discardMask,
+                robberPending, winnerSeat);
+        }
+        return endTurn();
+    }
+
+    private GameState withBuilding(int seat, PlayerState built, OccupancyBits nextOccupancy) {
+        int winner = built.victoryPoints() >= CatanGame.VICTORY_POINTS_TO_WIN ? seat : -1;
+        return new GameState(layout, replace(players, seat, built), nextOccupancy, robberHex, phase, currentSeat,
+            turn, rolled, discardMask, robberPending, winner);
+    }
+
+    private GameState roll(int sum) {
+        if (sum == 7) {
+            // Spieler mit zu vielen Karten müssen abwerfen, danach wird der Räuber versetzt
+            int mustDiscard = 0;
+            for (int seat = 0; seat < players.size(); seat++) {
+                if (players.get(seat).resources().total() > CatanGame.MAX_HAND_SIZE_ON_SEVEN) {
+                    mustDiscard |= 1 << seat;
+                }
+            }
+            return new GameState(layout, players, occupancy, robberHex, phase, currentSeat, turn, true,
+                mustDiscard, true, winnerSeat);
+        }
+
+        // Ertrag pro Sitzplatz sammeln, nur betroffene Spieler werden ersetzt
+        BoardTopology topology = layout.getTopology();
+        ResourceVector[] income = new ResourceVector[players.size()];
+        for (int hex = 0; hex < topology.getHexCount(); hex++) {
+            if (layout.getNumber(hex) != sum || hex == robberHex) {
+                continue;
+            }
+            long corners = topology.getHexVertexMask(hex);
+            for (int seat = 0; seat < players.size(); seat++) {
+                int amount = Long.bitCount(occupancy.getSettlements(seat) & corners)
+                    + 2 * Long.bitCount(occupancy.getCities(seat) & corners);
+                if (amount > 0) {
+                    if (income[seat] == null) {
+                        income[seat] = new ResourceVector();
+                    }
+                    income[seat].add(layout.getResource(hex), amount);
+                }
+            }
+        }
+        return new GameState(layout, withIncome(income), occupancy, robberHex, phase, currentSeat, turn, true,
+            discardMask, robberPending, winnerSeat);
+    }
+
+    private GameState endTurn() {
+        if (phase == CatanGame.GamePhase.INITIAL_PLACEMENT_1) {
+            // Vorwärts; der letzte Spieler hat beide Runden bereits gesetzt
+            if (currentSeat + 1 == players.size()) {
+                return new GameState(layout, players, occupancy, robberHex, CatanGame.GamePhase.INITIAL_PLACEMENT_2,
+                    players.size() - 2, turn, false, 0, false, winnerSeat);
+            }
+            return new GameState(layout, players, occupancy, robberHex, phase, currentSeat + 1, turn, false, 0,
+                false, winnerSeat);
+        }
+        if (phase == CatanGame.GamePhase.INITIAL_PLACEMENT_2) {
+            if (currentSeat > 0) {
+                return new GameState(layout, players, occupancy, robberHex, phase, currentSeat - 1, turn, false, 0,
+                    false, winnerSeat);
+            }
+            return new GameState(layout, withIncome(initialIncome()), occupancy, robberHex,
+                CatanGame.GamePhase.PLAYING, 0, turn, false, 0, false, winnerSeat);
+        }
+        return new GameState(layout, players, occupancy, robberHex, phase, (currentSeat + 1) % players.size(),
+            turn + 1, false, 0, false, winnerSeat);
+    }
+
+    // Je ein Rohstoff pro angrenzendem produzierenden Hexfeld und Gebäude
+    private ResourceVector[] initialIncome() {
+        BoardTopology topology = layout.getTopology();
+        ResourceVector[] income = new ResourceVector[players.size()];
+        for (int seat = 0; seat < players.size(); seat++) {
+            for (long buildings = occupancy.getBuildings(seat); buildings != 0; buildings &= buildings - 1) {
+                int vertex = Long.numberOfTrailingZeros(buildings);
+                for (int slot = 0; slot < BoardTopology.MAX_VERTEX_HEXES; slot++) {
+                    int hex = topology.getVertexHex(vertex, slot);
+                    if (hex < 0) {
+                        break;
+                    }
+                    ResourceType resource = layout.getResource(hex);
+                    if (resource != null) {
+                        if (income[seat] == null) {
+                            income[seat] = new ResourceVector();
+                        }
+                        income[seat].add(resource, 1);
+                    }
+                }
+            }
+        }
+        return income;
+    }
+
+    private List<PlayerState> withIncome(ResourceVector[] income) {
+        List<PlayerState> next = players;
+        for (int seat = 0; seat < income.length; seat++) {
+            if (income[seat] != null) {
+                next = replace(next, seat, next.get(seat).plus(income[seat]));
+            }
+        }
+        return next;
+    }
+
+    // Neue Liste mit einem ersetzten Spieler, alle anderen Einträge werden geteilt
+    private static List<PlayerState> replace(List<PlayerState> players, int seat, PlayerState player) {
+        PlayerState[] copy = players.toArray(new PlayerState[0]);
+        copy[seat] = player;
+        return List.of(copy);
+    }
+}
@@ -0,0 +1,156 @@
+package com.catan.model;
+
+/**
+ * Hält die Menge der positionell legalen Züge pro Spieler als Bitmasken vor.
+ * Die Masken werden bei jedem Bau und jeder Räuberbewegung inkrementell angepasst,
+ * so dass Renderer und Bots sie in O(1) lesen können statt alle Vertices und Edges neu zu prüfen.
+ * Ressourcen, verbleibende Bauteile und Spielphase prüft weiterhin {@link CatanGame}.
+ */
+public final class LegalMoveGenerator {
+
+    private final BoardTopology topology;
+    private final BoardOccupancy occupancy;
+    private final long allVertices;
+    private final long[] allEdges = new long[BoardTopology.EDGE_WORDS];
+    private final long allHexes;
+
+    // Besetzte Vertices und ihre Nachbarn (Distanzregel)
+    private long blocked;
+    // Freie Vertices, die an eine eigene Straße anschließen
+    private final long[] settlementSpots = new long[BoardOccupancy.MAX_PLAYERS];
+    // Eigene Siedlungen, die zur Stadt ausgebaut werden können
+    private final long[] citySpots = new long[BoardOccupancy.MAX_PLAYERS];
+    // Freie Edges, die an ein eigenes Gebäude oder eine eigene Straße anschließen
+    private final long[] roadSpots = new long[BoardOccupancy.MAX_PLAYERS * BoardTopology.EDGE_WORDS];
+    // Mögliche Zielfelder für den Räuber
+    private long robberSpots;
+
+    public LegalMoveGenerator(BoardTopology topology, BoardOccupancy occupancy, int robberHex) {
+        this.topology = topology;
+        this.occupancy = occupancy;
+        this.allVertices = lowBits(topology.getVertexCount());
+        for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+            allEdges[word] = lowBits(Math.max(0, Math.min(Long.SIZE, topology.getEdgeCount() - word * Long.SIZE)));
+        }
+        this.allHexes = lowBits(topology.getHexCount());
+        this.robberSpots = allHexes & ~(1L << robberHex);
+    }
+
+    private static long lowBits(int count) {
+        return count >= Long.SIZE ? -1L : (1L << count) - 1;
+    }
+
+    // === INKREMENTELLE AKTUALISIERUNG ===
+
+    /**
+     * Nach dem Setzen einer Siedlung oder Stadt aufrufen.
+     */
+    public void onBuildingPlaced(int seat, int vertex, Building.Type type) {
+        if (type == Building.Type.CITY) {
+            citySpots[seat] &= ~(1L << vertex);
+            return;
+        }
+        citySpots[seat] |= 1L << vertex;
+
+        // Der Vertex und seine Nachbarn sind für alle Spieler blockiert
+        long newlyBlocked = (1L << vertex) | topology.getVertexNeighbourMask(vertex);
+        blocked |= newlyBlocked;
+        for (int s = 0; s < BoardOccupancy.MAX_PLAYERS; s++) {
+            settlementSpots[s] &= ~newlyBlocked;
+        }
+
+        // Alle freien Edges am Gebäude werden für den Besitzer baubar
+        addRoadSpotsAt(seat, vertex);
+    }
+
+    /**
+     * Nach dem Setzen einer Straße aufrufen.
+     */
+    public void onRoadPlaced(int seat, int edge) {
+        // Die Edge ist für niemanden mehr frei
+        int word = edge >>> 6;
+        for (int s = 0; s < BoardOccupancy.MAX_PLAYERS; s++) {
+            roadSpots[s * BoardTopology.EDGE_WORDS + word] &= ~(1L << edge);
+        }
+
+        // Endpunkte erweitern Siedlungs- und Straßenplätze des Besitzers
+        settlementSpots[seat] |= topology.getEdgeVertexMask(edge) & ~blocked;
+        addRoadSpotsAt(seat, topology.getEdgeVertex(edge, 0));
+        addRoadSpotsAt(seat, topology.getEdgeVertex(edge, 1));
+    }
+
+    /**
+     * Nach dem Versetzen des Räubers aufrufen.
+     */
+    public void onRobberMoved(int hex) {
+        robberSpots = allHexes & ~(1L << hex);
+    }
+
+    private void addRoadSpotsAt(int seat, int vertex) {
+        for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+            roadSpots[seat * BoardTopology.EDGE_WORDS + word] |=
+                topology.getVertexEdgeMask(vertex, word) & ~occupancy.getAllRoads(word);
+        }
+    }
+
+    // === ABFRAGEN ===
+
+    /**
+     * @param beginning Aufbauphase: jeder freie Vertex gemäß Distanzregel, sonst nur mit Straßenanschluss
+     * @return Bitmaske der baubaren Siedlungsplätze
+     */
+    public long getSettlementMask(int seat, boolean beginning) {
+        return beginning ? allVertices & ~blocked : settlementSpots[seat];
+    }
+
+    public boolean isSettlementSpot(int seat, int vertex, boolean beginning) {
+        return (getSettlementMask(seat, beginning) & (1L << vertex)) != 0;
+    }
+
+    /**
+     * @return Bitmaske der eigenen Siedlungen, die zur Stadt werden können
+     */
+    public long getCityMask(int seat) {
+        return citySpots[seat];
+    }
+
+    public boolean isCitySpot(int seat, int vertex) {
+        return (citySpots[seat] & (1L << vertex)) != 0;
+    }
+
+    /**
+     * In der Aufbauphase darf eine Straße nur an ein eigenes Gebäude ohne eigene Straße angelegt werden,
+     * sonst an jedes eigene Gebäude und jede eigene Straße.
+     * @return Wort word der Bitmaske der baubaren Straßenplätze
+     */
+    public long getRoadMask(int seat, int word, boolean beginning) {
+        if (!beginning) {
+            return roadSpots[seat * BoardTopology.EDGE_WORDS + word];
+        }
+        long mask = 0L;
+        long buildings = occupancy.getBuildings(seat);
+        while (buildings != 0) {
+            int vertex = Long.numberOfTrailingZeros(buildings);
+            buildings &= buildings - 1;
+            if (!occupancy.hasRoadAt(seat, vertex)) {
+                mask |= topology.getVertexEdgeMask(vertex, word);
+            }
+        }
+        return mask & allEdges[word] & ~occupancy.getAllRoads(word);
+    }
+
+    public boolean isRoadSpot(int seat, int edge, boolean beginning) {
+        return (getRoadMask(seat, edge >>> 6, beginning) & (1L << edge)) != 0;
+    }
+
+    /**
+     * @return Bitmaske der Hexfelder, auf die der Räuber versetzt werden darf
+     */
+    public long getRobberMask() {
+        return robberSpots;
+    }
+
+    public boolean isRobberSpot(int hex) {
+        return (robberSpots & (1L << hex)) != 0;
+    }
+}
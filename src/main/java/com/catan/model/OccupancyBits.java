@@ -0,0 +1,139 @@
+package com.catan.model;
+
+import java.util.Arrays;
+
+/**
+ * Unveränderliche Variante von {@link BoardOccupancy} für {@link GameState}.
+ * Alle Bitboards liegen in einem einzigen kleinen {@code long[]}; eine Änderung kopiert nur diese 16 Wörter.
+ */
+public final class OccupancyBits {
+
+    private static final int CITIES = BoardOccupancy.MAX_PLAYERS;
+    private static final int ROADS = 2 * BoardOccupancy.MAX_PLAYERS;
+
+    /**
+     * Anzahl der Wörter: Siedlungen pro Sitzplatz, Städte pro Sitzplatz, dann Straßen pro Sitzplatz und Edge-Wort.
+     */
+    public static final int SIZE = ROADS + BoardOccupancy.MAX_PLAYERS * BoardTopology.EDGE_WORDS;
+
+    public static final OccupancyBits EMPTY = new OccupancyBits(new long[SIZE]);
+
+    private final long[] words;
+
+    private OccupancyBits(long[] words) {
+        this.words = words;
+    }
+
+    /**
+     * Übernimmt die aktuelle Belegung eines Boards.
+     */
+    public static OccupancyBits of(BoardOccupancy occupancy) {
+        long[] words = new long[SIZE];
+        for (int seat = 0; seat < BoardOccupancy.MAX_PLAYERS; seat++) {
+            words[seat] = occupancy.getSettlements(seat);
+            words[CITIES + seat] = occupancy.getCities(seat);
+            for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+                words[ROADS + seat * BoardTopology.EDGE_WORDS + word] = occupancy.getRoads(seat, word);
+            }
+        }
+        return new OccupancyBits(words);
+    }
+
+    /**
+     * Belegung aus Rohwörtern in der Reihenfolge von {@link #SIZE}, z.B. aus einem Spielstand.
+     */
+    public static OccupancyBits fromWords(long[] words) {
+        if (words.length != SIZE) {
+            throw new IllegalArgumentException("Erwartet " + SIZE + " Wörter, erhalten " + words.length);
+        }
+        return new OccupancyBits(words.clone());
+    }
+
+    /**
+     * @return Rohwort index in der Reihenfolge von {@link #SIZE}
+     */
+    public long getWord(int index) {
+        return words[index];
+    }
+
+    private OccupancyBits with(int index, long value) {
+        long[] copy = words.clone();
+        copy[index] = value;
+        return new OccupancyBits(copy);
+    }
+
+    // === ÄNDERUNGEN (neue Instanz) ===
+
+    public OccupancyBits withSettlement(int seat, int vertex) {
+        return with(seat, words[seat] | (1L << vertex));
+    }
+
+    /**
+     * Ersetzt die Siedlung am Vertex durch eine Stadt.
+     */
+    public OccupancyBits withCity(int seat, int vertex) {
+        long[] copy = words.clone();
+        copy[seat] &= ~(1L << vertex);
+        copy[CITIES + seat] |= 1L << vertex;
+        return new OccupancyBits(copy);
+    }
+
+    public OccupancyBits withRoad(int seat, int edge) {
+        int index = ROADS + seat * BoardTopology.EDGE_WORDS + (edge >>> 6);
+        return with(index, words[index] | (1L << edge));
+    }
+
+    // === ABFRAGEN ===
+
+    public long getSettlements(int seat) {
+        return words[seat];
+    }
+
+    public long getCities(int seat) {
+        return words[CITIES + seat];
+    }
+
+    public long getBuildings(int seat) {
+        return words[seat] | words[CITIES + seat];
+    }
+
+    public long getAllBuildings() {
+        long all = 0L;
+        for (int seat = 0; seat < BoardOccupancy.MAX_PLAYERS; seat++) {
+            all |= getBuildings(seat);
+        }
+        return all;
+    }
+
+    public long getRoads(int seat, int word) {
+        return words[ROADS + seat * BoardTopology.EDGE_WORDS + word];
+    }
+
+    public long getAllRoads(int word) {
+        long all = 0L;
+        for (int seat = 0; seat < BoardOccupancy.MAX_PLAYERS; seat++) {
+            all |= getRoads(seat, word);
+        }
+        return all;
+    }
+
+    public int getRoadCount(int seat) {
+        int count = 0;
+        for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+            count += Long.bitCount(getRoads(seat, word));
+        }
+        return count;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof OccupancyBits)) return false;
+        return Arrays.equals(words, ((OccupancyBits) o).words);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(words);
+    }
+}
@@ -1,12 +1,10 @@
 package com.catan.model;
 
-import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.HashSet;
-import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.random.RandomGenerator;
 
 /**
  * Represents a player in the CATAN game.
@@ -15,7 +13,8 @@ import java.util.Set;
 public class Player {
     private final String name;
     private final PlayerColor color;
-    private final Map<ResourceType, Integer> resources;
+    private final ResourceVector resources;
+    private final ResourceVector resourcesView;
     private int victoryPoints;
     private int settlements;
     private int cities;
@@ -24,43 +23,25 @@ public class Player {
     private final Set<Building> buildings;
     private boolean initialSettlementPlaced = false;
     private boolean initialRoadPlaced = false;
+    private ZobristHash positionHash; // Positions-Hash der Partie, wird bei jeder Handänderung mitgeführt
     
 
-    // Building costs
-    public static final Map<ResourceType, Integer> SETTLEMENT_COST = Map.of(
-        ResourceType.LUMBER, 1,
-        ResourceType.BRICK, 1,
-        ResourceType.WOOL, 1,
-        ResourceType.GRAIN, 1
-    );
-    
-    public static final Map<ResourceType, Integer> CITY_COST = Map.of(
-        ResourceType.GRAIN, 2,
-        ResourceType.ORE, 3
-    );
-    
-    public static final Map<ResourceType, Integer> ROAD_COST = Map.of(
-        ResourceType.LUMBER, 1,
-        ResourceType.BRICK, 1
-    );
+    // Building costs (lumber, brick, wool, grain, ore)
+    public static final ResourceVector SETTLEMENT_COST = ResourceVector.of(1, 1, 1, 1, 0);
+    
+    public static final ResourceVector CITY_COST = ResourceVector.of(0, 0, 0, 2, 3);
+    
+    public static final ResourceVector ROAD_COST = ResourceVector.of(1, 1, 0, 0, 0);
 
-    public static final Map<ResourceType, Integer> DEVELOPMENT_CARD_COST = Map.of(
-        ResourceType.ORE, 1,
-        ResourceType.WOOL, 1,
-        ResourceType.GRAIN, 1
-    );
+    public static final ResourceVector DEVELOPMENT_CARD_COST = ResourceVector.of(0, 0, 1, 1, 1);
     
     public Player(String name, PlayerColor color) {
     	this.buildings = new HashSet<>();
     	this.roads_set = new HashSet<>();
         this.name = name;
         this.color = color;
-        this.resources = new HashMap<>();
-        
-        // Initialize resources to 0
-        for (ResourceType type : ResourceType.values()) {
-            resources.put(type, 0);
-        }
+        this.resources = new ResourceVector(); // All resources start at 0
+        this.resourcesView = resources.readOnlyView();
         
         this.victoryPoints = 0;
         this.settlements = 5; // Maximum settlements per player
@@ -87,31 +68,71 @@ public class Player {
         this.victoryPoints += points;
     }
     
+    /**
+     * Read-only live map view of the hand, kept for UI code working with maps.
+     */
     public Map<ResourceType, Integer> getResources() {
-        return new HashMap<>(resources);
+        return resources.asMap();
+    }
+    
+    /**
+     * Read-only live view of the hand without boxing.
+     */
+    public ResourceVector getResourceVector() {
+        return resourcesView;
     }
     
     public int getResourceCount(ResourceType type) {
         return resources.get(type);
     }
     
+    /**
+     * Verbindet die Hand mit dem Positions-Hash der Partie, Änderungen werden ab jetzt eingerechnet.
+     */
+    void setPositionHash(ZobristHash positionHash) {
+        this.positionHash = positionHash;
+    }
+    
     public void addResources(Map<ResourceType, Integer> resourcesToAdd) {
-        for (Map.Entry<ResourceType, Integer> entry : resourcesToAdd.entrySet()) {
-            ResourceType type = entry.getKey();
-            int amount = entry.getValue();
-            resources.put(type, resources.get(type) + amount);
-        }
+        rehash(resourcesToAdd, 1);
+        resources.add(resourcesToAdd);
     } 
+    public void addResources(ResourceVector resourcesToAdd) {
+        rehash(resourcesToAdd, 1);
+        resources.add(resourcesToAdd);
+    }
     public void addResource(ResourceType type, int amount) {
-        resources.put(type, resources.getOrDefault(type, 0) + amount);
+        rehash(type.ordinal(), amount);
+        resources.add(type, amount);
     }
     
     public void removeResource(Map<ResourceType, Integer> resourcesToSubtract) {
-    	for (Map.Entry<ResourceType, Integer> entry : resourcesToSubtract.entrySet()) {
-            ResourceType type = entry.getKey();
-            int amount = entry.getValue();
-        resources.put(type, resources.get(type) - amount);
-    	}
+        rehash(resourcesToSubtract, -1);
+        resources.subtract(resourcesToSubtract);
+    }
+    public void removeResource(ResourceVector resourcesToSubtract) {
+        rehash(resourcesToSubtract, -1);
+        resources.subtract(resourcesToSubtract);
+    }
+    
+    // Hash-Änderungen werden vor der eigentlichen Änderung aus dem alten Bestand berechnet
+    private void rehash(int ordinal, int delta) {
+        if (positionHash != null && delta != 0) {
+            int before = resources.get(ordinal);
+            positionHash.changeResource(color.ordinal(), ordinal, before, before + delta);
+        }
+    }
+    
+    private void rehash(ResourceVector change, int sign) {
+        for (int r = 0; r < ResourceVector.SIZE; r++) {
+            rehash(r, sign * change.get(r));
+        }
+    }
+    
+    private void rehash(Map<ResourceType, Integer> change, int sign) {
+        for (Map.Entry<ResourceType, Integer> entry : change.entrySet()) {
+            rehash(entry.getKey().ordinal(), sign * entry.getValue());
+        }
     }
     //evtl obsolet
     public boolean canRemoveResource(ResourceType type, int amount) {
@@ -119,7 +140,7 @@ public class Player {
     }
     
     public int getTotalResourceCount() {
-        return resources.values().stream().mapToInt(Integer::intValue).sum();
+        return resources.total();
     }
     
     public int getSettlementCount() {
@@ -151,52 +172,47 @@ public class Player {
 
     
     public boolean hasSufficientResources(Map<ResourceType, Integer> cost) {
-        for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
-            if (getResourceCount(entry.getKey()) < entry.getValue()) {
-                return false;
-            }
-        }
-        return true;
+        return resources.covers(cost);
+    }
+    
+    public boolean hasSufficientResources(ResourceVector cost) {
+        return resources.covers(cost);
     }
     
     public boolean spendResources(Map<ResourceType, Integer> cost) {
-        if (!hasSufficientResources(cost)) {
+        if (!resources.covers(cost)) {
             return false;
         }
-        
-        for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
-            removeResource(entry.getKey(), entry.getValue());
+        rehash(cost, -1);
+        resources.subtract(cost);
+        return true;
+    }
+    
+    public boolean spendResources(ResourceVector cost) {
+        if (!resources.covers(cost)) {
+            return false;
         }
+        rehash(cost, -1);
+        resources.subtract(cost);
         return true;
     }
     public void removeResource(ResourceType type, int amount) {
-        int current = resources.getOrDefault(type, 0);
-        resources.put(type, current - amount);
-    }
-    public Map<ResourceType, Integer> stealRandomResource() {
-        Map<ResourceType, Integer> resMap = getResources();
-        List<ResourceType> weightedList = new ArrayList<>();
-        for (Map.Entry<ResourceType, Integer> entry : resMap.entrySet()) {
-            ResourceType type = entry.getKey();
-            int count = entry.getValue();
-            for (int i = 0; i < count; i++) {
-                weightedList.add(type);
-            }
-        }
-
-        if (weightedList.isEmpty()) {
+        rehash(type.ordinal(), -amount);
+        resources.subtract(type, amount);
+    }
+    /**
+     * Removes one card chosen uniformly from the whole hand.
+     * @param random random source, injected so steals are reproducible
+     * @return map with the stolen card, empty if the hand is empty
+     */
+    public Map<ResourceType, Integer> stealRandomResource(RandomGenerator random) {
+        ResourceType stolen = resources.sample(random);
+        if (stolen == null) {
             return Collections.emptyMap(); // Spieler hat keine Ressourcen
         }
-
-        Collections.shuffle(weightedList);
-        ResourceType stolen = weightedList.get(0);
-
-        Map<ResourceType, Integer> stolenMap = new HashMap<>();
-        stolenMap.put(stolen, 1);
-
-        spendResources(stolenMap); // Einheitlich mit deinem System
-
-        return stolenMap;
+        rehash(stolen.ordinal(), -1);
+        resources.subtract(stolen, 1);
+        return Map.of(stolen, 1);
     }
     
 
@@ -229,7 +245,8 @@ public class Player {
         this.initialRoadPlaced = initialRoadPlaced;
     }
     public void setResources(ResourceType type, int multiplicity) {
-    	resources.merge(type, multiplicity, Integer::sum);
+    	rehash(type.ordinal(), multiplicity);
+    	resources.add(type, multiplicity);
     }
     @Override
     public String toString() {
@@ -0,0 +1,54 @@
+package com.catan.model;
+
+/**
+ * Unveränderlicher Zustand eines Spielers innerhalb eines {@link GameState}.
+ * Änderungen erzeugen eine neue Instanz; unveränderte Spieler werden zwischen Zuständen geteilt.
+ * @param resources Nur lesbarer Ressourcenvektor
+ */
+public record PlayerState(ResourceVector resources, int victoryPoints, int settlementsLeft, int citiesLeft, int roadsLeft) {
+
+    // Startbestand wie in Player
+    public static final PlayerState INITIAL = new PlayerState(ResourceVector.EMPTY, 0, 5, 4, 15);
+
+    public PlayerState {
+        resources = resources.readOnlyView();
+    }
+
+    /**
+     * Übernimmt den aktuellen Stand eines veränderlichen Spielers.
+     */
+    public static PlayerState of(Player player) {
+        return new PlayerState(player.getResourceVector().copy(), player.getVictoryPoints(),
+            player.getSettlementsLeft(), player.getCitiesLeft(), player.getRoadsLeft());
+    }
+
+    public PlayerState withResources(ResourceVector newResources) {
+        return new PlayerState(newResources, victoryPoints, settlementsLeft, citiesLeft, roadsLeft);
+    }
+
+    /**
+     * @return Zustand mit um amount veränderter Ressource (amount darf negativ sein)
+     */
+    public PlayerState plus(ResourceType type, int amount) {
+        ResourceVector changed = resources.copy();
+        changed.add(type, amount);
+        return withResources(changed);
+    }
+
+    public PlayerState plus(ResourceVector delta) {
+        ResourceVector changed = resources.copy();
+        changed.add(delta);
+        return withResources(changed);
+    }
+
+    public PlayerState minus(ResourceVector delta) {
+        ResourceVector changed = resources.copy();
+        changed.subtract(delta);
+        return withResources(changed);
+    }
+
+    public PlayerState withBuilt(int points, int settlementsDelta, int citiesDelta, int roadsDelta) {
+        return new PlayerState(resources, victoryPoints + points, settlementsLeft + settlementsDelta,
+            citiesLeft + citiesDelta, roadsLeft + roadsDelta);
+    }
+}
@@ -0,0 +1,131 @@
+package com.catan.model;
+
+/**
+ * Produktionstabelle nach Würfelzahl.
+ * Für jede Zahl 2..12 liegen die Erträge als (Sitzplatz, Ressource, Menge)-Einträge in flachen Arrays vor,
+ * so dass ein Wurf nur noch eine Array-Schleife ohne Allokation ist.
+ * Die Einträge einer Zahl werden neu berechnet, sobald an einem ihrer Hexfelder gebaut wird
+ * oder der Räuber eines ihrer Hexfelder betritt bzw. verlässt.
+ */
+public final class ProductionIndex {
+
+    public static final int MIN_ROLL = 2;
+    public static final int MAX_ROLL = 12;
+
+    private static final ResourceType[] RESOURCES = ResourceType.values();
+
+    private final BoardTopology topology;
+    private final BoardOccupancy occupancy;
+    private final int[] hexNumbers;   // Zahlenchip pro Hex-Id (0 = Wüste)
+    private final int[] hexResources; // Ressourcen-Ordinal pro Hex-Id (-1 = Wüste)
+    private final int capacity;       // Maximale Einträge pro Würfelzahl
+    private int robberHex;
+
+    // Einträge pro Würfelzahl, Zeile roll mit Schrittweite capacity
+    private final int[] entryCounts = new int[MAX_ROLL + 1];
+    private final int[] entrySeats;
+    private final int[] entryResources;
+    private final int[] entryAmounts;
+
+    public ProductionIndex(AuthenticCatanBoard board) {
+        this.topology = board.getTopology();
+        this.occupancy = board.getOccupancy();
+        this.robberHex = board.getRobberHexId();
+
+        int hexCount = topology.getHexCount();
+        this.hexNumbers = new int[hexCount];
+        this.hexResources = new int[hexCount];
+        for (int h = 0; h < hexCount; h++) {
+            TerrainTile tile = board.getHexTile(h);
+            ResourceType resource = tile.getTerrainType().getResourceType();
+            hexNumbers[h] = resource == null ? 0 : tile.getNumberToken();
+            hexResources[h] = resource == null ? -1 : resource.ordinal();
+        }
+
+        // Im Extremfall liegt jede Zahl auf allen Hexfeldern und jeder Spieler grenzt an jedes
+        this.capacity = hexCount * BoardOccupancy.MAX_PLAYERS;
+        this.entrySeats = new int[(MAX_ROLL + 1) * capacity];
+        this.entryResources = new int[(MAX_ROLL + 1) * capacity];
+        this.entryAmounts = new int[(MAX_ROLL + 1) * capacity];
+        for (int roll = MIN_ROLL; roll <= MAX_ROLL; roll++) {
+            rebuild(roll);
+        }
+    }
+
+    // === INKREMENTELLE AKTUALISIERUNG ===
+
+    /**
+     * Nach dem Setzen einer Siedlung oder Stadt aufrufen.
+     */
+    public void onBuildingPlaced(int vertex) {
+        for (int slot = 0; slot < BoardTopology.MAX_VERTEX_HEXES; slot++) {
+            int hex = topology.getVertexHex(vertex, slot);
+            if (hex < 0) {
+                break;
+            }
+            rebuild(hexNumbers[hex]);
+        }
+    }
+
+    /**
+     * Nach dem Versetzen des Räubers aufrufen.
+     */
+    public void onRobberMoved(int hex) {
+        int previous = robberHex;
+        robberHex = hex;
+        if (previous >= 0) {
+            rebuild(hexNumbers[previous]);
+        }
+        if (hex >= 0) {
+            rebuild(hexNumbers[hex]);
+        }
+    }
+
+    // Berechnet alle Einträge einer Würfelzahl neu
+    private void rebuild(int roll) {
+        if (roll < MIN_ROLL || roll > MAX_ROLL) {
+            return;
+        }
+        int base = roll * capacity;
+        int count = 0;
+        for (int h = 0; h < hexNumbers.length; h++) {
+            // Räuber blockiert Ressourcenproduktion
+            if (hexNumbers[h] != roll || h == robberHex) {
+                continue;
+            }
+            long corners = topology.getHexVertexMask(h);
+            for (int seat = 0; seat < BoardOccupancy.MAX_PLAYERS; seat++) {
+                int amount = Long.bitCount(occupancy.getSettlements(seat) & corners)
+                    + 2 * Long.bitCount(occupancy.getCities(seat) & corners);
+                if (amount > 0) {
+                    entrySeats[base + count] = seat;
+                    entryResources[base + count] = hexResources[h];
+                    entryAmounts[base + count] = amount;
+                    count++;
+                }
+            }
+        }
+        entryCounts[roll] = count;
+    }
+
+    // === ABFRAGEN ===
+
+    /**
+     * @return Anzahl der Einträge für die Würfelzahl (0 für 7 und ungültige Zahlen)
+     */
+    public int getEntryCount(int roll) {
+        return roll < MIN_ROLL || roll > MAX_ROLL ? 0 : entryCounts[roll];
+    }
+
+    public int getSeat(int roll, int entry) {
+        return entrySeats[roll * capacity + entry];
+    }
+
+    public ResourceType getResource(int roll, int entry) {
+        return RESOURCES[entryResources[roll * capacity + entry]];
+    }
+
+    public int getAmount(int roll, int entry) {
+        return entryAmounts[roll * capacity + entry];
+    }
+}
@@ -0,0 +1,292 @@
+package com.catan.model;
+
+import java.io.Serializable;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+/**
+ * Ressourcenmenge als {@code int}-Vektor, indiziert über {@link ResourceType#ordinal()}.
+ * Alle Rechenoperationen arbeiten direkt auf dem Array und erzeugen keine Objekte.
+ * Instanzen aus {@link #of} und {@link #readOnlyView()} sind unveränderlich,
+ * Änderungsversuche werfen eine {@link UnsupportedOperationException}.
+ */
+public final class ResourceVector implements Serializable {
+
+    private static final long serialVersionUID = 1L;
+
+    public static final int SIZE = ResourceType.values().length;
+
+    private static final ResourceType[] TYPES = ResourceType.values();
+
+    public static final ResourceVector EMPTY = of(0, 0, 0, 0, 0);
+
+    private final int[] counts;
+    private final boolean readOnly;
+    private transient Map<ResourceType, Integer> mapView;
+
+    /**
+     * Erzeugt einen leeren, veränderbaren Vektor.
+     */
+    public ResourceVector() {
+        this(new int[SIZE], false);
+    }
+
+    private ResourceVector(int[] counts, boolean readOnly) {
+        this.counts = counts;
+        this.readOnly = readOnly;
+    }
+
+    /**
+     * @return Unveränderlicher Vektor in der Reihenfolge von {@link ResourceType}
+     */
+    public static ResourceVector of(int lumber, int brick, int wool, int grain, int ore) {
+        int[] counts = new int[SIZE];
+        counts[ResourceType.LUMBER.ordinal()] = lumber;
+        counts[ResourceType.BRICK.ordinal()] = brick;
+        counts[ResourceType.WOOL.ordinal()] = wool;
+        counts[ResourceType.GRAIN.ordinal()] = grain;
+        counts[ResourceType.ORE.ordinal()] = ore;
+        return new ResourceVector(counts, true);
+    }
+
+    /**
+     * @return Veränderbare Kopie einer Map (fehlende Typen zählen als 0)
+     */
+    public static ResourceVector fromMap(Map<ResourceType, Integer> map) {
+        ResourceVector vector = new ResourceVector();
+        vector.add(map);
+        return vector;
+    }
+
+    /**
+     * @return Veränderbare Kopie dieses Vektors
+     */
+    public ResourceVector copy() {
+        return new ResourceVector(counts.clone(), false);
+    }
+
+    /**
+     * @return Unveränderliche Sicht auf denselben Speicher, spiegelt spätere Änderungen wider
+     */
+    public ResourceVector readOnlyView() {
+        return readOnly ? this : new ResourceVector(counts, true);
+    }
+
+    private void checkWritable() {
+        if (readOnly) {
+            throw new UnsupportedOperationException("ResourceVector ist unveränderlich");
+        }
+    }
+
+    // === LESEN ===
+
+    public int get(ResourceType type) {
+        return counts[type.ordinal()];
+    }
+
+    public int get(int ordinal) {
+        return counts[ordinal];
+    }
+
+    /**
+     * @return Summe aller Ressourcen
+     */
+    public int total() {
+        int sum = 0;
+        for (int i = 0; i < SIZE; i++) {
+            sum += counts[i];
+        }
+        return sum;
+    }
+
+    public boolean isEmpty() {
+        return total() == 0;
+    }
+
+    /**
+     * @return true wenn jeder Eintrag mindestens so groß ist wie in cost
+     */
+    public boolean covers(ResourceVector cost) {
+        for (int i = 0; i < SIZE; i++) {
+            if (counts[i] < cost.counts[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return true wenn jeder Eintrag mindestens so groß ist wie in cost (fehlende Typen zählen als 0)
+     */
+    public boolean covers(Map<ResourceType, Integer> cost) {
+        for (Map.Entry<ResourceType, Integer> entry : cost.entrySet()) {
+            if (counts[entry.getKey().ordinal()] < entry.getValue()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Zieht eine Karte gleichverteilt aus allen vorhandenen Karten (kumulative Zählung, ein Zufallswert).
+     * Der Vektor selbst wird nicht verändert.
+     * @param random Zufallsquelle, für reproduzierbare Ergebnisse von außen vorgegeben
+     * @return Gezogener Ressourcentyp oder null wenn der Vektor leer ist
+     */
+    public ResourceType sample(RandomGenerator random) {
+        int total = total();
+        if (total <= 0) {
+            return null;
+        }
+        int pick = random.nextInt(total);
+        for (int i = 0; i < SIZE; i++) {
+            pick -= counts[i];
+            if (pick < 0) {
+                return TYPES[i];
+            }
+        }
+        throw new IllegalStateException("Negative Ressourcenanzahl in " + this);
+    }
+
+    // === SCHREIBEN ===
+
+    public void set(ResourceType type, int amount) {
+        checkWritable();
+        counts[type.ordinal()] = amount;
+    }
+
+    public void add(ResourceType type, int amount) {
+        checkWritable();
+        counts[type.ordinal()] += amount;
+    }
+
+    public void add(ResourceVector other) {
+        checkWritable();
+        for (int i = 0; i < SIZE; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    public void add(Map<ResourceType, Integer> other) {
+        checkWritable();
+        for (Map.Entry<ResourceType, Integer> entry : other.entrySet()) {
+            counts[entry.getKey().ordinal()] += entry.getValue();
+        }
+    }
+
+    public void subtract(ResourceType type, int amount) {
+        checkWritable();
+        counts[type.ordinal()] -= amount;
+    }
+
+    public void subtract(ResourceVector other) {
+        checkWritable();
+        for (int i = 0; i < SIZE; i++) {
+            counts[i] -= other.counts[i];
+        }
+    }
+
+    public void subtract(Map<ResourceType, Integer> other) {
+        checkWritable();
+        for (Map.Entry<ResourceType, Integer> entry : other.entrySet()) {
+            counts[entry.getKey().ordinal()] -= entry.getValue();
+        }
+    }
+
+    /**
+     * Übernimmt alle Einträge aus other.
+     */
+    public void copyFrom(ResourceVector other) {
+        checkWritable();
+        System.arraycopy(other.counts, 0, counts, 0, SIZE);
+    }
+
+    public void clear() {
+        checkWritable();
+        Arrays.fill(counts, 0);
+    }
+
+    // === KOMPATIBILITÄT ===
+
+    /**
+     * Unveränderliche Map-Sicht für UI-Code, der mit {@code Map<ResourceType, Integer>} arbeitet.
+     * Die Sicht ist live, enthält alle Ressourcentypen und iteriert in Ordinal-Reihenfolge.
+     */
+    public Map<ResourceType, Integer> asMap() {
+        if (mapView == null) {
+            mapView = new MapView();
+        }
+        return mapView;
+    }
+
+    private final class MapView extends AbstractMap<ResourceType, Integer> {
+        @Override
+        public Integer get(Object key) {
+            return key instanceof ResourceType ? counts[((ResourceType) key).ordinal()] : null;
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return key instanceof ResourceType;
+        }
+
+        @Override
+        public int size() {
+            return SIZE;
+        }
+
+        @Override
+        public Set<Entry<ResourceType, Integer>> entrySet() {
+            return new AbstractSet<>() {
+                @Override
+                public int size() {
+                    return SIZE;
+                }
+
+                @Override
+                public Iterator<Entry<ResourceType, Integer>> iterator() {
+                    return new Iterator<>() {
+                        private int next;
+
+                        @Override
+                        public boolean hasNext() {
+                            return next < SIZE;
+                        }
+
+                        @Override
+                        public Entry<ResourceType, Integer> next() {
+                            if (next >= SIZE) {
+                                throw new NoSuchElementException();
+                            }
+                            int i = next++;
+                            return new SimpleImmutableEntry<>(TYPES[i], counts[i]);
+                        }
+                    };
+                }
+            };
+        }
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) return true;
+        if (!(o instanceof ResourceVector)) return false;
+        return Arrays.equals(counts, ((ResourceVector) o).counts);
+    }
+
+    @Override
+    public int hashCode() {
+        return Arrays.hashCode(counts);
+    }
+
+    @Override
+    public String toString() {
+        return asMap().toString();
+    }
+}
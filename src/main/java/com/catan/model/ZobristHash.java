@@ -0,0 +1,147 @@
+package com.catan.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Inkrementeller 64-Bit-Zobrist-Hash einer Spielposition für Transpositionstabellen,
+ * Duplikaterkennung im Self-Play und schnelle Gleichheitsprüfungen zwischen Replikaten.
+ * Erfasst Terrain und Zahlen jedes Hexfelds, Räuber, Siedlungen, Städte, Straßen,
+ * die Handkarten pro Spieler und Ressource sowie den Spieler am Zug.
+ * Jede Änderung wird per XOR ein- bzw. ausgerechnet; {@link CatanGame} und {@link Player}
+ * pflegen den Wert bei jeder Mutation, er wird nie neu aus dem Zustand berechnet.
+ * Die Schlüssel sind fest aus einem konstanten Seed abgeleitet und damit in allen Prozessen gleich.
+ */
+public final class ZobristHash {
+
+    private static final long KEY_SEED = 0x5EEDCA7A2L;
+    private static final long GOLDEN_GAMMA = 0x9E3779B97F4A7C15L;
+
+    private static final int HEX_COUNT = AuthenticCatanBoard.standardTopology().getHexCount();
+    private static final int VERTEX_COUNT = Long.SIZE;                          // Vertices passen in ein long
+    private static final int EDGE_COUNT = BoardTopology.EDGE_WORDS * Long.SIZE;
+    private static final int NUMBER_COUNT = 13;                                 // Zahlenchips 0 (Wüste) bis 12
+
+    private static final long[][] TERRAIN_KEYS = new long[HEX_COUNT][TerrainType.values().length];
+    private static final long[][] NUMBER_KEYS = new long[HEX_COUNT][NUMBER_COUNT];
+    private static final long[] ROBBER_KEYS = new long[HEX_COUNT];
+    private static final long[][] SETTLEMENT_KEYS = new long[BoardOccupancy.MAX_PLAYERS][VERTEX_COUNT];
+    private static final long[][] CITY_KEYS = new long[BoardOccupancy.MAX_PLAYERS][VERTEX_COUNT];
+    private static final long[][] ROAD_KEYS = new long[BoardOccupancy.MAX_PLAYERS][EDGE_COUNT];
+    private static final long[][] RESOURCE_KEYS = new long[BoardOccupancy.MAX_PLAYERS][ResourceVector.SIZE];
+    private static final long[] SIDE_KEYS = new long[BoardOccupancy.MAX_PLAYERS];
+
+    static {
+        SplittableRandom random = new SplittableRandom(KEY_SEED);
+        fill(random, TERRAIN_KEYS);
+        fill(random, NUMBER_KEYS);
+        fill(random, ROBBER_KEYS);
+        fill(random, SETTLEMENT_KEYS);
+        fill(random, CITY_KEYS);
+        fill(random, ROAD_KEYS);
+        fill(random, RESOURCE_KEYS);
+        fill(random, SIDE_KEYS);
+    }
+
+    private long value;
+
+    /**
+     * Startwert einer Partie ohne Gebäude, Straßen und Handkarten mit Sitzplatz 0 am Zug.
+     */
+    public ZobristHash(BoardLayout layout, int robberHex) {
+        for (int hex = 0; hex < layout.getTopology().getHexCount(); hex++) {
+            value ^= TERRAIN_KEYS[hex][layout.getTerrain(hex).ordinal()] ^ NUMBER_KEYS[hex][layout.getNumber(hex)];
+        }
+        value ^= ROBBER_KEYS[robberHex] ^ SIDE_KEYS[0];
+    }
+
+    /**
+     * Berechnet den Hash einer unveränderlichen Momentaufnahme vollständig,
+     * z.B. für Suchbäume über {@link GameState} oder zum Abgleich mit {@link CatanGame#getPositionHash()}.
+     */
+    public static long of(GameState state) {
+        ZobristHash hash = new ZobristHash(state.layout(), state.robberHex());
+        OccupancyBits bits = state.occupancy();
+        for (int seat = 0; seat < state.players().size(); seat++) {
+            for (long mask = bits.getSettlements(seat); mask != 0; mask &= mask - 1) {
+                hash.toggleSettlement(seat, Long.numberOfTrailingZeros(mask));
+            }
+            for (long mask = bits.getCities(seat); mask != 0; mask &= mask - 1) {
+                hash.toggleCity(seat, Long.numberOfTrailingZeros(mask));
+            }
+            for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+                for (long mask = bits.getRoads(seat, word); mask != 0; mask &= mask - 1) {
+                    hash.toggleRoad(seat, word * Long.SIZE + Long.numberOfTrailingZeros(mask));
+                }
+            }
+            ResourceVector hand = state.player(seat).resources();
+            for (int r = 0; r < ResourceVector.SIZE; r++) {
+                hash.changeResource(seat, r, 0, hand.get(r));
+            }
+        }
+        hash.changeSide(0, state.currentSeat());
+        return hash.get();
+    }
+
+    private static void fill(SplittableRandom random, long[] keys) {
+        for (int i = 0; i < keys.length; i++) {
+            keys[i] = random.nextLong();
+        }
+    }
+
+    private static void fill(SplittableRandom random, long[][] keys) {
+        for (long[] row : keys) {
+            fill(random, row);
+        }
+    }
+
+    /**
+     * Schlüssel für count Karten einer Ressource. Die Kartenanzahl ist nicht begrenzt,
+     * daher wird der Schlüssel aus dem Basisschlüssel gemischt statt aus einer Tabelle gelesen.
+     */
+    private static long resourceKey(int seat, int ordinal, int count) {
+        if (count == 0) {
+            return 0L;
+        }
+        long z = RESOURCE_KEYS[seat][ordinal] + count * GOLDEN_GAMMA;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    // === ÄNDERUNGEN ===
+
+    public void toggleSettlement(int seat, int vertex) {
+        value ^= SETTLEMENT_KEYS[seat][vertex];
+    }
+
+    public void toggleCity(int seat, int vertex) {
+        value ^= CITY_KEYS[seat][vertex];
+    }
+
+    /**
+     * Ersetzt die Siedlung an vertex durch eine Stadt
+     */
+    public void upgradeToCity(int seat, int vertex) {
+        value ^= SETTLEMENT_KEYS[seat][vertex] ^ CITY_KEYS[seat][vertex];
+    }
+
+    public void toggleRoad(int seat, int edge) {
+        value ^= ROAD_KEYS[seat][edge];
+    }
+
+    public void moveRobber(int fromHex, int toHex) {
+        value ^= ROBBER_KEYS[fromHex] ^ ROBBER_KEYS[toHex];
+    }
+
+    public void changeResource(int seat, int ordinal, int before, int after) {
+        value ^= resourceKey(seat, ordinal, before) ^ resourceKey(seat, ordinal, after);
+    }
+
+    public void changeSide(int fromSeat, int toSeat) {
+        value ^= SIDE_KEYS[fromSeat] ^ SIDE_KEYS[toSeat];
+    }
+
+    public long get() {
+        return value;
+    }
+}
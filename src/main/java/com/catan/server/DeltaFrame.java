@@ -0,0 +1,90 @@
+package com.catan.server;
+
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+
+/**
+ * Alle Zustandsänderungen eines Tischs aus einem Takt, als Folge von {@link StateDelta}-Wörtern.
+ * Binärformat: Taktnummer (int), Anzahl (short), danach die Wörter zu je 8 Byte.
+ * Ein Frame wird von einem Thread gefüllt und danach nur noch gelesen.
+ */
+public final class DeltaFrame {
+
+    static final int HEADER_BYTES = Integer.BYTES + Short.BYTES;
+    static final int MAX_DELTAS = Short.MAX_VALUE;
+
+    private final int tick;
+    private long[] deltas = new long[16];
+    private int size;
+
+    public DeltaFrame(int tick) {
+        this.tick = tick;
+    }
+
+    public int getTick() {
+        return tick;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public long get(int index) {
+        if (index >= size) {
+            throw new IndexOutOfBoundsException(index);
+        }
+        return deltas[index];
+    }
+
+    public void add(long delta) {
+        if (size == MAX_DELTAS) {
+            throw new IllegalStateException("Frame ist voll");
+        }
+        if (size == deltas.length) {
+            deltas = Arrays.copyOf(deltas, size * 2);
+        }
+        deltas[size++] = delta;
+    }
+
+    // === BINÄRFORMAT ===
+
+    public int byteSize() {
+        return HEADER_BYTES + size * Long.BYTES;
+    }
+
+    public void writeTo(ByteBuffer out) {
+        out.putInt(tick);
+        out.putShort((short) size);
+        for (int i = 0; i < size; i++) {
+            out.putLong(deltas[i]);
+        }
+    }
+
+    public byte[] toBytes() {
+        ByteBuffer buffer = ByteBuffer.allocate(byteSize());
+        writeTo(buffer);
+        return buffer.array();
+    }
+
+    /**
+     * Liest einen Frame ab der aktuellen Position des Puffers.
+     * @throws java.nio.BufferUnderflowException bei abgeschnittenen Daten
+     */
+    public static DeltaFrame read(ByteBuffer in) {
+        DeltaFrame frame = new DeltaFrame(in.getInt());
+        int count = in.getShort();
+        if (count < 0) {
+            throw new IllegalArgumentException("Ungültige Anzahl " + count);
+        }
+        frame.deltas = new long[Math.max(count, 1)];
+        for (int i = 0; i < count; i++) {
+            frame.deltas[i] = in.getLong();
+        }
+        frame.size = count;
+        return frame;
+    }
+}
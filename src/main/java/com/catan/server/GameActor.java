@@ -0,0 +1,147 @@
+package com.catan.server;
+
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import com.catan.model.CatanGame;
+import com.catan.model.GameState;
+import com.catan.util.Diagnostics;
+
+/**
+ * Einziger Schreiber eines gehosteten Spieltischs.
+ * Nachrichten landen in einer lock-freien Mailbox und werden strikt nacheinander auf der Partie ausgeführt.
+ * Ein Tisch belegt keinen eigenen Thread: nur wenn Nachrichten anstehen, wird er auf dem gemeinsamen
+ * Executor eingeplant und arbeitet höchstens {@value #BATCH_SIZE} Nachrichten ab, bevor er andere Tische
+ * vorlässt. Ruhende Tische kosten damit nur ihren Speicher, Tische untereinander teilen keine Sperren.
+ * <p>
+ * Beobachter erhalten nach jedem abgearbeiteten Block genau einen {@link DeltaFrame} mit den Änderungen
+ * seit dem vorigen Takt, sofern sich etwas geändert hat.
+ */
+public final class GameActor {
+
+    static final int BATCH_SIZE = 64; // Nachrichten pro Einplanung, danach kommen andere Tische dran
+    private static final String LOG = "GameActor"; // Quelle für Diagnose-Ausgaben
+
+    private final long id;
+    private final CatanGame game;
+    private final Executor executor;
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+    private final List<Consumer<DeltaFrame>> watchers = new CopyOnWriteArrayList<>();
+    private GameState published; // zuletzt an Beobachter verteilter Zustand, nur im Actor benutzt
+    private int tick;
+
+    GameActor(long id, CatanGame game, Executor executor) {
+        this.id = id;
+        this.game = game;
+        this.executor = executor;
+    }
+
+    public long getId() {
+        return id;
+    }
+
+    /**
+     * Stellt eine Nachricht zu. Die Funktion läuft exklusiv auf der Partie und darf sie verändern;
+     * Referenzen auf die Partie dürfen sie nicht verlassen.
+     * @return Antwort der Funktion bzw. deren Ausnahme
+     */
+    public <T> CompletableFuture<T> ask(Function<CatanGame, T> message) {
+        CompletableFuture<T> reply = new CompletableFuture<>();
+        mailbox.add(() -> {
+            try {
+                reply.complete(message.apply(game));
+            } catch (Throwable e) {
+                // Auch Errors beantworten, sonst wartet der Aufrufer ewig
+                reply.completeExceptionally(e);
+            }
+        });
+        schedule();
+        return reply;
+    }
+
+    /**
+     * Meldet einen Beobachter an. Er erhält sofort den vollständigen Zustand als Frame und danach
+     * pro Takt die Änderungen; Frames werden im Thread des Actors zugestellt.
+     */
+    public CompletableFuture<Void> watch(Consumer<DeltaFrame> watcher) {
+        return ask(game -> {
+            publish(game);
+            DeltaFrame frame = new DeltaFrame(tick);
+            StateDelta.full(published, frame);
+            watcher.accept(frame);
+            watchers.add(watcher);
+            return null;
+        });
+    }
+
+    public void unwatch(Consumer<DeltaFrame> watcher) {
+        watchers.remove(watcher);
+    }
+
+    // Verteilt die Änderungen seit dem letzten Takt als ein Frame
+    private void publish(CatanGame game) {
+        GameState current = game.snapshot();
+        if (published != null && !watchers.isEmpty()) {
+            DeltaFrame frame = new DeltaFrame(tick + 1);
+            StateDelta.diff(published, current, frame);
+            if (frame.isEmpty()) {
+                return;
+            }
+            tick++;
+            for (Consumer<DeltaFrame> watcher : watchers) {
+                try {
+                    watcher.accept(frame);
+                } catch (RuntimeException e) {
+                    // Ein defekter Beobachter darf die übrigen nicht aufhalten
+                    watchers.remove(watcher);
+                    Diagnostics.warn(LOG, () -> "Tisch " + id + ": Beobachter entfernt: " + e);
+                }
+            }
+        }
+        published = current;
+    }
+
+    private void schedule() {
+        if (scheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < BATCH_SIZE; i++) {
+                Runnable message = mailbox.poll();
+                if (message == null) {
+                    break;
+                }
+                try {
+                    message.run();
+                } catch (RuntimeException e) {
+                    Diagnostics.warn(LOG, () -> "Tisch " + id + ": Nachricht fehlgeschlagen: " + e);
+                }
+            }
+            if (!watchers.isEmpty()) {
+                try {
+                    publish(game);
+                } catch (RuntimeException e) {
+                    Diagnostics.warn(LOG, () -> "Tisch " + id + ": Takt " + (tick + 1) + " nicht verteilt: " + e);
+                }
+            }
+        } finally {
+            // Auch nach einem Fehler freigeben, sonst bliebe der Tisch für immer eingeplant und stumm
+            scheduled.set(false);
+            // Nachrichten, die nach dem letzten poll eintrafen, haben schedule() eventuell verpasst
+            if (!mailbox.isEmpty()) {
+                schedule();
+            }
+        }
+    }
+}
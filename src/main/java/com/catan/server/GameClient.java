@@ -0,0 +1,66 @@
+package com.catan.server;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.net.InetAddress;
+import java.net.Socket;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.function.BiConsumer;
+
+/**
+ * Einfacher blockierender Client für {@link GameServer}, z.B. für Skripte und lokale Lasttests.
+ * FRAME-Zeilen beobachteter Tische werden beim Lesen der nächsten Antwort dekodiert und an den
+ * Frame-Listener übergeben. Nicht threadsicher; pro Thread eine eigene Verbindung verwenden.
+ */
+public class GameClient implements AutoCloseable {
+
+    private final Socket socket;
+    private final BufferedReader reader;
+    private final Writer writer;
+    private BiConsumer<Long, DeltaFrame> frameListener = (table, frame) -> { };
+
+    public GameClient(int port) throws IOException {
+        this.socket = new Socket(InetAddress.getLoopbackAddress(), port);
+        socket.setTcpNoDelay(true);
+        this.reader = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.UTF_8));
+        this.writer = new OutputStreamWriter(socket.getOutputStream(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @param listener Erhält Tisch-Id und Frame jeder empfangenen FRAME-Zeile
+     */
+    public void setFrameListener(BiConsumer<Long, DeltaFrame> listener) {
+        this.frameListener = listener;
+    }
+
+    /**
+     * Sendet einen Befehl und wartet auf die Antwortzeile.
+     */
+    public String send(String command) throws IOException {
+        writer.write(command);
+        writer.write('\n');
+        writer.flush();
+        while (true) {
+            String reply = reader.readLine();
+            if (reply == null) {
+                throw new IOException("Server hat die Verbindung geschlossen");
+            }
+            if (!reply.startsWith("FRAME ")) {
+                return reply;
+            }
+            String[] words = reply.split(" ", 3);
+            frameListener.accept(Long.parseLong(words[1]),
+                DeltaFrame.read(ByteBuffer.wrap(Base64.getDecoder().decode(words[2]))));
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        socket.close();
+    }
+}
@@ -0,0 +1,269 @@
+package com.catan.server;
+
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.Locale;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+
+import com.catan.model.BoardTopology;
+import com.catan.model.CatanGame;
+import com.catan.model.GameAction;
+import com.catan.model.GameState;
+import com.catan.model.Player;
+import com.catan.model.ResourceType;
+
+/**
+ * Textprotokoll des Spielservers: eine Zeile pro Befehl, eine Zeile pro Antwort.
+ * <pre>
+ * NEW &lt;seed&gt; &lt;name,name,...&gt;         OK &lt;tisch&gt;
+ * STATE &lt;tisch&gt;                        OK &lt;zustand&gt;
+ * ACT &lt;tisch&gt; &lt;sitz&gt; &lt;zug&gt;            OK &lt;zustand&gt;
+ * CLOSE &lt;tisch&gt;                        OK
+ * TABLES                               OK &lt;anzahl&gt;
+ * WATCH &lt;tisch&gt;                        OK, danach FRAME-Zeilen
+ * UNWATCH &lt;tisch&gt;                      OK
+ * </pre>
+ * Züge: {@code roll}, {@code settlement <vertex>}, {@code city <vertex>}, {@code road <edge>},
+ * {@code bank <abgabe> <erhalt>}, {@code robber <hex> [opfer]}, {@code end}. Fehler werden als
+ * {@code ERR <grund>} beantwortet. Der Zustand lautet
+ * {@code <phase> seat=<n> rolled=<b> dice=<n> robber=<hex> winner=<n> vp=<a,b,..> hand=<h,l,w,g,e> hash=<hex>}.
+ * Beobachtete Tische schicken nach jedem Takt unaufgefordert {@code FRAME <tisch> <base64>} mit einem
+ * {@link DeltaFrame}, beginnend mit dem vollständigen Zustand. Solche Zeilen können jederzeit zwischen
+ * den Antworten eintreffen.
+ * Die Klasse hält keinen eigenen Zustand und kann von beliebig vielen Verbindungen gleichzeitig benutzt werden;
+ * sie ist damit auch ohne TCP direkt als lokaler Client-Ersatz verwendbar.
+ */
+public class GameProtocol {
+
+    private final GameRegistry registry;
+
+    /**
+     * Verbindung, an die unaufgeforderte Zeilen geschickt werden können.
+     */
+    public interface Session {
+
+        void push(String line);
+
+        /**
+         * @return false, sobald die Verbindung geschlossen ist; Beobachtungen werden dann beendet
+         */
+        boolean isOpen();
+
+        /**
+         * @return Ablage der Beobachter dieser Verbindung, damit UNWATCH sie wiederfindet
+         */
+        Map<Long, Consumer<DeltaFrame>> watches();
+    }
+
+    public GameProtocol(GameRegistry registry) {
+        this.registry = registry;
+    }
+
+    /**
+     * Verarbeitet eine Befehlszeile ohne Verbindung; WATCH ist dann nicht möglich.
+     * @return Antwortzeile ohne Zeilenende; Fehler werden nie als Ausnahme, sondern als ERR geliefert
+     */
+    public CompletableFuture<String> handle(String line) {
+        return handle(line, null);
+    }
+
+    /**
+     * Verarbeitet eine Befehlszeile einer Verbindung.
+     * @return Antwortzeile ohne Zeilenende; Fehler werden nie als Ausnahme, sondern als ERR geliefert
+     */
+    public CompletableFuture<String> handle(String line, Session session) {
+        String[] words = line.trim().split("\\s+");
+        try {
+            switch (words[0].toUpperCase(Locale.ROOT)) {
+                case "NEW": {
+                    requireArgs(words, 3);
+                    List<String> names = Arrays.asList(words[2].split(","));
+                    GameActor actor = registry.create(names, Long.parseLong(words[1]));
+                    return CompletableFuture.completedFuture("OK " + actor.getId());
+                }
+                case "STATE":
+                    requireArgs(words, 2);
+                    return reply(table(words[1]).ask(GameProtocol::describe));
+                case "ACT": {
+                    requireArgs(words, 4);
+                    int seat = Integer.parseInt(words[2]);
+                    String[] move = Arrays.copyOfRange(words, 3, words.length);
+                    return reply(table(words[1]).ask(game -> {
+                        act(game, seat, move);
+                        return describe(game);
+                    }));
+                }
+                case "CLOSE":
+                    requireArgs(words, 2);
+                    if (!registry.remove(Long.parseLong(words[1]))) {
+                        throw new IllegalArgumentException("Unbekannter Tisch " + words[1]);
+                    }
+                    return CompletableFuture.completedFuture("OK");
+                case "TABLES":
+                    return CompletableFuture.completedFuture("OK " + registry.size());
+                case "WATCH":
+                    requireArgs(words, 2);
+                    return watch(table(words[1]), session);
+                case "UNWATCH": {
+                    requireArgs(words, 2);
+                    GameActor actor = table(words[1]);
+                    Consumer<DeltaFrame> watcher = session == null ? null : session.watches().remove(actor.getId());
+                    if (watcher != null) {
+                        actor.unwatch(watcher);
+                    }
+                    return CompletableFuture.completedFuture("OK");
+                }
+                default:
+                    throw new IllegalArgumentException("Unbekannter Befehl " + words[0]);
+            }
+        } catch (RuntimeException e) {
+            return CompletableFuture.completedFuture(error(e));
+        }
+    }
+
+    private static void requireArgs(String[] words, int count) {
+        if (words.length < count) {
+            throw new IllegalArgumentException("Zu wenige Argumente für " + words[0]);
+        }
+    }
+
+    private GameActor table(String id) {
+        GameActor actor = registry.get(Long.parseLong(id));
+        if (actor == null) {
+            throw new IllegalArgumentException("Unbekannter Tisch " + id);
+        }
+        return actor;
+    }
+
+    private static CompletableFuture<String> watch(GameActor actor, Session session) {
+        if (session == null) {
+            throw new IllegalStateException("WATCH nur über eine Verbindung");
+        }
+        String prefix = "FRAME " + actor.getId() + " ";
+        Consumer<DeltaFrame> watcher = new Consumer<>() {
+            @Override
+            public void accept(DeltaFrame frame) {
+                if (session.isOpen()) {
+                    session.push(prefix + Base64.getEncoder().encodeToString(frame.toBytes()));
+                } else {
+                    actor.unwatch(this);
+                }
+            }
+        };
+        if (session.watches().putIfAbsent(actor.getId(), watcher) != null) {
+            throw new IllegalStateException("Tisch " + actor.getId() + " wird bereits beobachtet");
+        }
+        return actor.watch(watcher).thenApply(ignored -> "OK").exceptionally(GameProtocol::error);
+    }
+
+    private static CompletableFuture<String> reply(CompletableFuture<String> answer) {
+        return answer.thenApply(state -> "OK " + state).exceptionally(GameProtocol::error);
+    }
+
+    private static String error(Throwable e) {
+        Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+        return "ERR " + String.valueOf(cause.getMessage()).replace('\n', ' ');
+    }
+
+    // === AUSFÜHRUNG IM ACTOR ===
+
+    /**
+     * Prüft einen Zug gegen die Regeln von {@link GameState} und führt ihn auf der Partie aus.
+     */
+    static void act(CatanGame game, int seat, String[] move) {
+        if (game.isGameFinished()) {
+            throw new IllegalStateException("Partie ist beendet");
+        }
+        if (seat != game.getCurrentPlayerIndex()) {
+            throw new IllegalStateException("Sitzplatz " + seat + " ist nicht am Zug");
+        }
+        GameState state = game.snapshot();
+        String verb = move[0].toLowerCase(Locale.ROOT);
+
+        if (verb.equals("roll")) {
+            if (state.isBeginning() || state.rolled()) {
+                throw new IllegalStateException("Würfeln nicht möglich");
+            }
+            int roll = game.rollDice();
+            game.setHasRolledDice(true);
+            if (roll != 7) {
+                game.ingameResourceDistribution(roll);
+            }
+            return;
+        }
+        if (verb.equals("robber")) {
+            requireArgs(move, 2);
+            int hex = index(move[1], game.getBoard().getTopology().getHexCount());
+            if (!state.robberPending() || (state.robberMask() & (1L << hex)) == 0) {
+                throw new IllegalStateException("Räuber kann nicht auf Feld " + hex);
+            }
+            ((TableDecisions) game.getDecisionProvider()).requestVictim(move.length > 2 ? Integer.parseInt(move[2]) : -1);
+            game.moveRobber(game.getBoard().getTopology().getHex(hex));
+            return;
+        }
+
+        GameAction action = parseAction(seat, verb, move, game.getBoard().getTopology());
+        if (!state.isLegal(action)) {
+            throw new IllegalStateException("Zug nicht erlaubt: " + String.join(" ", move));
+        }
+        game.apply(action);
+    }
+
+    private static GameAction parseAction(int seat, String verb, String[] move, BoardTopology topology) {
+        switch (verb) {
+            case "settlement":
+                requireArgs(move, 2);
+                return new GameAction.PlaceSettlement(seat, index(move[1], topology.getVertexCount()));
+            case "city":
+                requireArgs(move, 2);
+                return new GameAction.PlaceCity(seat, index(move[1], topology.getVertexCount()));
+            case "road":
+                requireArgs(move, 2);
+                return new GameAction.PlaceRoad(seat, index(move[1], topology.getEdgeCount()));
+            case "bank":
+                requireArgs(move, 3);
+                return new GameAction.BankTrade(seat, ResourceType.valueOf(move[1].toUpperCase(Locale.ROOT)),
+                    ResourceType.valueOf(move[2].toUpperCase(Locale.ROOT)));
+            case "end":
+                return new GameAction.EndTurn(seat);
+            default:
+                throw new IllegalArgumentException("Unbekannter Zug " + verb);
+        }
+    }
+
+    private static int index(String word, int count) {
+        int index = Integer.parseInt(word);
+        if (index < 0 || index >= count) {
+            throw new IllegalArgumentException("Ungültige Position " + word);
+        }
+        return index;
+    }
+
+    /**
+     * @return Zustandszeile der Partie, siehe Klassenbeschreibung
+     */
+    static String describe(CatanGame game) {
+        StringBuilder sb = new StringBuilder(128);
+        sb.append(game.getCurrentPhase())
+            .append(" seat=").append(game.getCurrentPlayerIndex())
+            .append(" rolled=").append(game.getCurrentPhase() == CatanGame.GamePhase.PLAYING && game.hasRolledDice())
+            .append(" dice=").append(game.getLastDiceRoll())
+            .append(" robber=").append(game.getBoard().getRobberHexId())
+            .append(" winner=").append(game.getWinner() == null ? -1 : game.getPlayers().indexOf(game.getWinner()))
+            .append(" vp=");
+        List<Player> players = game.getPlayers();
+        for (int seat = 0; seat < players.size(); seat++) {
+            sb.append(seat == 0 ? "" : ",").append(players.get(seat).getVictoryPoints());
+        }
+        sb.append(" hand=");
+        for (ResourceType type : ResourceType.values()) {
+            sb.append(type.ordinal() == 0 ? "" : ",").append(game.getCurrentPlayer().getResourceCount(type));
+        }
+        sb.append(" hash=").append(Long.toHexString(game.getPositionHash()));
+        return sb.toString();
+    }
+}
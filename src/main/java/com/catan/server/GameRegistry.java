@@ -0,0 +1,73 @@
+package com.catan.server;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicLong;
+
+import com.catan.model.CatanGame;
+
+/**
+ * Verzeichnis aller gehosteten Tische. Erzeugen, Nachschlagen und Schließen sind nebenläufig möglich;
+ * Zugriffe auf eine Partie laufen ausschließlich über ihren {@link GameActor}.
+ */
+public class GameRegistry implements AutoCloseable {
+
+    private final Map<Long, GameActor> tables = new ConcurrentHashMap<>();
+    private final AtomicLong nextId = new AtomicLong(1);
+    private final ExecutorService executor;
+
+    /**
+     * @param executor Gemeinsamer Executor, auf dem alle Tische ihre Nachrichten abarbeiten
+     */
+    public GameRegistry(ExecutorService executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * Arbeitet auf einem eigenen Fork-Join-Pool im Async-Modus mit einem Thread pro Prozessorkern.
+     */
+    public GameRegistry() {
+        this(new ForkJoinPool(Runtime.getRuntime().availableProcessors(),
+            ForkJoinPool.defaultForkJoinWorkerThreadFactory, null, true));
+    }
+
+    /**
+     * Eröffnet einen neuen Tisch.
+     * @throws IllegalArgumentException bei ungültiger Spielerzahl
+     */
+    public GameActor create(List<String> playerNames, long seed) {
+        CatanGame game = new CatanGame(playerNames, seed);
+        game.setDecisionProvider(new TableDecisions());
+        long id = nextId.getAndIncrement();
+        GameActor actor = new GameActor(id, game, executor);
+        tables.put(id, actor);
+        return actor;
+    }
+
+    /**
+     * @return Tisch oder null, wenn es ihn nicht (mehr) gibt
+     */
+    public GameActor get(long id) {
+        return tables.get(id);
+    }
+
+    /**
+     * Schließt einen Tisch; bereits zugestellte Nachrichten werden noch abgearbeitet.
+     * @return true wenn der Tisch existierte
+     */
+    public boolean remove(long id) {
+        return tables.remove(id) != null;
+    }
+
+    public int size() {
+        return tables.size();
+    }
+
+    @Override
+    public void close() {
+        executor.shutdown();
+    }
+}
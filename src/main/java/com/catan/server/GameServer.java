@@ -0,0 +1,225 @@
+package com.catan.server;
+
+import java.io.IOException;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.Consumer;
+
+/**
+ * Lokaler TCP-Server für das zeilenbasierte {@link GameProtocol}.
+ * Ein einzelner Selector-Thread nimmt Verbindungen an und liest und schreibt alle Sockets;
+ * die Befehle selbst laufen in den Actors der Tische. Antworten einer Verbindung werden in
+ * der Reihenfolge ihrer Befehle geschrieben, auch wenn sie verschiedene Tische betreffen.
+ */
+public class GameServer implements AutoCloseable {
+
+    static final int MAX_LINE = 1024;
+
+    private final GameProtocol protocol;
+    private final ServerSocketChannel server;
+    private final Selector selector;
+    private final Queue<Connection> pendingWrites = new ConcurrentLinkedQueue<>();
+    private Thread selectorThread;
+    private volatile boolean running;
+
+    /**
+     * Bindet den Server an die Loopback-Adresse.
+     * @param port Port oder 0 für einen freien Port
+     */
+    public GameServer(GameRegistry registry, int port) throws IOException {
+        this.protocol = new GameProtocol(registry);
+        this.selector = Selector.open();
+        this.server = ServerSocketChannel.open();
+        server.bind(new InetSocketAddress(InetAddress.getLoopbackAddress(), port));
+        server.configureBlocking(false);
+        server.register(selector, SelectionKey.OP_ACCEPT);
+    }
+
+    public int getPort() {
+        return server.socket().getLocalPort();
+    }
+
+    public synchronized void start() {
+        if (selectorThread != null) {
+            return;
+        }
+        running = true;
+        selectorThread = new Thread(this::run, "catan-server");
+        selectorThread.start();
+    }
+
+    private void run() {
+        try {
+            while (running) {
+                selector.select();
+                Connection ready;
+                while ((ready = pendingWrites.poll()) != null) {
+                    if (ready.key.isValid()) {
+                        ready.key.interestOps(ready.key.interestOps() | SelectionKey.OP_WRITE);
+                    }
+                }
+                Iterator<SelectionKey> keys = selector.selectedKeys().iterator();
+                while (keys.hasNext()) {
+                    SelectionKey key = keys.next();
+                    keys.remove();
+                    try {
+                        if (key.isAcceptable()) {
+                            accept();
+                        } else {
+                            Connection connection = (Connection) key.attachment();
+                            if (key.isReadable()) {
+                                connection.read();
+                            }
+                            if (key.isValid() && key.isWritable()) {
+                                connection.write();
+                            }
+                        }
+                    } catch (IOException e) {
+                        key.cancel();
+                        key.channel().close();
+                    }
+                }
+            }
+        } catch (IOException e) {
+            running = false;
+        }
+    }
+
+    private void accept() throws IOException {
+        SocketChannel channel = server.accept();
+        if (channel == null) {
+            return;
+        }
+        channel.configureBlocking(false);
+        SelectionKey key = channel.register(selector, SelectionKey.OP_READ);
+        key.attach(new Connection(channel, key));
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        selector.wakeup();
+        if (selectorThread != null) {
+            try {
+                selectorThread.join();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        for (SelectionKey key : selector.keys()) {
+            key.channel().close();
+        }
+        selector.close();
+        server.close();
+    }
+
+    /**
+     * Zustand einer Verbindung. Lesen und Schreiben erfolgen nur im Selector-Thread,
+     * fertige Antworten kommen aus den Actors und werden über {@link #outbox} übergeben.
+     */
+    private final class Connection implements GameProtocol.Session {
+        private final SocketChannel channel;
+        private final SelectionKey key;
+        private final ByteBuffer in = ByteBuffer.allocate(MAX_LINE);
+        private final Queue<ByteBuffer> outbox = new ConcurrentLinkedQueue<>();
+        private final Queue<ByteBuffer> writing = new ArrayDeque<>();
+        private final Map<Long, Consumer<DeltaFrame>> watches = new ConcurrentHashMap<>();
+        private CompletableFuture<Void> previous = CompletableFuture.completedFuture(null);
+
+        Connection(SocketChannel channel, SelectionKey key) {
+            this.channel = channel;
+            this.key = key;
+        }
+
+        void read() throws IOException {
+            if (channel.read(in) < 0) {
+                throw new IOException("Verbindung geschlossen");
+            }
+            in.flip();
+            int start = 0;
+            for (int i = 0; i < in.limit(); i++) {
+                if (in.get(i) == '\n') {
+                    String line = new String(in.array(), start, i - start, StandardCharsets.UTF_8).strip();
+                    if (!line.isEmpty()) {
+                        submit(line);
+                    }
+                    start = i + 1;
+                }
+            }
+            in.position(start);
+            in.compact();
+            if (!in.hasRemaining()) {
+                throw new IOException("Zeile länger als " + MAX_LINE + " Bytes");
+            }
+        }
+
+        // Antworten werden an die vorige Antwort gekettet, damit die Reihenfolge der Befehle erhalten bleibt
+        private void submit(String line) {
+            CompletableFuture<String> answer = protocol.handle(line, this);
+            previous = previous.thenCombine(answer, (ignored, reply) -> reply)
+                .thenAccept(this::send);
+        }
+
+        @Override
+        public void push(String line) {
+            send(line);
+        }
+
+        @Override
+        public boolean isOpen() {
+            return channel.isOpen();
+        }
+
+        @Override
+        public Map<Long, Consumer<DeltaFrame>> watches() {
+            return watches;
+        }
+
+        private void send(String reply) {
+            outbox.add(ByteBuffer.wrap((reply + "\n").getBytes(StandardCharsets.UTF_8)));
+            pendingWrites.add(this);
+            selector.wakeup();
+        }
+
+        void write() throws IOException {
+            ByteBuffer buffer;
+            while ((buffer = outbox.poll()) != null) {
+                writing.add(buffer);
+            }
+            while (!writing.isEmpty()) {
+                channel.write(writing.peek());
+                if (writing.peek().hasRemaining()) {
+                    return;
+                }
+                writing.poll();
+            }
+            key.interestOps(SelectionKey.OP_READ);
+            if (!outbox.isEmpty()) {
+                pendingWrites.add(this);
+            }
+        }
+    }
+
+    /**
+     * Startet einen Server auf dem angegebenen Port (Standard 7373) und läuft bis zum Prozessende.
+     */
+    public static void main(String[] args) throws IOException {
+        int port = args.length > 0 ? Integer.parseInt(args[0]) : 7373;
+        GameServer server = new GameServer(new GameRegistry(), port);
+        server.start();
+        System.out.println("CATAN-Server lauscht auf " + InetAddress.getLoopbackAddress().getHostAddress() + ":" + server.getPort());
+    }
+}
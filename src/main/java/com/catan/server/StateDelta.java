@@ -0,0 +1,239 @@
+package com.catan.server;
+
+import com.catan.model.BoardTopology;
+import com.catan.model.CatanGame;
+import com.catan.model.GameState;
+import com.catan.model.OccupancyBits;
+import com.catan.model.PlayerState;
+import com.catan.model.ResourceVector;
+
+/**
+ * Zustandsänderungen als einzelne {@code long}-Wörter, z.B. "Vertex 17 wird Stadt von Sitzplatz 2",
+ * "Räuber auf Hex 9" oder "Hand von Sitzplatz 1". Der Aufbau folgt {@link com.catan.storage.ActionCodec}:
+ * Bits 0-3 Typ, Bits 4-6 Sitzplatz, ab Bit 8 die typabhängigen Nutzdaten.
+ * {@link #diff} vergleicht zwei Zustände über die Bitboards und erzeugt nur die geänderten Einträge;
+ * der Aufwand hängt damit von der Zahl der Änderungen ab, nicht von der Größe des Bretts.
+ */
+public final class StateDelta {
+
+    public static final int VERTEX = 0;   // Nutzdaten: Vertex | Art << 8 (0 leer, 1 Siedlung, 2 Stadt)
+    public static final int EDGE = 1;     // Nutzdaten: Edge | belegt << 8
+    public static final int ROBBER = 2;   // Nutzdaten: Hex-Id
+    public static final int HAND = 3;     // Nutzdaten: 5 x 11 Bit Kartenanzahl
+    public static final int PIECES = 4;   // Nutzdaten: Siegpunkte, Siedlungen, Städte, Straßen übrig, je 8 Bit
+    public static final int TURN = 5;     // Sitzplatz am Zug, Nutzdaten: Phase, Würfel, Räuber, Abwürfe, Sieger, Zug
+
+    public static final int EMPTY = 0;
+    public static final int SETTLEMENT = 1;
+    public static final int CITY = 2;
+
+    private static final int SEAT_SHIFT = 4;
+    private static final int PAYLOAD_SHIFT = 8;
+    private static final int COUNT_BITS = 8;
+    private static final int HAND_BITS = 11; // Die Bank ist unbegrenzt, Hände können also groß werden
+
+    private StateDelta() {
+    }
+
+    // === KODIEREN ===
+
+    public static long vertex(int seat, int vertex, int kind) {
+        return word(VERTEX, seat, vertex | kind << 8);
+    }
+
+    public static long edge(int seat, int edge, boolean road) {
+        return word(EDGE, seat, edge | (road ? 1 : 0) << 8);
+    }
+
+    public static long robber(int hex) {
+        return word(ROBBER, 0, hex);
+    }
+
+    /**
+     * Kartenanzahlen über 2047 werden auf den Höchstwert begrenzt.
+     */
+    public static long hand(int seat, ResourceVector resources) {
+        long packed = 0L;
+        for (int r = 0; r < ResourceVector.SIZE; r++) {
+            packed |= (long) clamp(resources.get(r), HAND_BITS) << (r * HAND_BITS);
+        }
+        return word(HAND, seat, packed);
+    }
+
+    public static long pieces(int seat, PlayerState player) {
+        return word(PIECES, seat, clamp(player.victoryPoints(), COUNT_BITS) | clamp(player.settlementsLeft(), COUNT_BITS) << 8
+            | clamp(player.citiesLeft(), COUNT_BITS) << 16 | (long) clamp(player.roadsLeft(), COUNT_BITS) << 24);
+    }
+
+    public static long turn(GameState state) {
+        long payload = state.phase().ordinal()
+            | (state.rolled() ? 1 : 0) << 2
+            | (state.robberPending() ? 1 : 0) << 3
+            | state.discardMask() << 4
+            | (state.winnerSeat() + 1) << 8
+            | (long) state.turn() << 16;
+        return word(TURN, state.currentSeat(), payload);
+    }
+
+    private static long word(int type, int seat, long payload) {
+        return type | (long) seat << SEAT_SHIFT | payload << PAYLOAD_SHIFT;
+    }
+
+    // Begrenzt eine Anzahl auf das Feld, statt den ganzen Takt an einem Ausreißer scheitern zu lassen
+    private static int clamp(int value, int bits) {
+        return Math.max(0, Math.min(value, (1 << bits) - 1));
+    }
+
+    // === LESEN ===
+
+    public static int type(long word) {
+        return (int) (word & 0xF);
+    }
+
+    public static int seat(long word) {
+        return (int) (word >>> SEAT_SHIFT) & 0x7;
+    }
+
+    /**
+     * @return Vertex, Edge bzw. Hex-Id
+     */
+    public static int target(long word) {
+        return (int) (word >>> PAYLOAD_SHIFT) & 0xFF;
+    }
+
+    /**
+     * @return Gebäudeart bei VERTEX, 1/0 für belegt bei EDGE
+     */
+    public static int kind(long word) {
+        return (int) (word >>> (PAYLOAD_SHIFT + 8)) & 0x3;
+    }
+
+    /**
+     * @return Kartenanzahl der Ressource (Ordinal) bei HAND
+     */
+    public static int handCount(long word, int resource) {
+        return (int) (word >>> (PAYLOAD_SHIFT + resource * HAND_BITS)) & ((1 << HAND_BITS) - 1);
+    }
+
+    /**
+     * @param field Index des 8-Bit-Felds bei PIECES
+     */
+    public static int field(long word, int field) {
+        return (int) (word >>> (PAYLOAD_SHIFT + field * COUNT_BITS)) & 0xFF;
+    }
+
+    public static CatanGame.GamePhase phase(long word) {
+        return CatanGame.GamePhase.values()[(int) (word >>> PAYLOAD_SHIFT) & 0x3];
+    }
+
+    public static boolean rolled(long word) {
+        return (word >>> (PAYLOAD_SHIFT + 2) & 1) != 0;
+    }
+
+    public static boolean robberPending(long word) {
+        return (word >>> (PAYLOAD_SHIFT + 3) & 1) != 0;
+    }
+
+    public static int discardMask(long word) {
+        return (int) (word >>> (PAYLOAD_SHIFT + 4)) & 0xF;
+    }
+
+    public static int winnerSeat(long word) {
+        return ((int) (word >>> (PAYLOAD_SHIFT + 8)) & 0x7) - 1;
+    }
+
+    public static int turnNumber(long word) {
+        return (int) (word >>> (PAYLOAD_SHIFT + 16));
+    }
+
+    // === ÄNDERUNGEN ERMITTELN ===
+
+    /**
+     * Schreibt alle Änderungen von before nach after in den Frame.
+     * Beide Zustände müssen zur selben Partie gehören.
+     */
+    public static void diff(GameState before, GameState after, DeltaFrame out) {
+        OccupancyBits a = before.occupancy();
+        OccupancyBits b = after.occupancy();
+        if (a != b) {
+            for (int seat = 0; seat < after.players().size(); seat++) {
+                // Nur die per XOR geänderten Bits werden besucht
+                long changed = (a.getSettlements(seat) ^ b.getSettlements(seat)) | (a.getCities(seat) ^ b.getCities(seat));
+                for (; changed != 0; changed &= changed - 1) {
+                    int vertex = Long.numberOfTrailingZeros(changed);
+                    out.add(vertex(seat, vertex, kindAt(b, seat, vertex)));
+                }
+                for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+                    long roads = b.getRoads(seat, word);
+                    for (long edges = a.getRoads(seat, word) ^ roads; edges != 0; edges &= edges - 1) {
+                        int bit = Long.numberOfTrailingZeros(edges);
+                        out.add(edge(seat, word * Long.SIZE + bit, (roads & (1L << bit)) != 0));
+                    }
+                }
+            }
+        }
+        if (before.robberHex() != after.robberHex()) {
+            out.add(robber(after.robberHex()));
+        }
+        for (int seat = 0; seat < after.players().size(); seat++) {
+            PlayerState p = before.player(seat);
+            PlayerState q = after.player(seat);
+            if (p == q) {
+                // Nur bei Zuständen aus GameState.apply; Momentaufnahmen der Partie (snapshot()) teilen nie
+                // Spieler, dort entscheiden die Vergleiche unten
+                continue;
+            }
+            if (!sameHand(p.resources(), q.resources())) {
+                out.add(hand(seat, q.resources()));
+            }
+            if (p.victoryPoints() != q.victoryPoints() || p.settlementsLeft() != q.settlementsLeft()
+                || p.citiesLeft() != q.citiesLeft() || p.roadsLeft() != q.roadsLeft()) {
+                out.add(pieces(seat, q));
+            }
+        }
+        long turn = turn(after);
+        if (turn(before) != turn) {
+            out.add(turn);
+        }
+    }
+
+    /**
+     * Schreibt den vollständigen Zustand als Änderungen gegenüber einem leeren Brett,
+     * z.B. für Clients, die einer laufenden Partie beitreten.
+     */
+    public static void full(GameState state, DeltaFrame out) {
+        OccupancyBits occupancy = state.occupancy();
+        for (int seat = 0; seat < state.players().size(); seat++) {
+            for (long buildings = occupancy.getBuildings(seat); buildings != 0; buildings &= buildings - 1) {
+                int vertex = Long.numberOfTrailingZeros(buildings);
+                out.add(vertex(seat, vertex, kindAt(occupancy, seat, vertex)));
+            }
+            for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+                for (long roads = occupancy.getRoads(seat, word); roads != 0; roads &= roads - 1) {
+                    out.add(edge(seat, word * Long.SIZE + Long.numberOfTrailingZeros(roads), true));
+                }
+            }
+            out.add(hand(seat, state.player(seat).resources()));
+            out.add(pieces(seat, state.player(seat)));
+        }
+        out.add(robber(state.robberHex()));
+        out.add(turn(state));
+    }
+
+    private static int kindAt(OccupancyBits occupancy, int seat, int vertex) {
+        long bit = 1L << vertex;
+        if ((occupancy.getCities(seat) & bit) != 0) {
+            return CITY;
+        }
+        return (occupancy.getSettlements(seat) & bit) != 0 ? SETTLEMENT : EMPTY;
+    }
+
+    private static boolean sameHand(ResourceVector a, ResourceVector b) {
+        for (int r = 0; r < ResourceVector.SIZE; r++) {
+            if (a.get(r) != b.get(r)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,168 @@
+package com.catan.server;
+
+import java.util.Arrays;
+
+import com.catan.model.BoardOccupancy;
+import com.catan.model.BoardTopology;
+import com.catan.model.CatanGame;
+import com.catan.model.ResourceVector;
+
+/**
+ * Lokale Kopie eines Tischs auf Client-Seite, die nur über {@link DeltaFrame}s fortgeschrieben wird.
+ * Terrain und Zahlen sind für eine Partie fest und werden über den Seed übertragen, nicht als Änderung.
+ * Nicht threadsicher.
+ */
+public class StateReplica {
+
+    private final int[] vertexSeat = new int[Long.SIZE];
+    private final int[] vertexKind = new int[Long.SIZE];
+    private final int[] edgeSeat = new int[BoardTopology.EDGE_WORDS * Long.SIZE];
+    private final int[][] hands = new int[BoardOccupancy.MAX_PLAYERS][ResourceVector.SIZE];
+    private final int[][] pieces = new int[BoardOccupancy.MAX_PLAYERS][4];
+    private int robberHex = -1;
+    private CatanGame.GamePhase phase = CatanGame.GamePhase.INITIAL_PLACEMENT_1;
+    private int currentSeat;
+    private boolean rolled;
+    private boolean robberPending;
+    private int discardMask;
+    private int winnerSeat = -1;
+    private int turn;
+    private int lastTick = -1;
+
+    public StateReplica() {
+        Arrays.fill(vertexSeat, -1);
+        Arrays.fill(edgeSeat, -1);
+    }
+
+    /**
+     * Übernimmt alle Änderungen eines Frames.
+     */
+    public void apply(DeltaFrame frame) {
+        for (int i = 0; i < frame.size(); i++) {
+            apply(frame.get(i));
+        }
+        lastTick = frame.getTick();
+    }
+
+    public void apply(long delta) {
+        int seat = StateDelta.seat(delta);
+        switch (StateDelta.type(delta)) {
+            case StateDelta.VERTEX: {
+                int vertex = StateDelta.target(delta);
+                int kind = StateDelta.kind(delta);
+                vertexKind[vertex] = kind;
+                vertexSeat[vertex] = kind == StateDelta.EMPTY ? -1 : seat;
+                break;
+            }
+            case StateDelta.EDGE:
+                edgeSeat[StateDelta.target(delta)] = StateDelta.kind(delta) != 0 ? seat : -1;
+                break;
+            case StateDelta.ROBBER:
+                robberHex = StateDelta.target(delta);
+                break;
+            case StateDelta.HAND:
+                for (int r = 0; r < ResourceVector.SIZE; r++) {
+                    hands[seat][r] = StateDelta.handCount(delta, r);
+                }
+                break;
+            case StateDelta.PIECES:
+                for (int f = 0; f < pieces[seat].length; f++) {
+                    pieces[seat][f] = StateDelta.field(delta, f);
+                }
+                break;
+            case StateDelta.TURN:
+                currentSeat = seat;
+                phase = StateDelta.phase(delta);
+                rolled = StateDelta.rolled(delta);
+                robberPending = StateDelta.robberPending(delta);
+                discardMask = StateDelta.discardMask(delta);
+                winnerSeat = StateDelta.winnerSeat(delta);
+                turn = StateDelta.turnNumber(delta);
+                break;
+            default:
+                throw new IllegalArgumentException("Unbekannter Änderungstyp " + StateDelta.type(delta));
+        }
+    }
+
+    // === ABFRAGEN ===
+
+    /**
+     * @return Sitzplatz des Gebäudes oder -1
+     */
+    public int getVertexSeat(int vertex) {
+        return vertexSeat[vertex];
+    }
+
+    /**
+     * @return {@link StateDelta#EMPTY}, {@link StateDelta#SETTLEMENT} oder {@link StateDelta#CITY}
+     */
+    public int getVertexKind(int vertex) {
+        return vertexKind[vertex];
+    }
+
+    /**
+     * @return Sitzplatz der Straße oder -1
+     */
+    public int getEdgeSeat(int edge) {
+        return edgeSeat[edge];
+    }
+
+    public int getResourceCount(int seat, int ordinal) {
+        return hands[seat][ordinal];
+    }
+
+    public int getVictoryPoints(int seat) {
+        return pieces[seat][0];
+    }
+
+    public int getSettlementsLeft(int seat) {
+        return pieces[seat][1];
+    }
+
+    public int getCitiesLeft(int seat) {
+        return pieces[seat][2];
+    }
+
+    public int getRoadsLeft(int seat) {
+        return pieces[seat][3];
+    }
+
+    public int getRobberHex() {
+        return robberHex;
+    }
+
+    public CatanGame.GamePhase getPhase() {
+        return phase;
+    }
+
+    public int getCurrentSeat() {
+        return currentSeat;
+    }
+
+    public boolean hasRolled() {
+        return rolled;
+    }
+
+    public boolean isRobberPending() {
+        return robberPending;
+    }
+
+    public int getDiscardMask() {
+        return discardMask;
+    }
+
+    public int getWinnerSeat() {
+        return winnerSeat;
+    }
+
+    public int getTurn() {
+        return turn;
+    }
+
+    /**
+     * @return Takt des zuletzt übernommenen Frames, -1 vor dem ersten
+     */
+    public int getLastTick() {
+        return lastTick;
+    }
+}
@@ -0,0 +1,38 @@
+package com.catan.server;
+
+import java.util.List;
+import java.util.Map;
+
+import com.catan.model.BoardOccupancy;
+import com.catan.model.DecisionProvider;
+import com.catan.model.Player;
+import com.catan.model.ResourceType;
+
+/**
+ * Entscheidungen einer gehosteten Partie. Das Opfer des Räubers kommt aus dem Befehl,
+ * abgeworfen wird zufällig und Spielerhandel gibt es im Protokoll nicht.
+ * Wird nur vom Actor des Tischs benutzt.
+ */
+final class TableDecisions implements DecisionProvider {
+
+    private int requestedVictim = -1; // Sitzplatz aus dem letzten Räuberbefehl
+
+    void requestVictim(int seat) {
+        this.requestedVictim = seat;
+    }
+
+    @Override
+    public Player chooseStealTarget(Player thief, List<Player> candidates) {
+        for (Player candidate : candidates) {
+            if (BoardOccupancy.seatOf(candidate) == requestedVictim) {
+                return candidate;
+            }
+        }
+        return candidates.get(0);
+    }
+
+    @Override
+    public boolean acceptTrade(Player offering, Player receiving, Map<ResourceType, Integer> give, Map<ResourceType, Integer> receive) {
+        return false;
+    }
+}
@@ -0,0 +1,14 @@
+package com.catan.sim;
+
+/**
+ * Ergebnis einer simulierten Partie.
+ * @param seed Seed der Partie, reicht zusammen mit den Bots zur exakten Wiederholung
+ * @param winnerSeat Sitzplatz des Gewinners oder -1 wenn das Zuglimit erreicht wurde
+ * @param turns Anzahl der Züge in der normalen Spielphase
+ */
+public record GameResult(long seed, int winnerSeat, int turns) {
+
+    public boolean isFinished() {
+        return winnerSeat >= 0;
+    }
+}
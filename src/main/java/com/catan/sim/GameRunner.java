@@ -0,0 +1,195 @@
+package com.catan.sim;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.random.RandomGenerator;
+
+import com.catan.model.BoardOccupancy;
+import com.catan.model.BoardTopology;
+import com.catan.model.Building;
+import com.catan.model.CatanGame;
+import com.catan.model.DecisionProvider;
+import com.catan.model.LegalMoveGenerator;
+import com.catan.model.Player;
+import com.catan.model.ResourceType;
+
+/**
+ * Spielt eine einzelne Partie ohne Benutzeroberfläche mit Bots zu Ende.
+ * Der Ablauf entspricht dem der JavaFX-Controller: Aufbauphase mit Siedlung und Straße,
+ * danach Würfeln, Räuber bzw. Ertrag, beliebig viele Bauzüge und Zugende.
+ */
+public class GameRunner {
+
+    public static final int BANK_TRADE_RATIO = 4;  // Tauschkurs mit der Bank ohne Hafen
+    public static final int MAX_MOVES_PER_TURN = 32; // Schutz gegen endlos tauschende Bots
+
+    private static final ResourceType[] RESOURCES = ResourceType.values();
+
+    private final CatanGame game;
+    private final SimulationBot[] bots;
+    private final RandomGenerator random;
+    private final int maxTurns;
+    private final List<Move> moves = new ArrayList<>();
+
+    /**
+     * @param game Frisch erzeugte Partie in der Aufbauphase
+     * @param bots Ein Bot pro Sitzplatz
+     * @param random Zufallsquelle der Bots, unabhängig vom Spiel-Seed
+     * @param maxTurns Zuglimit der normalen Spielphase
+     */
+    public GameRunner(CatanGame game, SimulationBot[] bots, RandomGenerator random, int maxTurns) {
+        if (bots.length != game.getPlayers().size()) {
+            throw new IllegalArgumentException("Ein Bot pro Spieler erforderlich");
+        }
+        this.game = game;
+        this.bots = bots;
+        this.random = random;
+        this.maxTurns = maxTurns;
+        game.setDecisionProvider(new BotDecisions());
+    }
+
+    /**
+     * Spielt die Partie bis zum Sieg oder Zuglimit.
+     */
+    public GameResult play() {
+        playSetup();
+
+        int turns = 0;
+        while (!game.isGameFinished() && turns < maxTurns) {
+            playTurn();
+            turns++;
+        }
+        Player winner = game.getWinner();
+        return new GameResult(game.getSeed(), winner == null ? -1 : BoardOccupancy.seatOf(winner), turns);
+    }
+
+    /**
+     * Spielt die komplette Aufbauphase aller Spieler.
+     */
+    public void playSetup() {
+        LegalMoveGenerator legalMoves = game.getLegalMoves();
+        while (game.isBeginning()) {
+            Player player = game.getCurrentPlayer();
+            int seat = BoardOccupancy.seatOf(player);
+            while (!game.hasCompletedPlacementForCurrentPhase()) {
+                // Erst die Straße an ein Gebäude ohne Straße, sonst eine neue Siedlung
+                moves.clear();
+                addRoadMoves(seat, true);
+                if (moves.isEmpty()) {
+                    for (long mask = legalMoves.getSettlementMask(seat, true); mask != 0; mask &= mask - 1) {
+                        moves.add(Move.settlement(Long.numberOfTrailingZeros(mask)));
+                    }
+                }
+                if (moves.isEmpty()) {
+                    throw new IllegalStateException("Kein legaler Aufbauzug für " + player.getName());
+                }
+                apply(player, bots[seat].chooseMove(game, player, moves, random));
+            }
+            game.endTurn();
+        }
+    }
+
+    /**
+     * Spielt einen Zug des aktuellen Spielers in der normalen Spielphase.
+     */
+    public void playTurn() {
+        Player player = game.getCurrentPlayer();
+        int seat = BoardOccupancy.seatOf(player);
+
+        int roll = game.rollDice();
+        game.setHasRolledDice(true);
+        if (roll == 7) {
+            int hex = bots[seat].chooseRobberHex(game, player, game.getLegalMoves().getRobberMask(), random);
+            game.moveRobber(game.getBoard().getTopology().getHex(hex));
+        } else {
+            game.ingameResourceDistribution(roll);
+        }
+
+        for (int i = 0; i < MAX_MOVES_PER_TURN && !game.isGameFinished(); i++) {
+            collectMoves(player, seat);
+            Move move = bots[seat].chooseMove(game, player, moves, random);
+            if (move.type() == Move.Type.END_TURN) {
+                break;
+            }
+            apply(player, move);
+            game.checkVictoryCondition();
+        }
+
+        if (!game.isGameFinished()) {
+            game.endTurn();
+            game.setHasRolledDice(false);
+        }
+    }
+
+    // Sammelt alle legalen Züge der normalen Spielphase in moves
+    private void collectMoves(Player player, int seat) {
+        LegalMoveGenerator legalMoves = game.getLegalMoves();
+        moves.clear();
+        if (player.getCityCount() > 0 && player.hasSufficientResources(Player.CITY_COST)) {
+            for (long mask = legalMoves.getCityMask(seat); mask != 0; mask &= mask - 1) {
+                moves.add(Move.city(Long.numberOfTrailingZeros(mask)));
+            }
+        }
+        if (player.getSettlementCount() > 0 && player.hasSufficientResources(Player.SETTLEMENT_COST)) {
+            for (long mask = legalMoves.getSettlementMask(seat, false); mask != 0; mask &= mask - 1) {
+                moves.add(Move.settlement(Long.numberOfTrailingZeros(mask)));
+            }
+        }
+        if (player.getRoadCount() > 0 && player.hasSufficientResources(Player.ROAD_COST)) {
+            addRoadMoves(seat, false);
+        }
+        for (ResourceType give : RESOURCES) {
+            if (player.getResourceCount(give) >= BANK_TRADE_RATIO) {
+                for (ResourceType receive : RESOURCES) {
+                    if (receive != give) {
+                        moves.add(Move.bankTrade(give, receive));
+                    }
+                }
+            }
+        }
+        moves.add(Move.END_TURN);
+    }
+
+    private void addRoadMoves(int seat, boolean beginning) {
+        for (int word = 0; word < BoardTopology.EDGE_WORDS; word++) {
+            for (long mask = game.getLegalMoves().getRoadMask(seat, word, beginning); mask != 0; mask &= mask - 1) {
+                moves.add(Move.road(word * Long.SIZE + Long.numberOfTrailingZeros(mask)));
+            }
+        }
+    }
+
+    private void apply(Player player, Move move) {
+        BoardTopology topology = game.getBoard().getTopology();
+        switch (move.type()) {
+            case SETTLEMENT:
+                game.placeBuilding(Building.Type.SETTLEMENT, topology.getVertex(move.target()), player);
+                break;
+            case CITY:
+                game.placeBuilding(Building.Type.CITY, topology.getVertex(move.target()), player);
+                break;
+            case ROAD:
+                game.placeRoad(topology.getEdge(move.target()), player);
+                break;
+            case BANK_TRADE:
+                game.subtractPlayerRessources(player, Map.of(move.give(), BANK_TRADE_RATIO), Map.of(move.receive(), 1));
+                break;
+            default:
+                break;
+        }
+    }
+
+    // Leitet Entscheidungen der Spiellogik an den Bot des jeweiligen Spielers weiter
+    private class BotDecisions implements DecisionProvider {
+
+        @Override
+        public Player chooseStealTarget(Player thief, List<Player> candidates) {
+            return bots[BoardOccupancy.seatOf(thief)].chooseStealTarget(game, thief, candidates, random);
+        }
+
+        @Override
+        public boolean acceptTrade(Player offering, Player receiving, Map<ResourceType, Integer> give, Map<ResourceType, Integer> receive) {
+            return false; // Spielerhandel wird in der Simulation nicht angeboten
+        }
+    }
+}
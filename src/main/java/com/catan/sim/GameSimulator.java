@@ -0,0 +1,145 @@
+package com.catan.sim;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+
+import com.catan.model.CatanGame;
+import com.catan.storage.ReplayArchiveWriter;
+
+/**
+ * Monte-Carlo-Simulation vollständiger Partien ohne JavaFX.
+ * Jede Partie läuft als eigene Aufgabe auf dem konfigurierten Executor (standardmäßig der gemeinsame
+ * Fork-Join-Pool). Die Seeds aller Partien werden vorab aus dem Simulations-Seed abgeleitet,
+ * daher hängt das Ergebnis nicht von der Thread-Verteilung ab.
+ */
+public class GameSimulator {
+
+    public static final int DEFAULT_MAX_TURNS = 1000;
+
+    private final List<Supplier<SimulationBot>> seatBots;
+    private final ExecutorService executor;
+    private final int maxTurns;
+    private volatile ReplayArchiveWriter archive;
+
+    /**
+     * @param seatBots Fabrik für den Bot jedes Sitzplatzes (2-4 Einträge)
+     * @param executor Executor für die Partien, z.B. ein ForkJoinPool oder ein fester Thread-Pool
+     * @param maxTurns Zuglimit pro Partie
+     */
+    public GameSimulator(List<Supplier<SimulationBot>> seatBots, ExecutorService executor, int maxTurns) {
+        if (seatBots.size() < 2 || seatBots.size() > 4) {
+            throw new IllegalArgumentException("CATAN requires 2-4 players");
+        }
+        this.seatBots = List.copyOf(seatBots);
+        this.executor = executor;
+        this.maxTurns = maxTurns;
+    }
+
+    public GameSimulator(List<Supplier<SimulationBot>> seatBots) {
+        this(seatBots, ForkJoinPool.commonPool(), DEFAULT_MAX_TURNS);
+    }
+
+    /**
+     * Hängt jede gespielte Partie mit ihrem Aktionslog an das Archiv an; null schaltet das Archivieren ab.
+     * Der Aufrufer bleibt für das Schließen des Archivs zuständig.
+     */
+    public void setArchive(ReplayArchiveWriter archive) {
+        this.archive = archive;
+    }
+
+    /**
+     * Spielt eine einzelne Partie, z.B. zum Nachspielen eines auffälligen Seeds.
+     * @param gameSeed Seed für Board, Würfel und Diebstähle
+     * @param botSeed Seed für die Entscheidungen der Bots
+     */
+    public GameResult playGame(long gameSeed, long botSeed) {
+        List<String> names = new ArrayList<>();
+        SimulationBot[] bots = new SimulationBot[seatBots.size()];
+        for (int seat = 0; seat < bots.length; seat++) {
+            names.add("Bot " + (seat + 1));
+            bots[seat] = seatBots.get(seat).get();
+        }
+        CatanGame game = new CatanGame(names, gameSeed);
+        GameResult result = new GameRunner(game, bots, new SplittableRandom(botSeed), maxTurns).play();
+
+        ReplayArchiveWriter target = archive;
+        if (target != null) {
+            try {
+                target.append(gameSeed, bots.length, result.winnerSeat(), result.turns(), game.getActionLog());
+            } catch (IOException e) {
+                throw new UncheckedIOException("Partie konnte nicht archiviert werden", e);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Spielt games Partien parallel und wertet sie aus.
+     * @param games Anzahl der Partien
+     * @param seed Simulations-Seed, aus dem alle Partie-Seeds abgeleitet werden
+     */
+    public SimulationReport run(int games, long seed) throws InterruptedException {
+        SplittableRandom seeds = new SplittableRandom(seed);
+        CompletionService<GameResult> completion = new ExecutorCompletionService<>(executor);
+
+        long start = System.nanoTime();
+        for (int i = 0; i < games; i++) {
+            long gameSeed = seeds.nextLong();
+            long botSeed = seeds.nextLong();
+            completion.submit(() -> playGame(gameSeed, botSeed));
+        }
+
+        List<GameResult> results = new ArrayList<>(games);
+        for (int i = 0; i < games; i++) {
+            try {
+                results.add(completion.take().get());
+            } catch (ExecutionException e) {
+                throw new IllegalStateException("Simulierte Partie fehlgeschlagen", e.getCause());
+            }
+        }
+        return SimulationReport.of(results, seatBots.size(), System.nanoTime() - start);
+    }
+
+    /**
+     * Aufruf: GameSimulator [partien] [seed] [bot1,bot2,...] [archivverzeichnis] mit Bots "random" oder "greedy".
+     */
+    public static void main(String[] args) throws InterruptedException, IOException {
+        int games = args.length > 0 ? Integer.parseInt(args[0]) : 1000;
+        long seed = args.length > 1 ? Long.parseLong(args[1]) : System.nanoTime();
+        String[] botNames = (args.length > 2 ? args[2] : "greedy,greedy,random,random").split(",");
+
+        List<Supplier<SimulationBot>> seatBots = new ArrayList<>();
+        for (String botName : botNames) {
+            switch (botName.trim().toLowerCase()) {
+                case "random":
+                    seatBots.add(RandomBot::new);
+                    break;
+                case "greedy":
+                    seatBots.add(GreedyBot::new);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unbekannter Bot: " + botName);
+            }
+        }
+
+        GameSimulator simulator = new GameSimulator(seatBots);
+        if (args.length > 3) {
+            try (ReplayArchiveWriter writer = ReplayArchiveWriter.open(Path.of(args[3]))) {
+                simulator.setArchive(writer);
+                System.out.println(simulator.run(games, seed));
+            }
+        } else {
+            System.out.println(simulator.run(games, seed));
+        }
+    }
+}
@@ -0,0 +1,114 @@
+package com.catan.sim;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import com.catan.model.BoardOccupancy;
+import com.catan.model.BoardTopology;
+import com.catan.model.CatanGame;
+import com.catan.model.Player;
+
+/**
+ * Skriptbot mit fester Priorität: Stadt vor Siedlung vor Straße vor Banktausch.
+ * Bauplätze werden nach der Summe der Würfelwahrscheinlichkeiten (Pips) der angrenzenden Felder bewertet,
+ * Straßen werden nur gebaut, solange kein eigener Siedlungsplatz erreichbar ist.
+ */
+public class GreedyBot implements SimulationBot {
+
+    @Override
+    public Move chooseMove(CatanGame game, Player player, List<Move> moves, RandomGenerator random) {
+        Move best = null;
+        int bestRank = Integer.MAX_VALUE;
+        int bestScore = Integer.MIN_VALUE;
+        boolean hasSettlementSpot = game.getLegalMoves()
+            .getSettlementMask(BoardOccupancy.seatOf(player), game.isBeginning()) != 0;
+
+        for (Move move : moves) {
+            int rank;
+            int score;
+            switch (move.type()) {
+                case CITY:
+                    rank = 0;
+                    score = vertexScore(game, move.target());
+                    break;
+                case SETTLEMENT:
+                    rank = 1;
+                    score = vertexScore(game, move.target());
+                    break;
+                case ROAD:
+                    if (hasSettlementSpot && !game.isBeginning()) {
+                        continue;
+                    }
+                    rank = 2;
+                    score = edgeScore(game, move.target());
+                    break;
+                case BANK_TRADE:
+                    // Nur tauschen, wenn die Zielressource ganz fehlt
+                    if (player.getResourceCount(move.receive()) > 0) {
+                        continue;
+                    }
+                    rank = 3;
+                    score = player.getResourceCount(move.give());
+                    break;
+                default:
+                    rank = 4;
+                    score = 0;
+                    break;
+            }
+            if (rank < bestRank || (rank == bestRank && score > bestScore)) {
+                best = move;
+                bestRank = rank;
+                bestScore = score;
+            }
+        }
+        return best != null ? best : moves.get(moves.size() - 1);
+    }
+
+    @Override
+    public int chooseRobberHex(CatanGame game, Player player, long candidates, RandomGenerator random) {
+        BoardTopology topology = game.getBoard().getTopology();
+        BoardOccupancy occupancy = game.getBoard().getOccupancy();
+        long own = occupancy.getBuildings(BoardOccupancy.seatOf(player));
+        long others = occupancy.getAllBuildings() & ~own;
+
+        int bestHex = Long.numberOfTrailingZeros(candidates);
+        int bestScore = Integer.MIN_VALUE;
+        for (long mask = candidates; mask != 0; mask &= mask - 1) {
+            int hex = Long.numberOfTrailingZeros(mask);
+            long corners = topology.getHexVertexMask(hex);
+            int score = (Long.bitCount(others & corners) - 2 * Long.bitCount(own & corners)) * 16
+                + pips(game.getBoard().getHexTile(hex).getNumberToken());
+            if (score > bestScore) {
+                bestScore = score;
+                bestHex = hex;
+            }
+        }
+        return bestHex;
+    }
+
+    /**
+     * @return Anzahl der Kombinationen, mit denen zwei Würfel die Zahl ergeben (0 für Wüste)
+     */
+    static int pips(int number) {
+        return number < 2 || number > 12 ? 0 : 6 - Math.abs(7 - number);
+    }
+
+    static int vertexScore(CatanGame game, int vertex) {
+        BoardTopology topology = game.getBoard().getTopology();
+        int score = 0;
+        for (int slot = 0; slot < BoardTopology.MAX_VERTEX_HEXES; slot++) {
+            int hex = topology.getVertexHex(vertex, slot);
+            if (hex < 0) {
+                break;
+            }
+            score += pips(game.getBoard().getHexTile(hex).getNumberToken());
+        }
+        return score;
+    }
+
+    static int edgeScore(CatanGame game, int edge) {
+        BoardTopology topology = game.getBoard().getTopology();
+        return Math.max(vertexScore(game, topology.getEdgeVertex(edge, 0)),
+                        vertexScore(game, topology.getEdgeVertex(edge, 1)));
+    }
+}
@@ -0,0 +1,39 @@
+package com.catan.sim;
+
+import com.catan.model.ResourceType;
+
+/**
+ * Ein Zug, den ein Bot in der Simulation ausführen kann.
+ * @param type Art des Zugs
+ * @param target Vertex-Id (Siedlung, Stadt) bzw. Edge-Id (Straße), sonst -1
+ * @param give Abgegebene Ressource beim Banktausch, sonst null
+ * @param receive Erhaltene Ressource beim Banktausch, sonst null
+ */
+public record Move(Type type, int target, ResourceType give, ResourceType receive) {
+
+    public enum Type {
+        SETTLEMENT,
+        CITY,
+        ROAD,
+        BANK_TRADE,
+        END_TURN
+    }
+
+    public static final Move END_TURN = new Move(Type.END_TURN, -1, null, null);
+
+    public static Move settlement(int vertex) {
+        return new Move(Type.SETTLEMENT, vertex, null, null);
+    }
+
+    public static Move city(int vertex) {
+        return new Move(Type.CITY, vertex, null, null);
+    }
+
+    public static Move road(int edge) {
+        return new Move(Type.ROAD, edge, null, null);
+    }
+
+    public static Move bankTrade(ResourceType give, ResourceType receive) {
+        return new Move(Type.BANK_TRADE, -1, give, receive);
+    }
+}
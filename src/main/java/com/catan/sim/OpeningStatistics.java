@@ -0,0 +1,100 @@
+package com.catan.sim;
+
+import java.io.IOException;
+import java.nio.file.Path;
+
+import com.catan.model.AuthenticCatanBoard;
+import com.catan.storage.ActionCodec;
+import com.catan.storage.ReplayArchive;
+
+/**
+ * Siegquote nach Vertex der ersten Siedlung, ausgewertet über ein Replay-Archiv.
+ * Die Aktionen werden direkt als kodierte Wörter gelesen; es entstehen weder Partien noch Aktionsobjekte.
+ * Alle Partien nutzen dieselbe Standard-Topologie, daher sind die Vertex-Ids partieübergreifend vergleichbar.
+ */
+public final class OpeningStatistics {
+
+    private final int[] placements;
+    private final int[] wins;
+    private int games;
+
+    private OpeningStatistics(int vertexCount) {
+        this.placements = new int[vertexCount];
+        this.wins = new int[vertexCount];
+    }
+
+    /**
+     * Durchsucht alle Partien des Archivs nach der ersten Siedlung jedes Sitzplatzes.
+     */
+    public static OpeningStatistics of(ReplayArchive archive) {
+        OpeningStatistics stats = new OpeningStatistics(AuthenticCatanBoard.standardTopology().getVertexCount());
+        for (int game = 0; game < archive.getGameCount(); game++) {
+            stats.scan(archive, game);
+        }
+        return stats;
+    }
+
+    private void scan(ReplayArchive archive, int game) {
+        int winner = archive.getWinnerSeat(game);
+        int remaining = archive.getPlayerCount(game);
+        int seen = 0; // Bitmaske der Sitzplätze, deren erste Siedlung schon gezählt wurde
+        int count = archive.getActionCount(game);
+        for (int k = 0; k < count && remaining > 0; k++) {
+            long word = archive.getAction(game, k);
+            if (ActionCodec.type(word) != ActionCodec.SETTLEMENT) {
+                continue;
+            }
+            int seat = ActionCodec.seat(word);
+            if ((seen & 1 << seat) != 0) {
+                continue;
+            }
+            seen |= 1 << seat;
+            remaining--;
+            int vertex = ActionCodec.target(word);
+            placements[vertex]++;
+            if (seat == winner) {
+                wins[vertex]++;
+            }
+        }
+        games++;
+    }
+
+    public int getGames() {
+        return games;
+    }
+
+    public int getPlacements(int vertex) {
+        return placements[vertex];
+    }
+
+    /**
+     * @return Anteil der Partien, die der Spieler mit erster Siedlung auf vertex gewonnen hat
+     */
+    public double getWinRate(int vertex) {
+        return placements[vertex] == 0 ? 0.0 : (double) wins[vertex] / placements[vertex];
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Partien: %d%n", games));
+        for (int vertex = 0; vertex < placements.length; vertex++) {
+            if (placements[vertex] > 0) {
+                sb.append(String.format("Vertex %2d: %6d erste Siedlungen, Siegquote %.1f%%%n",
+                    vertex, placements[vertex], getWinRate(vertex) * 100));
+            }
+        }
+        return sb.toString();
+    }
+
+    /**
+     * Aufruf: OpeningStatistics archivverzeichnis
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length < 1) {
+            System.err.println("Aufruf: OpeningStatistics <archivverzeichnis>");
+            return;
+        }
+        System.out.print(of(ReplayArchive.open(Path.of(args[0]))));
+    }
+}
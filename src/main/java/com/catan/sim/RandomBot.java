@@ -0,0 +1,34 @@
+package com.catan.sim;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import com.catan.model.CatanGame;
+import com.catan.model.Player;
+
+/**
+ * Wählt jeden Zug und jedes Räuberfeld gleichverteilt aus den legalen Möglichkeiten.
+ */
+public class RandomBot implements SimulationBot {
+
+    @Override
+    public Move chooseMove(CatanGame game, Player player, List<Move> moves, RandomGenerator random) {
+        return moves.get(random.nextInt(moves.size()));
+    }
+
+    @Override
+    public int chooseRobberHex(CatanGame game, Player player, long candidates, RandomGenerator random) {
+        return pickBit(candidates, random);
+    }
+
+    /**
+     * @return Gleichverteilt gewähltes gesetztes Bit der Maske
+     */
+    static int pickBit(long mask, RandomGenerator random) {
+        int skip = random.nextInt(Long.bitCount(mask));
+        for (int i = 0; i < skip; i++) {
+            mask &= mask - 1;
+        }
+        return Long.numberOfTrailingZeros(mask);
+    }
+}
@@ -0,0 +1,37 @@
+package com.catan.sim;
+
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import com.catan.model.CatanGame;
+import com.catan.model.Player;
+
+/**
+ * Spielerstrategie für die headless Simulation.
+ * Eine Instanz wird pro Sitzplatz und Partie erzeugt und nur von einem Thread benutzt.
+ * Zufallsentscheidungen müssen über den übergebenen Generator laufen, damit Partien reproduzierbar bleiben.
+ */
+public interface SimulationBot {
+
+    /**
+     * Wählt einen der legalen Züge aus.
+     * In der Aufbauphase enthält die Liste nur Siedlungs- oder nur Straßenzüge, sonst immer auch {@link Move#END_TURN}.
+     * @param moves Nicht leere Liste der legalen Züge
+     * @return Einer der Züge aus moves
+     */
+    Move chooseMove(CatanGame game, Player player, List<Move> moves, RandomGenerator random);
+
+    /**
+     * Wählt das Zielfeld des Räubers nach einer gewürfelten 7.
+     * @param candidates Bitmaske der erlaubten Hex-Ids
+     * @return Hex-Id aus candidates
+     */
+    int chooseRobberHex(CatanGame game, Player player, long candidates, RandomGenerator random);
+
+    /**
+     * Wählt den zu bestehlenden Spieler, standardmäßig zufällig.
+     */
+    default Player chooseStealTarget(CatanGame game, Player thief, List<Player> candidates, RandomGenerator random) {
+        return candidates.get(random.nextInt(candidates.size()));
+    }
+}
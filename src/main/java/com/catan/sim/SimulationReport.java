@@ -0,0 +1,53 @@
+package com.catan.sim;
+
+import java.util.List;
+
+/**
+ * Zusammenfassung eines Simulationslaufs.
+ * @param games Anzahl gespielter Partien
+ * @param finishedGames Partien, die vor dem Zuglimit entschieden wurden
+ * @param elapsedNanos Wanduhrzeit des gesamten Laufs
+ * @param averageTurns Durchschnittliche Zuganzahl bis zum Sieg (nur entschiedene Partien)
+ * @param winRates Siegquote pro Sitzplatz bezogen auf alle Partien
+ */
+public record SimulationReport(int games, int finishedGames, long elapsedNanos, double averageTurns, double[] winRates) {
+
+    /**
+     * Wertet die Einzelergebnisse aus.
+     */
+    public static SimulationReport of(List<GameResult> results, int seats, long elapsedNanos) {
+        int finished = 0;
+        long turnSum = 0;
+        int[] wins = new int[seats];
+        for (GameResult result : results) {
+            if (result.isFinished()) {
+                finished++;
+                turnSum += result.turns();
+                wins[result.winnerSeat()]++;
+            }
+        }
+        double[] winRates = new double[seats];
+        for (int seat = 0; seat < seats; seat++) {
+            winRates[seat] = results.isEmpty() ? 0.0 : (double) wins[seat] / results.size();
+        }
+        return new SimulationReport(results.size(), finished, elapsedNanos,
+            finished == 0 ? 0.0 : (double) turnSum / finished, winRates);
+    }
+
+    public double gamesPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : games * 1_000_000_000.0 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format("Partien: %d (entschieden: %d)%n", games, finishedGames));
+        sb.append(String.format("Partien/s: %.1f%n", gamesPerSecond()));
+        sb.append(String.format("Durchschnittliche Züge bis %d Siegpunkte: %.1f%n",
+            com.catan.model.CatanGame.VICTORY_POINTS_TO_WIN, averageTurns));
+        for (int seat = 0; seat < winRates.length; seat++) {
+            sb.append(String.format("Sitzplatz %d Siegquote: %.1f%%%n", seat, winRates[seat] * 100));
+        }
+        return sb.toString();
+    }
+}
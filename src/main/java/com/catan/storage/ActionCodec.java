@@ -0,0 +1,152 @@
+package com.catan.storage;
+
+import com.catan.model.GameAction;
+import com.catan.model.ResourceType;
+import com.catan.model.ResourceVector;
+
+/**
+ * Kodiert eine {@link GameAction} verlustfrei in ein einzelnes {@code long}.
+ * Bits 0-3 enthalten den Typ, Bits 4-6 den Sitzplatz, ab Bit 8 folgen die typabhängigen Nutzdaten.
+ * Auswertungen können Typ, Sitzplatz und Ziel direkt aus dem Wort lesen, ohne Objekte zu erzeugen.
+ */
+public final class ActionCodec {
+
+    public static final int SETTLEMENT = 0;
+    public static final int CITY = 1;
+    public static final int ROAD = 2;
+    public static final int ROLL_DICE = 3;
+    public static final int DISCARD = 4;
+    public static final int MOVE_ROBBER = 5;
+    public static final int BANK_TRADE = 6;
+    public static final int PLAYER_TRADE = 7;
+    public static final int END_TURN = 8;
+
+    private static final int SEAT_SHIFT = 4;
+    private static final int PAYLOAD_SHIFT = 8;
+    private static final int DISCARD_BITS = 8;  // bis 255 Karten pro Typ
+    private static final int TRADE_BITS = 5;    // bis 31 Karten pro Typ und Richtung
+
+    private static final ResourceType[] RESOURCES = ResourceType.values();
+
+    private ActionCodec() {
+    }
+
+    // === KODIEREN ===
+
+    /**
+     * @throws IllegalArgumentException wenn eine Kartenanzahl nicht in das Feld passt
+     */
+    public static long encode(GameAction action) {
+        long word = (long) action.seat() << SEAT_SHIFT;
+        if (action instanceof GameAction.PlaceSettlement) {
+            return word | SETTLEMENT | payload(((GameAction.PlaceSettlement) action).vertex());
+        }
+        if (action instanceof GameAction.PlaceCity) {
+            return word | CITY | payload(((GameAction.PlaceCity) action).vertex());
+        }
+        if (action instanceof GameAction.PlaceRoad) {
+            return word | ROAD | payload(((GameAction.PlaceRoad) action).edge());
+        }
+        if (action instanceof GameAction.RollDice) {
+            GameAction.RollDice roll = (GameAction.RollDice) action;
+            return word | ROLL_DICE | payload(roll.die1() | roll.die2() << 3);
+        }
+        if (action instanceof GameAction.Discard) {
+            return word | DISCARD | packVector(((GameAction.Discard) action).cards(), DISCARD_BITS) << PAYLOAD_SHIFT;
+        }
+        if (action instanceof GameAction.MoveRobber) {
+            GameAction.MoveRobber move = (GameAction.MoveRobber) action;
+            int stolen = move.stolen() == null ? 0 : move.stolen().ordinal() + 1;
+            return word | MOVE_ROBBER | payload(move.hex() | (move.victimSeat() + 1) << 8 | stolen << 11);
+        }
+        if (action instanceof GameAction.BankTrade) {
+            GameAction.BankTrade trade = (GameAction.BankTrade) action;
+            return word | BANK_TRADE | payload(trade.give().ordinal() | trade.receive().ordinal() << 3);
+        }
+        if (action instanceof GameAction.PlayerTrade) {
+            GameAction.PlayerTrade trade = (GameAction.PlayerTrade) action;
+            long give = packVector(trade.give(), TRADE_BITS);
+            long receive = packVector(trade.receive(), TRADE_BITS);
+            int vectorBits = TRADE_BITS * ResourceVector.SIZE;
+            return word | PLAYER_TRADE | (trade.partnerSeat() | give << 3 | receive << (3 + vectorBits)) << PAYLOAD_SHIFT;
+        }
+        return word | END_TURN;
+    }
+
+    private static long payload(int value) {
+        return (long) value << PAYLOAD_SHIFT;
+    }
+
+    private static long packVector(ResourceVector vector, int bits) {
+        long packed = 0L;
+        for (int r = 0; r < ResourceVector.SIZE; r++) {
+            int count = vector.get(r);
+            if (count < 0 || count >= 1 << bits) {
+                throw new IllegalArgumentException("Kartenanzahl " + count + " passt nicht in " + bits + " Bit");
+            }
+            packed |= (long) count << (r * bits);
+        }
+        return packed;
+    }
+
+    // === LESEN OHNE OBJEKTE ===
+
+    public static int type(long word) {
+        return (int) (word & 0xF);
+    }
+
+    public static int seat(long word) {
+        return (int) (word >>> SEAT_SHIFT) & 0x7;
+    }
+
+    /**
+     * @return Vertex, Edge bzw. Hex-Id bei Bau- und Räuberaktionen
+     */
+    public static int target(long word) {
+        return (int) (word >>> PAYLOAD_SHIFT) & 0xFF;
+    }
+
+    // === DEKODIEREN ===
+
+    public static GameAction decode(long word) {
+        int seat = seat(word);
+        long payload = word >>> PAYLOAD_SHIFT;
+        switch (type(word)) {
+            case SETTLEMENT:
+                return new GameAction.PlaceSettlement(seat, target(word));
+            case CITY:
+                return new GameAction.PlaceCity(seat, target(word));
+            case ROAD:
+                return new GameAction.PlaceRoad(seat, target(word));
+            case ROLL_DICE:
+                return new GameAction.RollDice(seat, (int) payload & 0x7, (int) (payload >>> 3) & 0x7);
+            case DISCARD:
+                return new GameAction.Discard(seat, unpackVector(payload, DISCARD_BITS));
+            case MOVE_ROBBER: {
+                int stolen = (int) (payload >>> 11) & 0x7;
+                return new GameAction.MoveRobber(seat, target(word), ((int) (payload >>> 8) & 0x7) - 1,
+                    stolen == 0 ? null : RESOURCES[stolen - 1]);
+            }
+            case BANK_TRADE:
+                return new GameAction.BankTrade(seat, RESOURCES[(int) payload & 0x7], RESOURCES[(int) (payload >>> 3) & 0x7]);
+            case PLAYER_TRADE: {
+                int vectorBits = TRADE_BITS * ResourceVector.SIZE;
+                return new GameAction.PlayerTrade(seat, (int) payload & 0x7, unpackVector(payload >>> 3, TRADE_BITS),
+                    unpackVector(payload >>> (3 + vectorBits), TRADE_BITS));
+            }
+            case END_TURN:
+                return new GameAction.EndTurn(seat);
+            default:
+                throw new IllegalArgumentException("Unbekannter Aktionstyp " + type(word));
+        }
+    }
+
+    private static ResourceVector unpackVector(long packed, int bits) {
+        ResourceVector vector = new ResourceVector();
+        long mask = (1L << bits) - 1;
+        for (int r = 0; r < ResourceVector.SIZE; r++) {
+            vector.set(RESOURCES[r], (int) ((packed >>> (r * bits)) & mask));
+        }
+        return vector;
+    }
+}
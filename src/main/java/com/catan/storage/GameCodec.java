@@ -0,0 +1,305 @@
+package com.catan.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.catan.model.AuthenticCatanBoard;
+import com.catan.model.BoardLayout;
+import com.catan.model.BoardOccupancy;
+import com.catan.model.BoardTopology;
+import com.catan.model.CatanGame;
+import com.catan.model.GameState;
+import com.catan.model.OccupancyBits;
+import com.catan.model.PlayerState;
+import com.catan.model.ResourceType;
+import com.catan.model.ResourceVector;
+import com.catan.model.TerrainType;
+
+/**
+ * Binäres Spielstandformat mit fester Satzlänge ({@value #RECORD_SIZE} Bytes pro Partie).
+ * Eine Datei besteht aus einem Kopf (Magic, Version, Satzlänge, Anzahl) und beliebig vielen Sätzen,
+ * so dass Tausende Spielstände in einer Datei liegen und per Index adressiert werden können.
+ * Alle Werte sind Big-Endian; die Satzstruktur steht in den Offset-Konstanten.
+ */
+public final class GameCodec {
+
+    public static final int MAGIC = 0x43415447; // "CATG"
+    public static final short VERSION = 1;
+    public static final int FILE_HEADER_SIZE = 16;
+
+    // Satzaufbau
+    private static final int SEED = 0;             // long
+    private static final int PHASE = 8;            // byte
+    private static final int CURRENT_SEAT = 9;     // byte
+    private static final int PLAYER_COUNT = 10;    // byte
+    private static final int FLAGS = 11;           // byte, Bit 0 gewürfelt, Bit 1 Räuber offen
+    private static final int ROBBER_HEX = 12;      // byte
+    private static final int WINNER_SEAT = 13;     // byte, -1 ohne Sieger
+    private static final int DISCARD_MASK = 14;    // byte
+    private static final int TURN = 16;            // int
+    private static final int HEXES = 20;           // pro Hex: Terrain-Ordinal, Zahlenchip
+    private static final int HEX_COUNT = 19;
+    private static final int PLAYERS = HEXES + 2 * HEX_COUNT;
+    private static final int NAME_BYTES = 23;      // UTF-8, mit vorangestellter Länge
+    // pro Spieler: 5 Ressourcen (short), Siegpunkte, Siedlungen, Städte, Straßen (byte), Name
+    private static final int PLAYER_SIZE = 2 * ResourceVector.SIZE + 4 + 1 + NAME_BYTES;
+    private static final int OCCUPANCY = align8(PLAYERS + BoardOccupancy.MAX_PLAYERS * PLAYER_SIZE);
+
+    public static final int RECORD_SIZE = OCCUPANCY + Long.BYTES * OccupancyBits.SIZE;
+
+    private static final int FLAG_ROLLED = 1;
+    private static final int FLAG_ROBBER_PENDING = 2;
+    private static final int BATCH_RECORDS = 1024; // Sätze pro Schreibpuffer
+
+    private static final TerrainType[] TERRAINS = TerrainType.values();
+    private static final CatanGame.GamePhase[] PHASES = CatanGame.GamePhase.values();
+    private static final ResourceType[] RESOURCES = ResourceType.values();
+
+    private GameCodec() {
+    }
+
+    private static int align8(int offset) {
+        return (offset + 7) & ~7;
+    }
+
+    // === EINZELNE SÄTZE ===
+
+    /**
+     * Schreibt einen Satz ab der aktuellen Position und rückt diese um {@link #RECORD_SIZE} vor.
+     */
+    public static void encode(SavedGame game, ByteBuffer buffer) {
+        GameState state = game.state();
+        BoardTopology topology = state.layout().getTopology();
+        if (topology.getHexCount() != HEX_COUNT) {
+            throw new IllegalArgumentException("Nur das Standard-Board ist speicherbar");
+        }
+        int base = buffer.position();
+        if (buffer.remaining() < RECORD_SIZE) {
+            throw new IllegalArgumentException("Puffer zu klein für einen Spielstand");
+        }
+        // Polsterbytes definiert auf 0 setzen, damit gleiche Zustände gleiche Bytes ergeben
+        for (int i = 0; i < RECORD_SIZE; i += Long.BYTES) {
+            buffer.putLong(base + i, 0L);
+        }
+
+        buffer.putLong(base + SEED, game.seed());
+        buffer.put(base + PHASE, (byte) state.phase().ordinal());
+        buffer.put(base + CURRENT_SEAT, (byte) state.currentSeat());
+        buffer.put(base + PLAYER_COUNT, (byte) state.players().size());
+        buffer.put(base + FLAGS, (byte) ((state.rolled() ? FLAG_ROLLED : 0) | (state.robberPending() ? FLAG_ROBBER_PENDING : 0)));
+        buffer.put(base + ROBBER_HEX, (byte) state.robberHex());
+        buffer.put(base + WINNER_SEAT, (byte) state.winnerSeat());
+        buffer.put(base + DISCARD_MASK, (byte) state.discardMask());
+        buffer.putInt(base + TURN, state.turn());
+
+        for (int hex = 0; hex < HEX_COUNT; hex++) {
+            buffer.put(base + HEXES + 2 * hex, (byte) state.layout().getTerrain(hex).ordinal());
+            buffer.put(base + HEXES + 2 * hex + 1, (byte) state.layout().getNumber(hex));
+        }
+
+        for (int seat = 0; seat < state.players().size(); seat++) {
+            int offset = base + PLAYERS + seat * PLAYER_SIZE;
+            PlayerState player = state.player(seat);
+            for (int r = 0; r < ResourceVector.SIZE; r++) {
+                buffer.putShort(offset + 2 * r, (short) player.resources().get(r));
+            }
+            offset += 2 * ResourceVector.SIZE;
+            buffer.put(offset, (byte) player.victoryPoints());
+            buffer.put(offset + 1, (byte) player.settlementsLeft());
+            buffer.put(offset + 2, (byte) player.citiesLeft());
+            buffer.put(offset + 3, (byte) player.roadsLeft());
+            putName(buffer, offset + 4, game.playerNames().get(seat));
+        }
+
+        for (int word = 0; word < OccupancyBits.SIZE; word++) {
+            buffer.putLong(base + OCCUPANCY + word * Long.BYTES, state.occupancy().getWord(word));
+        }
+        buffer.position(base + RECORD_SIZE);
+    }
+
+    /**
+     * Liest einen Satz ab der aktuellen Position und rückt diese um {@link #RECORD_SIZE} vor.
+     */
+    public static SavedGame decode(ByteBuffer buffer) {
+        int base = buffer.position();
+        BoardTopology topology = AuthenticCatanBoard.standardTopology();
+
+        TerrainType[] terrains = new TerrainType[HEX_COUNT];
+        int[] numbers = new int[HEX_COUNT];
+        for (int hex = 0; hex < HEX_COUNT; hex++) {
+            terrains[hex] = TERRAINS[buffer.get(base + HEXES + 2 * hex)];
+            numbers[hex] = buffer.get(base + HEXES + 2 * hex + 1);
+        }
+        BoardLayout layout = BoardLayout.of(topology, terrains, numbers);
+
+        int playerCount = buffer.get(base + PLAYER_COUNT);
+        List<PlayerState> players = new ArrayList<>(playerCount);
+        List<String> names = new ArrayList<>(playerCount);
+        for (int seat = 0; seat < playerCount; seat++) {
+            int offset = base + PLAYERS + seat * PLAYER_SIZE;
+            ResourceVector resources = new ResourceVector();
+            for (int r = 0; r < ResourceVector.SIZE; r++) {
+                resources.set(RESOURCES[r], buffer.getShort(offset + 2 * r));
+            }
+            offset += 2 * ResourceVector.SIZE;
+            players.add(new PlayerState(resources, buffer.get(offset), buffer.get(offset + 1),
+                buffer.get(offset + 2), buffer.get(offset + 3)));
+            names.add(getName(buffer, offset + 4));
+        }
+
+        long[] words = new long[OccupancyBits.SIZE];
+        for (int word = 0; word < words.length; word++) {
+            words[word] = buffer.getLong(base + OCCUPANCY + word * Long.BYTES);
+        }
+
+        int flags = buffer.get(base + FLAGS);
+        GameState state = new GameState(layout, players, OccupancyBits.fromWords(words), buffer.get(base + ROBBER_HEX),
+            PHASES[buffer.get(base + PHASE)], buffer.get(base + CURRENT_SEAT), buffer.getInt(base + TURN),
+            (flags & FLAG_ROLLED) != 0, buffer.get(base + DISCARD_MASK), (flags & FLAG_ROBBER_PENDING) != 0,
+            buffer.get(base + WINNER_SEAT));
+        long seed = buffer.getLong(base + SEED);
+        buffer.position(base + RECORD_SIZE);
+        return new SavedGame(names, seed, state);
+    }
+
+    // Name als Länge plus UTF-8-Bytes, gekürzt an einer Zeichengrenze
+    private static void putName(ByteBuffer buffer, int offset, String name) {
+        byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        int end = name.length();
+        while (bytes.length > NAME_BYTES) {
+            end = name.offsetByCodePoints(end, -1);
+            bytes = name.substring(0, end).getBytes(StandardCharsets.UTF_8);
+        }
+        buffer.put(offset, (byte) bytes.length);
+        buffer.put(offset + 1, bytes);
+    }
+
+    private static String getName(ByteBuffer buffer, int offset) {
+        byte[] bytes = new byte[buffer.get(offset)];
+        buffer.get(offset + 1, bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    // === DATEIEN ===
+
+    /**
+     * Schreibt alle Spielstände in eine neue Datei (eine vorhandene wird überschrieben).
+     */
+    public static void write(Path file, List<SavedGame> games) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING)) {
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            putHeader(header, games.size());
+            writeFully(channel, header);
+            writeRecords(channel, games);
+        }
+    }
+
+    /**
+     * Hängt Spielstände an eine Datei an und legt sie bei Bedarf an.
+     */
+    public static void append(Path file, List<SavedGame> games) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE)) {
+            int existing = channel.size() == 0 ? 0 : readHeader(channel);
+            ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+            putHeader(header, existing + games.size());
+            channel.position(FILE_HEADER_SIZE + (long) existing * RECORD_SIZE);
+            writeRecords(channel, games);
+            // Anzahl erst nach den Sätzen aktualisieren
+            channel.position(0);
+            writeFully(channel, header);
+        }
+    }
+
+    /**
+     * Liest alle Spielstände einer Datei.
+     */
+    public static List<SavedGame> read(Path file) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int count = readHeader(channel);
+            MappedByteBuffer records = channel.map(FileChannel.MapMode.READ_ONLY, FILE_HEADER_SIZE, (long) count * RECORD_SIZE);
+            List<SavedGame> games = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                games.add(decode(records));
+            }
+            return games;
+        }
+    }
+
+    /**
+     * Liest einen einzelnen Spielstand über seinen Index, ohne die übrigen zu dekodieren.
+     */
+    public static SavedGame read(Path file, int index) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            int count = readHeader(channel);
+            if (index < 0 || index >= count) {
+                throw new IndexOutOfBoundsException("Spielstand " + index + " von " + count);
+            }
+            ByteBuffer record = ByteBuffer.allocate(RECORD_SIZE);
+            channel.position(FILE_HEADER_SIZE + (long) index * RECORD_SIZE);
+            readFully(channel, record);
+            return decode(record.flip());
+        }
+    }
+
+    private static void writeRecords(FileChannel channel, List<SavedGame> games) throws IOException {
+        ByteBuffer batch = ByteBuffer.allocateDirect(Math.min(games.size(), BATCH_RECORDS) * RECORD_SIZE)
+            .order(ByteOrder.BIG_ENDIAN);
+        for (SavedGame game : games) {
+            if (!batch.hasRemaining()) {
+                writeFully(channel, batch.flip());
+                batch.clear();
+            }
+            encode(game, batch);
+        }
+        writeFully(channel, batch.flip());
+    }
+
+    private static void putHeader(ByteBuffer header, int count) {
+        header.putInt(MAGIC).putShort(VERSION).putShort((short) 0).putInt(RECORD_SIZE).putInt(count).flip();
+    }
+
+    // Prüft den Dateikopf und liefert die Anzahl der Sätze
+    private static int readHeader(FileChannel channel) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(FILE_HEADER_SIZE);
+        channel.position(0);
+        readFully(channel, header);
+        header.flip();
+        if (header.getInt() != MAGIC) {
+            throw new IOException("Keine Spielstanddatei");
+        }
+        short version = header.getShort();
+        header.getShort();
+        if (version != VERSION || header.getInt() != RECORD_SIZE) {
+            throw new IOException("Nicht unterstützte Spielstand-Version " + version);
+        }
+        int count = header.getInt();
+        if (channel.size() < FILE_HEADER_SIZE + (long) count * RECORD_SIZE) {
+            throw new IOException("Spielstanddatei ist unvollständig");
+        }
+        return count;
+    }
+
+    private static void readFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer) < 0) {
+                throw new IOException("Spielstanddatei ist zu kurz");
+            }
+        }
+    }
+
+    private static void writeFully(FileChannel channel, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            channel.write(buffer);
+        }
+    }
+}
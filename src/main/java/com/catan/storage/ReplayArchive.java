@@ -0,0 +1,167 @@
+package com.catan.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import com.catan.model.GameAction;
+
+/**
+ * Nur lesbarer Zugriff auf ein Replay-Archiv, das mit {@link ReplayArchiveWriter} geschrieben wurde.
+ * Das Archiv besteht aus zwei Dateien mit je {@value #HEADER_SIZE} Byte Kopf:
+ * {@value #ACTIONS_FILE} enthält alle Aktionen als 8-Byte-Wörter ({@link ActionCodec}) hintereinander,
+ * {@value #INDEX_FILE} pro Partie einen Eintrag fester Länge mit Seed, erster Aktion, Aktionsanzahl,
+ * Zügen, Spielerzahl und Sieger. Beide Dateien werden speicherabgebildet; Auswertungen lesen die Wörter
+ * direkt aus dem Mapping, ohne Partien oder Aktionsobjekte zu erzeugen.
+ */
+public final class ReplayArchive {
+
+    public static final String ACTIONS_FILE = "actions.bin";
+    public static final String INDEX_FILE = "index.bin";
+    static final int ACTIONS_MAGIC = 0x43415241; // "CARA"
+    static final int INDEX_MAGIC = 0x43415249;   // "CARI"
+    static final short VERSION = 1;
+    static final int HEADER_SIZE = 16;
+    static final int ACTION_SIZE = Long.BYTES;
+
+    // Indexeintrag
+    static final int ENTRY_SEED = 0;            // long
+    static final int ENTRY_FIRST_ACTION = 8;    // long, Aktionsnummer ab Dateianfang ohne Kopf
+    static final int ENTRY_ACTION_COUNT = 16;   // int
+    static final int ENTRY_TURNS = 20;          // int
+    static final int ENTRY_PLAYER_COUNT = 24;   // byte
+    static final int ENTRY_WINNER_SEAT = 25;    // byte, -1 ohne Sieger
+    static final int ENTRY_SIZE = 32;
+
+    // Aktionsdatei wird in Segmenten gemappt, da ein Mapping höchstens 2 GB groß sein kann
+    private static final int SEGMENT_SHIFT = 30;
+    private static final long SEGMENT_MASK = (1L << SEGMENT_SHIFT) - 1;
+
+    private final MappedByteBuffer index;
+    private final MappedByteBuffer[] actionSegments;
+    private final int gameCount;
+
+    private ReplayArchive(MappedByteBuffer index, MappedByteBuffer[] actionSegments, int gameCount) {
+        this.index = index;
+        this.actionSegments = actionSegments;
+        this.gameCount = gameCount;
+    }
+
+    /**
+     * Bildet das Archiv im Verzeichnis ab. Partien, die danach angehängt werden, sind nicht sichtbar.
+     */
+    public static ReplayArchive open(Path directory) throws IOException {
+        try (FileChannel index = FileChannel.open(directory.resolve(INDEX_FILE), StandardOpenOption.READ);
+             FileChannel actions = FileChannel.open(directory.resolve(ACTIONS_FILE), StandardOpenOption.READ)) {
+            checkHeader(index, INDEX_MAGIC);
+            checkHeader(actions, ACTIONS_MAGIC);
+
+            long indexBytes = index.size() - HEADER_SIZE;
+            if (indexBytes / ENTRY_SIZE > Integer.MAX_VALUE / ENTRY_SIZE) {
+                throw new IOException("Index zu groß für ein Mapping");
+            }
+            int games = (int) (indexBytes / ENTRY_SIZE);
+            MappedByteBuffer indexMap = index.map(FileChannel.MapMode.READ_ONLY, HEADER_SIZE, (long) games * ENTRY_SIZE);
+
+            long actionBytes = actions.size();
+            int segments = (int) ((actionBytes + SEGMENT_MASK) >>> SEGMENT_SHIFT);
+            MappedByteBuffer[] actionMaps = new MappedByteBuffer[segments];
+            for (int s = 0; s < segments; s++) {
+                long start = (long) s << SEGMENT_SHIFT;
+                actionMaps[s] = actions.map(FileChannel.MapMode.READ_ONLY, start, Math.min(actionBytes - start, 1L << SEGMENT_SHIFT));
+            }
+            return new ReplayArchive(indexMap, actionMaps, games);
+        }
+    }
+
+    static void initHeader(FileChannel channel, int magic) throws IOException {
+        if (channel.size() == 0) {
+            ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+            header.putInt(magic).putShort(VERSION).flip();
+            channel.write(header.limit(HEADER_SIZE), 0);
+        } else {
+            checkHeader(channel, magic);
+        }
+    }
+
+    private static void checkHeader(FileChannel channel, int magic) throws IOException {
+        ByteBuffer header = ByteBuffer.allocate(HEADER_SIZE);
+        if (channel.read(header, 0) < HEADER_SIZE) {
+            throw new IOException("Archivdatei ist zu kurz");
+        }
+        header.flip();
+        if (header.getInt() != magic) {
+            throw new IOException("Keine Replay-Archivdatei");
+        }
+        short version = header.getShort();
+        if (version != VERSION) {
+            throw new IOException("Nicht unterstützte Archiv-Version " + version);
+        }
+    }
+
+    // === INDEX ===
+
+    public int getGameCount() {
+        return gameCount;
+    }
+
+    public long getSeed(int game) {
+        return index.getLong(entry(game) + ENTRY_SEED);
+    }
+
+    public int getActionCount(int game) {
+        return index.getInt(entry(game) + ENTRY_ACTION_COUNT);
+    }
+
+    public int getTurns(int game) {
+        return index.getInt(entry(game) + ENTRY_TURNS);
+    }
+
+    public int getPlayerCount(int game) {
+        return index.get(entry(game) + ENTRY_PLAYER_COUNT);
+    }
+
+    /**
+     * @return Sitzplatz des Siegers oder -1 wenn die Partie am Zuglimit endete
+     */
+    public int getWinnerSeat(int game) {
+        return index.get(entry(game) + ENTRY_WINNER_SEAT);
+    }
+
+    private int entry(int game) {
+        if (game < 0 || game >= gameCount) {
+            throw new IndexOutOfBoundsException("Partie " + game + " von " + gameCount);
+        }
+        return game * ENTRY_SIZE;
+    }
+
+    // === AKTIONEN ===
+
+    /**
+     * @return Kodierte Aktion number der Partie (siehe {@link ActionCodec})
+     */
+    public long getAction(int game, int number) {
+        if (number < 0 || number >= getActionCount(game)) {
+            throw new IndexOutOfBoundsException("Aktion " + number + " von " + getActionCount(game));
+        }
+        long position = HEADER_SIZE + (index.getLong(entry(game) + ENTRY_FIRST_ACTION) + number) * ACTION_SIZE;
+        return actionSegments[(int) (position >>> SEGMENT_SHIFT)].getLong((int) (position & SEGMENT_MASK));
+    }
+
+    /**
+     * Dekodiert alle Aktionen einer Partie, z.B. für {@link com.catan.model.CatanGame#replay}.
+     */
+    public List<GameAction> getActions(int game) {
+        int count = getActionCount(game);
+        List<GameAction> actions = new ArrayList<>(count);
+        for (int k = 0; k < count; k++) {
+            actions.add(ActionCodec.decode(getAction(game, k)));
+        }
+        return actions;
+    }
+}
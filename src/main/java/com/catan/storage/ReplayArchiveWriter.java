@@ -0,0 +1,127 @@
+package com.catan.storage;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import com.catan.model.GameAction;
+
+/**
+ * Hängt Partien an ein Replay-Archiv an (siehe {@link ReplayArchive} für das Format).
+ * Pro Partie werden erst die Aktionen, danach der Indexeintrag geschrieben; ein abgebrochener Lauf
+ * hinterlässt daher höchstens unreferenzierte Aktionen, die beim nächsten Öffnen abgeschnitten werden.
+ * {@link #append} ist synchronisiert, parallele Simulationen können sich einen Writer teilen.
+ */
+public final class ReplayArchiveWriter implements AutoCloseable {
+
+    private static final int BUFFER_ACTIONS = 64 * 1024; // Aktionen pro Schreibpuffer
+
+    private final FileChannel actions;
+    private final FileChannel index;
+    private final ByteBuffer actionBuffer = ByteBuffer.allocateDirect(BUFFER_ACTIONS * ReplayArchive.ACTION_SIZE);
+    private final ByteBuffer entryBuffer = ByteBuffer.allocateDirect(ReplayArchive.ENTRY_SIZE);
+    private long actionCount;
+    private int gameCount;
+
+    private ReplayArchiveWriter(FileChannel actions, FileChannel index, long actionCount, int gameCount) {
+        this.actions = actions;
+        this.index = index;
+        this.actionCount = actionCount;
+        this.gameCount = gameCount;
+    }
+
+    /**
+     * Öffnet oder erzeugt das Archiv im Verzeichnis.
+     */
+    public static ReplayArchiveWriter open(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        FileChannel actions = FileChannel.open(directory.resolve(ReplayArchive.ACTIONS_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        FileChannel index = FileChannel.open(directory.resolve(ReplayArchive.INDEX_FILE),
+            StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        try {
+            ReplayArchive.initHeader(actions, ReplayArchive.ACTIONS_MAGIC);
+            ReplayArchive.initHeader(index, ReplayArchive.INDEX_MAGIC);
+
+            // Nur vollständige Indexeinträge zählen, nicht referenzierte Aktionen verwerfen
+            int games = (int) ((index.size() - ReplayArchive.HEADER_SIZE) / ReplayArchive.ENTRY_SIZE);
+            long actionEnd = 0;
+            if (games > 0) {
+                ByteBuffer last = ByteBuffer.allocate(ReplayArchive.ENTRY_SIZE);
+                index.read(last, ReplayArchive.HEADER_SIZE + (long) (games - 1) * ReplayArchive.ENTRY_SIZE);
+                last.flip();
+                actionEnd = last.getLong(ReplayArchive.ENTRY_FIRST_ACTION) + last.getInt(ReplayArchive.ENTRY_ACTION_COUNT);
+            }
+            index.truncate(ReplayArchive.HEADER_SIZE + (long) games * ReplayArchive.ENTRY_SIZE);
+            actions.truncate(ReplayArchive.HEADER_SIZE + actionEnd * ReplayArchive.ACTION_SIZE);
+            index.position(index.size());
+            actions.position(actions.size());
+            return new ReplayArchiveWriter(actions, index, actionEnd, games);
+        } catch (IOException | RuntimeException e) {
+            actions.close();
+            index.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Hängt eine vollständige Partie an.
+     * @param seed Seed der Partie
+     * @param playerCount Anzahl der Spieler
+     * @param winnerSeat Sieger oder -1
+     * @param turns Züge der normalen Spielphase
+     * @param gameActions Alle Aktionen der Partie in Reihenfolge
+     * @return Index der Partie im Archiv
+     */
+    public synchronized int append(long seed, int playerCount, int winnerSeat, int turns,
+                                   Iterable<GameAction> gameActions) throws IOException {
+        long first = actionCount;
+        for (GameAction action : gameActions) {
+            if (!actionBuffer.hasRemaining()) {
+                flushActions();
+            }
+            actionBuffer.putLong(ActionCodec.encode(action));
+            actionCount++;
+        }
+        flushActions();
+
+        entryBuffer.clear();
+        entryBuffer.putLong(ReplayArchive.ENTRY_SEED, seed)
+            .putLong(ReplayArchive.ENTRY_FIRST_ACTION, first)
+            .putInt(ReplayArchive.ENTRY_ACTION_COUNT, (int) (actionCount - first))
+            .putInt(ReplayArchive.ENTRY_TURNS, turns)
+            .put(ReplayArchive.ENTRY_PLAYER_COUNT, (byte) playerCount)
+            .put(ReplayArchive.ENTRY_WINNER_SEAT, (byte) winnerSeat);
+        entryBuffer.position(0).limit(ReplayArchive.ENTRY_SIZE);
+        while (entryBuffer.hasRemaining()) {
+            index.write(entryBuffer);
+        }
+        return gameCount++;
+    }
+
+    private void flushActions() throws IOException {
+        actionBuffer.flip();
+        while (actionBuffer.hasRemaining()) {
+            actions.write(actionBuffer);
+        }
+        actionBuffer.clear();
+    }
+
+    public synchronized int getGameCount() {
+        return gameCount;
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        try {
+            actions.force(false);
+            index.force(false);
+        } finally {
+            actions.close();
+            index.close();
+        }
+    }
+}
@@ -0,0 +1,37 @@
+package com.catan.storage;
+
+import java.util.List;
+
+import com.catan.model.CatanGame;
+import com.catan.model.GameState;
+
+/**
+ * Ein Spielstand: Spielernamen, Seed der Partie und unveränderlicher Zustand.
+ * @param playerNames Namen in Sitzreihenfolge
+ * @param seed Seed der ursprünglichen Partie
+ * @param state Spielzustand zum Zeitpunkt des Speicherns
+ */
+public record SavedGame(List<String> playerNames, long seed, GameState state) {
+
+    public SavedGame {
+        playerNames = List.copyOf(playerNames);
+        if (playerNames.size() != state.players().size()) {
+            throw new IllegalArgumentException("Spielerzahl passt nicht zum Zustand: " + playerNames.size());
+        }
+    }
+
+    /**
+     * Momentaufnahme einer laufenden Partie.
+     */
+    public static SavedGame of(CatanGame game) {
+        List<String> names = game.getPlayers().stream().map(player -> player.getName()).toList();
+        return new SavedGame(names, game.getSeed(), game.snapshot());
+    }
+
+    /**
+     * @return Neue, spielbare Partie in diesem Zustand
+     */
+    public CatanGame restore() {
+        return CatanGame.restore(playerNames, seed, state);
+    }
+}
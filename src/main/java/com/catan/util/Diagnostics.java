@@ -0,0 +1,164 @@
+package com.catan.util;
+
+import java.io.PrintStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Supplier;
+
+/**
+ * Zentrale, abgestufte Diagnose-Ausgabe für Model und Controller.
+ * Standardmäßig ausgeschaltet; Nachrichten werden als {@link Supplier} übergeben und nur erzeugt,
+ * wenn die Stufe aktiv ist. Statt auf die Konsole kann in einen Ringpuffer fester Größe
+ * geschrieben werden (Trace-Modus), der strukturierte Einträge für spätere Auswertung behält.
+ * <p>
+ * Konfiguration beim Start über die System-Properties {@code catan.log.level}
+ * (OFF, ERROR, WARN, INFO, DEBUG, TRACE) und {@code catan.log.sink} (CONSOLE, RING),
+ * oder zur Laufzeit über {@link #configure}.
+ */
+public final class Diagnostics {
+
+    public enum Level {
+        OFF, ERROR, WARN, INFO, DEBUG, TRACE
+    }
+
+    public enum Sink {
+        CONSOLE, // Zeilen auf System.out
+        RING     // Strukturierte Einträge im Ringpuffer
+    }
+
+    /**
+     * Ein Eintrag im Ringpuffer.
+     * @param nanoTime Zeitstempel aus {@link System#nanoTime()}
+     * @param thread Name des schreibenden Threads
+     */
+    public record Event(long nanoTime, Level level, String source, String message, String thread) {
+        @Override
+        public String toString() {
+            return String.format("%d %-5s [%s] %s: %s", nanoTime, level, thread, source, message);
+        }
+    }
+
+    public static final int DEFAULT_RING_CAPACITY = 4096;
+
+    private static volatile Level level = parseLevel(System.getProperty("catan.log.level"));
+    private static volatile Sink sink = parseSink(System.getProperty("catan.log.sink"));
+    private static volatile PrintStream console = System.out;
+
+    // Ringpuffer, geschützt durch den Klassen-Monitor
+    private static Event[] ring = new Event[DEFAULT_RING_CAPACITY];
+    private static long written;
+
+    private Diagnostics() {
+    }
+
+    private static Level parseLevel(String value) {
+        return value == null ? Level.OFF : Level.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    private static Sink parseSink(String value) {
+        return value == null ? Sink.CONSOLE : Sink.valueOf(value.trim().toUpperCase(Locale.ROOT));
+    }
+
+    // === KONFIGURATION ===
+
+    public static void configure(Level newLevel, Sink newSink) {
+        level = newLevel;
+        sink = newSink;
+    }
+
+    public static Level getLevel() {
+        return level;
+    }
+
+    public static Sink getSink() {
+        return sink;
+    }
+
+    /**
+     * Setzt die Größe des Ringpuffers und verwirft seinen Inhalt.
+     */
+    public static synchronized void setRingCapacity(int capacity) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Ringpuffer braucht mindestens einen Platz");
+        }
+        ring = new Event[capacity];
+        written = 0;
+    }
+
+    /**
+     * Ziel der Konsolenausgabe, standardmäßig System.out.
+     */
+    public static void setConsole(PrintStream stream) {
+        console = stream;
+    }
+
+    // === AUSGABE ===
+
+    public static boolean isEnabled(Level messageLevel) {
+        return messageLevel != Level.OFF && messageLevel.compareTo(level) <= 0;
+    }
+
+    /**
+     * Schreibt eine Nachricht, falls die Stufe aktiv ist. Der Supplier wird sonst nicht aufgerufen.
+     * @param source Kurzname der Quelle, z.B. der Klassenname
+     */
+    public static void log(Level messageLevel, String source, Supplier<String> message) {
+        if (!isEnabled(messageLevel)) {
+            return;
+        }
+        if (sink == Sink.RING) {
+            record(new Event(System.nanoTime(), messageLevel, source, message.get(), Thread.currentThread().getName()));
+        } else {
+            console.println(message.get());
+        }
+    }
+
+    public static void warn(String source, Supplier<String> message) {
+        log(Level.WARN, source, message);
+    }
+
+    public static void info(String source, Supplier<String> message) {
+        log(Level.INFO, source, message);
+    }
+
+    public static void debug(String source, Supplier<String> message) {
+        log(Level.DEBUG, source, message);
+    }
+
+    public static void trace(String source, Supplier<String> message) {
+        log(Level.TRACE, source, message);
+    }
+
+    private static synchronized void record(Event event) {
+        ring[(int) (written % ring.length)] = event;
+        written++;
+    }
+
+    // === RINGPUFFER ===
+
+    /**
+     * @return Die gepufferten Einträge vom ältesten zum neuesten
+     */
+    public static synchronized List<Event> snapshot() {
+        int size = (int) Math.min(written, ring.length);
+        List<Event> events = new ArrayList<>(size);
+        for (long i = written - size; i < written; i++) {
+            events.add(ring[(int) (i % ring.length)]);
+        }
+        return events;
+    }
+
+    /**
+     * @return Anzahl aller jemals geschriebenen Einträge, inklusive überschriebener
+     */
+    public static synchronized long getWrittenCount() {
+        return written;
+    }
+
+    public static synchronized void clear() {
+        Arrays.fill(ring, null);
+        written = 0;
+    }
+}
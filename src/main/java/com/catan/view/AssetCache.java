@@ -0,0 +1,99 @@
+package com.catan.view;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import com.catan.model.TerrainType;
+
+import javafx.scene.image.Image;
+import javafx.scene.paint.ImagePattern;
+import javafx.scene.text.Font;
+import javafx.scene.text.FontWeight;
+
+/**
+ * Zentrale Ablage aller Bild- und Schrift-Ressourcen des Spielbretts.
+ * Jedes Bild wird genau einmal dekodiert; alle Aufrufer erhalten dieselben {@link Image}-,
+ * {@link ImagePattern}- und {@link Font}-Instanzen, die JavaFX beliebig oft in Knoten verwenden kann.
+ * Zugriffe erfolgen aus dem JavaFX-Application-Thread.
+ */
+public final class AssetCache {
+
+    private static final String ROBBER_PATH = "/images/robber3Small.png";
+
+    private static final Map<TerrainType, Image> terrainImages = new EnumMap<>(TerrainType.class);
+    private static final Map<TerrainType, ImagePattern> terrainPatterns = new EnumMap<>(TerrainType.class);
+    private static Image robberImage;
+    private static Font tokenFont;
+
+    private AssetCache() {
+    }
+
+    /**
+     * Dekodiert alle Bilder vorab, z.B. beim Programmstart, damit das erste Rendern nicht wartet.
+     * Mehrfache Aufrufe sind wirkungslos.
+     */
+    public static void preload() {
+        for (TerrainType type : TerrainType.values()) {
+            getTerrainPattern(type);
+        }
+        getRobberImage();
+        getTokenFont();
+    }
+
+    /**
+     * @return Geteiltes Geländebild
+     * @throws UncheckedIOException wenn das Bild fehlt
+     */
+    public static Image getTerrainImage(TerrainType type) {
+        return terrainImages.computeIfAbsent(type, t -> load(terrainPath(t)));
+    }
+
+    /**
+     * @return Geteilte Füllung für Sechsecke des Geländetyps
+     */
+    public static ImagePattern getTerrainPattern(TerrainType type) {
+        return terrainPatterns.computeIfAbsent(type, t -> new ImagePattern(getTerrainImage(t)));
+    }
+
+    public static Image getRobberImage() {
+        if (robberImage == null) {
+            robberImage = load(ROBBER_PATH);
+        }
+        return robberImage;
+    }
+
+    /**
+     * @return Schrift der Zahlen-Token
+     */
+    public static Font getTokenFont() {
+        if (tokenFont == null) {
+            tokenFont = Font.font("Arial", FontWeight.BOLD, 20);
+        }
+        return tokenFont;
+    }
+
+    private static String terrainPath(TerrainType type) {
+        return switch (type) {
+            case FOREST -> "/images/forestSmall.jpg";
+            case HILLS -> "/images/hillsSmall.jpeg";
+            case PASTURE -> "/images/pastureSmall.jpg";
+            case FIELDS -> "/images/fieldsSmall.jpg";
+            case MOUNTAINS -> "/images/mountainsSmall.jpg";
+            case DESERT -> "/images/desertSmall.jpg";
+        };
+    }
+
+    private static Image load(String path) {
+        try (InputStream in = AssetCache.class.getResourceAsStream(path)) {
+            if (in == null) {
+                throw new UncheckedIOException(new IOException("Bild nicht gefunden: " + path));
+            }
+            return new Image(in);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
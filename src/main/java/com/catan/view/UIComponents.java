@@ -8,8 +8,6 @@ import com.catan.model.TerrainTile;
 import javafx.scene.paint.Color;
 import javafx.scene.shape.Polygon;
 import javafx.scene.shape.Rectangle;
-import javafx.scene.text.Font;
-import javafx.scene.text.FontWeight;
 import javafx.scene.text.Text;
 
 /**
@@ -61,6 +59,7 @@ public class UIComponents {
      */
     public static Polygon createHexagonalTerrainTile(TerrainTile tile, double radius) {
         Polygon hexagon = createHexagon(radius);
+        hexagon.setFill(AssetCache.getTerrainPattern(tile.getTerrainType())); // Geteilte Bildfüllung
         hexagon.setStroke(Color.BLACK);            // Schwarzer Rand
         hexagon.setStrokeWidth(2.0);              // Randbreite
         
@@ -129,13 +128,12 @@ public class UIComponents {
      */
     public static Text createNumberToken(int number) {
         Text text = new Text(String.valueOf(number));
-        text.setFont(Font.font("Arial", FontWeight.BOLD, 20));
+        text.setFont(AssetCache.getTokenFont());
         text.setFill(Color.BLACK);
         
         // Hebe Zahlen mit hoher Wahrscheinlichkeit hervor
         if (number == 6 || number == 8) {
             text.setFill(Color.RED);                          // Rote Farbe für wichtige Zahlen
-            text.setFont(Font.font("Arial", FontWeight.BOLD, 20));
         }
         
         // Text zentrieren
@@ -423,6 +421,7 @@ public class UIComponents {
      * @param tile Das Geländefeld mit den Styling-Informationen
      */
     public static void styleTerrainTile(Polygon hexagon, TerrainTile tile) {
+        hexagon.setFill(AssetCache.getTerrainPattern(tile.getTerrainType())); // Geteilte Bildfüllung
         hexagon.setStroke(Color.BLACK);      // Schwarzer Rand
         hexagon.setStrokeWidth(2.0);         // Randbreite
         